@@ -0,0 +1,67 @@
+import java.io.File;
+
+/**
+ * End-of-day throughput check for CashierPostingQueue batch posting
+ * Run from an empty scratch directory: java CashierPostingBenchmark [receipts] [students] [batchSize]
+ *
+ * The run creates accountStatements.txt and cashierQueue.txt in the working
+ * directory, so it refuses to start next to the portal's data files.
+ */
+public class CashierPostingBenchmark {
+    private static final String CHANNEL = "Cashier - Main Campus";
+
+    public static void main(String[] args) {
+        if (new File("Database.txt").exists() || new File("accountStatements.txt").exists()) {
+            System.err.println("Run this benchmark from an empty scratch directory; it rewrites the statement files.");
+            System.exit(1);
+        }
+        int receipts = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int students = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+
+        System.out.println("=== Cashier Posting Benchmark (" + receipts + " receipts, "
+            + students + " students, batches of " + batchSize + ") ===");
+
+        AccountStatement[] statements = new AccountStatement[students];
+        for (int i = 0; i < students; i++) {
+            statements[i] = AccountStatementManager.getStatement(String.format("BENCH%05d", i));
+        }
+
+        // Payment windows take receipts during the day
+        long start = System.nanoTime();
+        for (int i = 0; i < receipts; i++) {
+            int student = i % students;
+            AccountStatement.PaymentResult result =
+                statements[student].processPayment(100.0 + (i % 50), CHANNEL, "OR-" + i);
+            CashierPostingQueue.enqueue(statements[student].getStudentID(), result.transaction);
+        }
+        System.out.printf("Enqueued %d receipts in %.1f ms%n", receipts, (System.nanoTime() - start) / 1_000_000.0);
+        check(CashierPostingQueue.getPendingCount(CHANNEL) == receipts, "queue holds every receipt");
+
+        // End-of-day run
+        int posted = 0;
+        double totalMillis = 0.0;
+        while (CashierPostingQueue.getPendingCount(CHANNEL) > 0) {
+            CashierPostingQueue.BatchResult batch = CashierPostingQueue.postBatch(CHANNEL, batchSize);
+            System.out.println("  " + batch);
+            posted += batch.getPosted();
+            totalMillis += batch.getElapsedMillis();
+        }
+        System.out.printf("Posted %d receipts in %.1f ms (%.0f receipts/s)%n",
+            posted, totalMillis, totalMillis > 0 ? posted * 1000.0 / totalMillis : 0.0);
+
+        check(posted == receipts, "every receipt posted");
+        for (AccountStatement statement : statements) {
+            for (PaymentTransaction payment : statement.getPaymentHistory()) {
+                check(payment.getStatus() == PaymentStatus.POSTED, "payment " + payment.getReference() + " posted");
+            }
+        }
+        System.out.println("All checks passed");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
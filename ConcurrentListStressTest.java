@@ -0,0 +1,273 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Multi-threaded test harness for ConcurrentSinglyLinkedList
+ * Run: java ConcurrentListStressTest [itemsPerProducer] [linearizabilityTrials]
+ *
+ * 1) Stress test: several producers and consumers hammer one list. Every element
+ *    must be consumed exactly once and, per consumer, elements of any one producer
+ *    must arrive in the order they were added (FIFO).
+ * 2) Linearizability check (JCStress style): many tiny trials with two concurrent
+ *    offers and two concurrent polls. Each recorded history, with real-time
+ *    invocation/response stamps, must be explainable by some sequential queue order.
+ */
+public class ConcurrentListStressTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+
+    public static void main(String[] args) throws Exception {
+        int itemsPerProducer = args.length > 0 ? Integer.parseInt(args[0]) : 250_000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        System.out.println("=== ConcurrentSinglyLinkedList Stress Test ===");
+        runStressTest(itemsPerProducer);
+        runIteratorTest();
+        runLinearizabilityTrials(trials);
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Producers add (producer, sequence) pairs; consumers drain and verify per-producer order
+     */
+    private static void runStressTest(int itemsPerProducer) throws Exception {
+        ConcurrentSinglyLinkedList<long[]> list = new ConcurrentSinglyLinkedList<>();
+        AtomicIntegerArray seen = new AtomicIntegerArray(PRODUCERS * itemsPerProducer);
+        AtomicBoolean producersDone = new AtomicBoolean(false);
+        AtomicBoolean orderViolation = new AtomicBoolean(false);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int seq = 0; seq < itemsPerProducer; seq++) {
+                    list.addLast(new long[]{producer, seq});
+                }
+            }, "producer-" + p));
+        }
+
+        List<Thread> consumers = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumers.add(new Thread(() -> {
+                long[] lastSeq = new long[PRODUCERS];
+                java.util.Arrays.fill(lastSeq, -1);
+                await(start);
+                while (true) {
+                    long[] item = list.poll();
+                    if (item == null) {
+                        if (producersDone.get() && list.isEmpty()) {
+                            return;
+                        }
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    int producer = (int) item[0];
+                    if (item[1] <= lastSeq[producer]) {
+                        orderViolation.set(true);
+                    }
+                    lastSeq[producer] = item[1];
+                    seen.incrementAndGet(producer * itemsPerProducer + (int) item[1]);
+                }
+            }, "consumer-" + c));
+        }
+
+        long begin = System.nanoTime();
+        for (Thread t : threads) t.start();
+        for (Thread t : consumers) t.start();
+        start.countDown();
+        for (Thread t : threads) t.join();
+        producersDone.set(true);
+        for (Thread t : consumers) t.join();
+        long elapsed = System.nanoTime() - begin;
+
+        int total = PRODUCERS * itemsPerProducer;
+        for (int i = 0; i < total; i++) {
+            check(seen.get(i) == 1, "element " + i + " consumed " + seen.get(i) + " times");
+        }
+        check(!orderViolation.get(), "per-producer FIFO order violated");
+        check(list.isEmpty() && list.getSize() == 0, "list not empty after drain");
+
+        System.out.printf("Stress test: %,d elements, %d producers / %d consumers, %.1f M ops/s%n",
+            total, PRODUCERS, CONSUMERS, (2.0 * total) / (elapsed / 1000.0));
+    }
+
+    /**
+     * Iterating while a consumer drains must not throw and must not invent elements
+     */
+    private static void runIteratorTest() throws Exception {
+        ConcurrentSinglyLinkedList<Integer> list = new ConcurrentSinglyLinkedList<>();
+        for (int i = 0; i < 200_000; i++) {
+            list.addLast(i);
+        }
+
+        Thread consumer = new Thread(() -> list.drainTo(value -> { }));
+        consumer.start();
+        int previous = -1;
+        for (Integer value : list) {
+            check(value > previous, "iterator returned elements out of order");
+            previous = value;
+        }
+        consumer.join();
+        check(list.isEmpty(), "drainTo left elements behind");
+        System.out.println("Weakly consistent iterator test passed");
+    }
+
+    /**
+     * Two offers and two polls per trial, checked against all sequential orders
+     */
+    private static void runLinearizabilityTrials(int trials) throws Exception {
+        final int threadCount = 4;
+        CyclicBarrier startBarrier = new CyclicBarrier(threadCount);
+        CyclicBarrier endBarrier = new CyclicBarrier(threadCount + 1);
+        Operation[] ops = new Operation[threadCount];
+        AtomicReference<ConcurrentSinglyLinkedList<Integer>> current = new AtomicReference<>();
+        AtomicBoolean stop = new AtomicBoolean(false);
+
+        CyclicBarrier readyBarrier = new CyclicBarrier(threadCount + 1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int index = t;
+            workers.add(new Thread(() -> {
+                try {
+                    while (true) {
+                        readyBarrier.await();
+                        if (stop.get()) return;
+                        startBarrier.await();
+                        Operation op = ops[index];
+                        op.start = System.nanoTime();
+                        if (op.isOffer) {
+                            current.get().offer(op.value);
+                        } else {
+                            op.result = current.get().poll();
+                        }
+                        op.end = System.nanoTime();
+                        endBarrier.await();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        for (Thread t : workers) t.start();
+
+        int interleavedResults = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            current.set(new ConcurrentSinglyLinkedList<>());
+            ops[0] = Operation.offer(1);
+            ops[1] = Operation.offer(2);
+            ops[2] = Operation.poll();
+            ops[3] = Operation.poll();
+
+            readyBarrier.await();
+            endBarrier.await();
+
+            check(isLinearizable(ops), "non-linearizable history in trial " + trial + ": " + describe(ops));
+            if (ops[2].result != null && ops[3].result != null) {
+                interleavedResults++;
+            }
+        }
+        stop.set(true);
+        readyBarrier.await();
+        for (Thread t : workers) t.join();
+
+        System.out.printf("Linearizability: %,d trials passed (%,d with both polls succeeding)%n",
+            trials, interleavedResults);
+    }
+
+    /**
+     * Try every permutation that respects real-time order and replay it on a sequential queue
+     */
+    private static boolean isLinearizable(Operation[] ops) {
+        return search(ops, new boolean[ops.length], new java.util.ArrayDeque<>(), 0);
+    }
+
+    private static boolean search(Operation[] ops, boolean[] used, java.util.ArrayDeque<Integer> queue, int placed) {
+        if (placed == ops.length) {
+            return true;
+        }
+        for (int i = 0; i < ops.length; i++) {
+            if (used[i] || !minimal(ops, used, i)) {
+                continue;
+            }
+            Operation op = ops[i];
+            java.util.ArrayDeque<Integer> next = new java.util.ArrayDeque<>(queue);
+            if (op.isOffer) {
+                next.addLast(op.value);
+            } else {
+                Integer expected = next.pollFirst();
+                if (!java.util.Objects.equals(expected, op.result)) {
+                    continue;
+                }
+            }
+            used[i] = true;
+            if (search(ops, used, next, placed + 1)) {
+                return true;
+            }
+            used[i] = false;
+        }
+        return false;
+    }
+
+    /**
+     * An operation may be linearized next only if no unplaced operation finished before it started
+     */
+    private static boolean minimal(Operation[] ops, boolean[] used, int candidate) {
+        for (int j = 0; j < ops.length; j++) {
+            if (!used[j] && j != candidate && ops[j].end < ops[candidate].start) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Operation[] ops) {
+        StringBuilder sb = new StringBuilder();
+        for (Operation op : ops) {
+            sb.append(op.isOffer ? "offer(" + op.value + ")" : "poll()=" + op.result)
+              .append(" [").append(op.start).append(",").append(op.end).append("] ");
+        }
+        return sb.toString();
+    }
+
+    private static class Operation {
+        private final boolean isOffer;
+        private final Integer value;
+        private volatile Integer result;
+        private volatile long start;
+        private volatile long end;
+
+        private Operation(boolean isOffer, Integer value) {
+            this.isOffer = isOffer;
+            this.value = value;
+        }
+
+        static Operation offer(int value) {
+            return new Operation(true, value);
+        }
+
+        static Operation poll() {
+            return new Operation(false, null);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + what);
+        }
+    }
+}
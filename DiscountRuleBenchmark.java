@@ -0,0 +1,188 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Term-wide check for DiscountRuleEngine.applyToAll
+ * Run from an empty scratch directory: java DiscountRuleBenchmark [statements]
+ *
+ * Writes a synthetic accountStatements.txt that AccountStatementManager loads
+ * in one pass, with half of the students enrolled early. A third of them get
+ * Dean's List grades. Then it:
+ * 1. applies the early enrollment rule and a GWA scholarship rule, and checks
+ *    the discounts added
+ * 2. applies them again and checks that nothing changes
+ * 3. lowers some grades and checks that those scholarships are removed
+ * 4. checks that applyScholarship keeps rule discounts such as DISC01, and
+ *    that a rules pass keeps the scholarship
+ * Reports statements/s for each pass.
+ *
+ * The run writes accountStatements.txt, discountRules.txt, feeSchedule.txt and ledger.txt in
+ * the working directory, so it refuses to start next to the portal's data files.
+ */
+public class DiscountRuleBenchmark {
+    private static final String STATEMENTS = "accountStatements.txt";
+    private static final String SEMESTER = "FIRST SEMESTER";
+    private static final String ACADEMIC_YEAR = "2025-2026";
+    private static final LocalDate EARLY = LocalDate.of(2025, 7, 1); // before the DISC01 cutoff
+    private static final double TUITION = 31500.00;
+    private static final double EARLY_DISCOUNT = 2225.00;
+    private static final String SCHOLAR_CODE = "SCH90";
+
+    public static void main(String[] args) throws IOException {
+        if (new File("Database.txt").exists() || new File(STATEMENTS).exists()) {
+            System.err.println("Run this benchmark from an empty scratch directory; it rewrites the statement files.");
+            System.exit(1);
+        }
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        if (count < 6) {
+            throw new IllegalArgumentException("At least 6 statements are needed");
+        }
+        System.out.println("=== Discount Rule Benchmark (" + count + " statements, "
+            + Runtime.getRuntime().availableProcessors() + " cores) ===");
+
+        writeStatements(count); // before AccountStatementManager loads the file
+        List<AccountStatement> statements = AccountStatementManager.getAllStatements();
+        check(statements.size() == count, "every statement loaded");
+
+        postGrades(count, i -> i % 3 == 0 ? 92.0 : 85.0);
+        DiscountRuleEngine.setRules(Arrays.asList(
+            DiscountRule.parse("DISC01,Early Enrollment Discount (5%),FIXED,2225.00,FEES,before=2025-07-15"),
+            DiscountRule.parse(SCHOLAR_CODE + ",Dean's List Scholarship (50% of tuition),PERCENTAGE,50,TUITION,gwa>=90")));
+        LocalDate asOf = LocalDate.now();
+        int early = (count + 1) / 2;          // i % 2 == 0
+        int scholars = (count + 2) / 3;       // i % 3 == 0
+        int lowered = (count + 5) / 6;        // i % 6 == 0
+
+        // 1. First pass adds every discount
+        DiscountRuleEngine.BulkResult first = DiscountRuleEngine.applyToAll(asOf);
+        report("First pass: ", first);
+        check(first.getStatements() == count, "every statement covered");
+        check(first.getAdded() == early + scholars, "added " + first.getAdded() + ", expected " + (early + scholars));
+        check(first.getChanged() == 0 && first.getRemoved() == 0, "nothing changed or removed on the first pass");
+        double expectedNet = -(early * EARLY_DISCOUNT + scholars * TUITION * 0.5);
+        check(Math.abs(first.getDiscountChange() - expectedNet) < 0.01, "net discount " + first.getDiscountChange());
+        check(Math.abs(discountTotal(statements) - expectedNet) < 0.01, "statements hold the net discount");
+        check(countLines("FEE:" + SCHOLAR_CODE) == scholars, "scholarships saved");
+        checkTotals(statements);
+
+        // 2. Same rules and grades: nothing to do
+        DiscountRuleEngine.BulkResult second = DiscountRuleEngine.applyToAll(asOf);
+        report("Second pass:", second);
+        check(second.getAdded() + second.getChanged() + second.getRemoved() == 0, "second pass changes nothing");
+        check(second.getUnchanged() == early + scholars, "every discount unchanged");
+
+        // 3. Grades drop below the Dean's List for every sixth student
+        postGrades(count, i -> i % 6 == 0 ? 80.0 : i % 3 == 0 ? 92.0 : 85.0);
+        DiscountRuleEngine.BulkResult third = DiscountRuleEngine.applyToAll(asOf);
+        report("Grades lowered:", third);
+        check(third.getRemoved() == lowered, "removed " + third.getRemoved() + ", expected " + lowered);
+        check(Math.abs(third.getDiscountChange() - lowered * TUITION * 0.5) < 0.01, "removed scholarships given back");
+        check(countLines("FEE:" + SCHOLAR_CODE) == scholars - lowered, "removed scholarships saved");
+        checkTotals(statements);
+
+        // 4. applyScholarship and the rules keep each other's discounts
+        AccountStatement statement = AccountStatementManager.getStatement(id(0)); // early, scholarship removed
+        AccountStatementManager.applyScholarship(statement.getStudentID(), 10, "Academic Scholarship");
+        AccountStatementManager.applyScholarship(statement.getStudentID(), 20, "Academic Scholarship");
+        check(feesWithCode(statement, "DISC01") == 1, "DISC01 kept by applyScholarship");
+        check(feesWithCode(statement, AccountStatement.SCHOLARSHIP_CODE) == 1, "one scholarship after re-applying");
+        DiscountRuleEngine.BulkResult fourth = DiscountRuleEngine.applyToAll(asOf);
+        report("After scholarship:", fourth);
+        check(fourth.getAdded() + fourth.getChanged() + fourth.getRemoved() == 0, "scholarship left to applyScholarship");
+        check(feesWithCode(statement, AccountStatement.SCHOLARSHIP_CODE) == 1, "scholarship kept by the rules pass");
+        checkTotals(statements);
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * accountStatements.txt with tuition and miscellaneous fees; even students enrolled early
+     */
+    private static void writeStatements(int count) throws IOException {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        try (BufferedWriter writer = Files.newBufferedWriter(new File(STATEMENTS).toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                LocalDate enrolled = i % 2 == 0 ? EARLY : today;
+                writer.write("STUDENT:" + id(i) + "," + SEMESTER + "," + ACADEMIC_YEAR + "\n");
+                writer.write("FEE:" + new FeeBreakdown("TF001", "Tuition Fee (21 units @ P1,500/unit)",
+                    TUITION, FeeBreakdown.FeeType.TUITION, enrolled).toCSV() + "\n");
+                writer.write("FEE:" + new FeeBreakdown("MF001", "Miscellaneous Fee", 2800.00,
+                    FeeBreakdown.FeeType.MISCELLANEOUS, enrolled).toCSV() + "\n");
+                writer.write("\n");
+            }
+        }
+        System.out.printf("Wrote %d statements in %.1f ms%n", count, (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    private static void postGrades(int count, java.util.function.IntToDoubleFunction grade) {
+        List<GradeRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new GradeRecord(id(i), "BENCH101", "Benchmark Subject", Double.NaN, Double.NaN, Double.NaN,
+                grade.applyAsDouble(i), SEMESTER + " " + ACADEMIC_YEAR, "Completed"));
+        }
+        GradeAggregator.postGrades(records);
+    }
+
+    private static String id(int index) {
+        return String.format("DSC%06d", index);
+    }
+
+    private static void report(String label, DiscountRuleEngine.BulkResult result) {
+        double perSecond = result.getElapsedMillis() > 0 ? result.getStatements() * 1000.0 / result.getElapsedMillis() : 0;
+        System.out.printf("%-19s %s, %.0f statements/s%n", label, result, perSecond);
+    }
+
+    private static double discountTotal(List<AccountStatement> statements) {
+        double total = 0;
+        for (AccountStatement statement : statements) {
+            for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                if (fee.getType() == FeeBreakdown.FeeType.DISCOUNT) {
+                    total += fee.getAmount();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static int feesWithCode(AccountStatement statement, String code) {
+        int fees = 0;
+        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+            if (fee.getCode().equals(code)) {
+                fees++;
+            }
+        }
+        return fees;
+    }
+
+    /**
+     * Statement totals follow the discount fees added and removed
+     */
+    private static void checkTotals(List<AccountStatement> statements) {
+        for (AccountStatement statement : statements) {
+            double fees = 0;
+            for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                fees += fee.getAmount();
+            }
+            check(Math.abs(statement.getTotalAmount() - fees) < 0.01, "totals of " + statement.getStudentID());
+        }
+    }
+
+    private static long countLines(String prefix) throws IOException {
+        try (java.util.stream.Stream<String> lines = Files.lines(new File(STATEMENTS).toPath(), StandardCharsets.UTF_8)) {
+            return lines.filter(line -> line.startsWith(prefix)).count();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Micro-benchmark comparing the enhanced list implementations on positional
+ * and sorting workloads
+ * Run: java LinkedListBenchmark [size] [sortSize]
+ *
+ * Each measurement is repeated after a warm-up pass so the JIT has compiled the hot paths.
+ * Positional results are average nanoseconds per operation, sorting results
+ * are average milliseconds per sort.
+ */
+public class LinkedListBenchmark {
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int OPERATIONS = 20_000;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int sortSize = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        System.out.println("=== Linked List Benchmark (n = " + size + ") ===");
+        verifyAgainstArrayList(5_000);
+        verifySorting(20_000);
+
+        runPositional(size);
+        runSorting(sortSize);
+    }
+
+    /**
+     * Randomized cross-check of EnhancedUnrolledLinkedList against java.util.ArrayList
+     */
+    private static void verifyAgainstArrayList(int steps) {
+        Random random = new Random(42);
+        EnhancedUnrolledLinkedList<Integer> unrolled = new EnhancedUnrolledLinkedList<>();
+        List<Integer> reference = new ArrayList<>();
+
+        for (int step = 0; step < steps; step++) {
+            int op = random.nextInt(7);
+            int value = random.nextInt(1000);
+            if (op == 0 || reference.isEmpty()) {
+                unrolled.addLast(value);
+                reference.add(value);
+            } else if (op == 1) {
+                unrolled.addFirst(value);
+                reference.add(0, value);
+            } else if (op == 2) {
+                int index = random.nextInt(reference.size() + 1);
+                unrolled.add(index, value);
+                reference.add(index, value);
+            } else if (op == 3) {
+                int index = random.nextInt(reference.size());
+                check(unrolled.remove(index).equals(reference.remove(index)), "remove(index)");
+            } else if (op == 4) {
+                int index = random.nextInt(reference.size());
+                unrolled.set(index, value);
+                reference.set(index, value);
+            } else if (op == 5) {
+                check(unrolled.removeFirst().equals(reference.remove(0)), "removeFirst");
+            } else {
+                check(unrolled.removeLast().equals(reference.remove(reference.size() - 1)), "removeLast");
+            }
+        }
+
+        check(unrolled.getSize() == reference.size(), "size");
+        for (int i = 0; i < reference.size(); i++) {
+            check(unrolled.get(i).equals(reference.get(i)), "get(" + i + ")");
+        }
+
+        Comparator<Integer> order = Comparator.naturalOrder();
+        unrolled.sort(order);
+        reference.sort(order);
+        for (int i = 0; i < reference.size(); i++) {
+            check(unrolled.get(i).equals(reference.get(i)), "sorted get(" + i + ")");
+        }
+        for (Integer value : reference) {
+            int index = unrolled.binarySearch(value, order);
+            check(index >= 0 && unrolled.get(index).equals(value), "binarySearch(" + value + ")");
+        }
+
+        System.out.println("Verification against ArrayList passed (" + steps + " random operations)");
+    }
+
+    /**
+     * Check both merge sort modes of the singly and doubly linked lists against List.sort
+     */
+    private static void verifySorting(int size) {
+        Random random = new Random(11);
+        Comparator<Integer> order = Comparator.naturalOrder();
+        int[][] inputs = {randomData(size, random), nearlySortedData(size, random), descendingData(size)};
+
+        for (int[] input : inputs) {
+            List<Integer> expected = new ArrayList<>();
+            for (int value : input) expected.add(value);
+            expected.sort(order);
+
+            for (int mode = 0; mode < 2; mode++) {
+                EnhancedSinglyLinkedList<Integer> singly = new EnhancedSinglyLinkedList<>();
+                EnhancedDoublyLinkedList<Integer> doubly = new EnhancedDoublyLinkedList<>();
+                for (int value : input) {
+                    singly.addLast(value);
+                    doubly.addLast(value);
+                }
+                if (mode == 0) {
+                    singly.sort(order);
+                    doubly.sort(order);
+                } else {
+                    singly.sortNatural(order);
+                    doubly.sortNatural(order);
+                }
+
+                int i = 0;
+                for (Integer value : singly) check(value.equals(expected.get(i++)), "singly sort");
+                check(singly.getLast().equals(expected.get(size - 1)), "singly tail");
+                i = 0;
+                for (Integer value : doubly) check(value.equals(expected.get(i++)), "doubly sort");
+                i = size - 1;
+                java.util.Iterator<Integer> reverse = doubly.reverseIterator();
+                while (reverse.hasNext()) check(reverse.next().equals(expected.get(i--)), "doubly prev links");
+            }
+        }
+
+        System.out.println("Verification of sort/sortNatural passed (" + size + " elements)");
+    }
+
+    /**
+     * Time bottom-up and natural merge sort on random and nearly sorted data
+     */
+    private static void runSorting(int size) {
+        Comparator<Integer> order = Comparator.naturalOrder();
+        Random random = new Random(3);
+        int[] randomInput = randomData(size, random);
+        int[] nearlySortedInput = nearlySortedData(size, random);
+
+        EnhancedSinglyLinkedList<Integer> singly = new EnhancedSinglyLinkedList<>();
+        EnhancedDoublyLinkedList<Integer> doubly = new EnhancedDoublyLinkedList<>();
+
+        System.out.println("--- Sorting (n = " + size + ", ms per sort) ---");
+        String[] labels = {"random", "nearly sorted"};
+        int[][] inputs = {randomInput, nearlySortedInput};
+        for (int k = 0; k < inputs.length; k++) {
+            int[] input = inputs[k];
+            Runnable fillSingly = () -> { singly.clear(); for (int value : input) singly.addLast(value); };
+            Runnable fillDoubly = () -> { doubly.clear(); for (int value : input) doubly.addLast(value); };
+
+            double singlySort = timeSortMillis(fillSingly, () -> singly.sort(order));
+            double singlyNatural = timeSortMillis(fillSingly, () -> singly.sortNatural(order));
+            double doublySort = timeSortMillis(fillDoubly, () -> doubly.sort(order));
+            double doublyNatural = timeSortMillis(fillDoubly, () -> doubly.sortNatural(order));
+
+            System.out.printf("%-14s singly sort: %8.1f  sortNatural: %8.1f | doubly sort: %8.1f  sortNatural: %8.1f%n",
+                labels[k], singlySort, singlyNatural, doublySort, doublyNatural);
+        }
+    }
+
+    /**
+     * Average time of the sort step only; the list is refilled before every run
+     */
+    private static double timeSortMillis(Runnable fill, Runnable sort) {
+        long total = 0;
+        for (int i = 0; i < WARMUP_ROUNDS + MEASURED_ROUNDS; i++) {
+            fill.run();
+            long start = System.nanoTime();
+            sort.run();
+            if (i >= WARMUP_ROUNDS) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / (double) MEASURED_ROUNDS / 1_000_000.0;
+    }
+
+    private static int[] randomData(int size, Random random) {
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) data[i] = random.nextInt(size);
+        return data;
+    }
+
+    /**
+     * Ascending data with 1% of positions swapped, like mostly chronological records
+     */
+    private static int[] nearlySortedData(int size, Random random) {
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) data[i] = i;
+        for (int i = 0; i < size / 100; i++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            int temp = data[a];
+            data[a] = data[b];
+            data[b] = temp;
+        }
+        return data;
+    }
+
+    private static int[] descendingData(int size) {
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) data[i] = (size - i) / 2;
+        return data;
+    }
+
+    private static void runPositional(int size) {
+        Comparator<Integer> order = Comparator.naturalOrder();
+        Random random = new Random(7);
+        int[] indexes = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+
+        EnhancedDoublyLinkedList<Integer> doubly = new EnhancedDoublyLinkedList<>();
+        EnhancedUnrolledLinkedList<Integer> unrolled = new EnhancedUnrolledLinkedList<>();
+
+        long doublyBuild = timeNanos(() -> {
+            doubly.clear();
+            for (int i = 0; i < size; i++) doubly.addLast(i);
+        }) / size;
+        long unrolledBuild = timeNanos(() -> {
+            unrolled.clear();
+            for (int i = 0; i < size; i++) unrolled.addLast(i);
+        }) / size;
+        report("addLast", doublyBuild, unrolledBuild);
+
+        long doublyGet = timeNanos(() -> {
+            long sum = 0;
+            for (int index : indexes) sum += doubly.get(index);
+            sink(sum);
+        }) / OPERATIONS;
+        long unrolledGet = timeNanos(() -> {
+            long sum = 0;
+            for (int index : indexes) sum += unrolled.get(index);
+            sink(sum);
+        }) / OPERATIONS;
+        report("random get", doublyGet, unrolledGet);
+
+        long doublySet = timeNanos(() -> {
+            for (int index : indexes) doubly.set(index, index);
+        }) / OPERATIONS;
+        long unrolledSet = timeNanos(() -> {
+            for (int index : indexes) unrolled.set(index, index);
+        }) / OPERATIONS;
+        report("random set", doublySet, unrolledSet);
+
+        doubly.sort(order);
+        unrolled.sort(order);
+        long doublySearch = timeNanos(() -> {
+            long hits = 0;
+            for (int index : indexes) if (doubly.binarySearch(index, order) >= 0) hits++;
+            sink(hits);
+        }) / OPERATIONS;
+        long unrolledSearch = timeNanos(() -> {
+            long hits = 0;
+            for (int index : indexes) if (unrolled.binarySearch(index, order) >= 0) hits++;
+            sink(hits);
+        }) / OPERATIONS;
+        report("binarySearch", doublySearch, unrolledSearch);
+
+        System.out.println("Unrolled list chunks: " + unrolled.getChunkCount());
+    }
+
+    /**
+     * Average wall time of the measured rounds after warm-up
+     */
+    private static long timeNanos(Runnable task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            task.run();
+        }
+        long total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            total += System.nanoTime() - start;
+        }
+        return total / MEASURED_ROUNDS;
+    }
+
+    private static void report(String operation, long doublyNanos, long unrolledNanos) {
+        System.out.printf("%-14s doubly: %,10d ns/op   unrolled: %,8d ns/op%n",
+            operation, doublyNanos, unrolledNanos);
+    }
+
+    private static volatile long blackhole;
+
+    private static void sink(long value) {
+        blackhole = value;
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            throw new IllegalStateException("Verification failed: " + what);
+        }
+    }
+}
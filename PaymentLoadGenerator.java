@@ -0,0 +1,276 @@
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Headless load generator for the AccountStatementManager payment path
+ * Run from an empty scratch directory:
+ *   java PaymentLoadGenerator [students] [payments] [threads] [paymentsPerSecond]
+ *
+ * Creates synthetic students with varied fee schedules, then drives
+ * AccountStatementManager.processPayment from several threads across the
+ * portal's payment channels. With a rate, arrivals are open-loop Poisson
+ * and latency is measured from each payment's scheduled arrival, so a
+ * stalled path shows up as queueing delay; with rate 0 every thread
+ * submits back to back. Reports p50/p90/p99/max latency, throughput, and
+ * the size of the files the run produced.
+ *
+ * The run writes accountStatements.txt, paymentLogs.txt, ledger.txt and
+ * cashierQueue.txt in the working directory, so it refuses to start next
+ * to the portal's data files.
+ */
+public class PaymentLoadGenerator {
+    // Channels of ISLUStudentPortal.createPaymentChannelsPanel, plus the onsite cashier
+    private static final String[] CHANNELS = {
+        "UB UnionBank UPay Online",
+        "@dragonpay Payment Gateway",
+        "BPI BPI Online",
+        "BDO BDO Online",
+        "BDO Bills Payment",
+        "Bukas Tuition Installment Plans",
+        "Cashier - Main Campus"
+    };
+    private static final int[] CHANNEL_WEIGHTS = {30, 15, 15, 15, 10, 5, 10}; // percent of arrivals
+    private static final String[] OUTPUT_FILES = {
+        "accountStatements.txt", "paymentLogs.txt", "ledger.txt", "cashierQueue.txt"
+    };
+
+    public static void main(String[] args) throws Exception {
+        if (new File("Database.txt").exists() || new File("accountStatements.txt").exists()) {
+            System.err.println("Run this generator from an empty scratch directory; it rewrites the statement files.");
+            System.exit(1);
+        }
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int payments = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        double rate = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+        if (students <= 0 || payments <= 0 || threads <= 0 || rate < 0) {
+            throw new IllegalArgumentException("Students, payments and threads must be positive; rate cannot be negative");
+        }
+
+        System.out.println("=== Payment Load Generator (" + students + " students, " + payments + " payments, "
+            + threads + " threads, " + (rate > 0 ? rate + " payments/s" : "closed loop") + ") ===");
+
+        // Keep DataManager's payment log in this directory instead of one found up the tree
+        if (!new File("paymentLogs.txt").exists()) {
+            FileIOManager.writeAllLines(new File("paymentLogs.txt"), Arrays.asList(
+                "=== PAYMENT TRANSACTION LOGS ===",
+                "Format: DateTime,PaymentChannel,Reference,Amount,StudentID", ""));
+        }
+
+        String[] studentIDs = createStudents(students);
+        Run run = drive(studentIDs, payments, threads, rate);
+        report(run);
+        verify(studentIDs, run);
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Statements with the default fees plus a random mix of extras, saved once - O(students)
+     */
+    private static String[] createStudents(int count) {
+        long start = System.nanoTime();
+        Random random = new Random(42);
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = String.format("LOAD%06d", i);
+            AccountStatement statement = AccountStatementManager.getStatement(ids[i]);
+            if (random.nextInt(3) == 0) {
+                statement.addFee(new FeeBreakdown("LF002", "Science Laboratory Fee",
+                    1000 + random.nextInt(20) * 100, FeeBreakdown.FeeType.LABORATORY, LocalDate.now()));
+            }
+            if (random.nextInt(4) == 0) {
+                statement.addFee(new FeeBreakdown("OT001", "Thesis Advising Fee",
+                    2500.00, FeeBreakdown.FeeType.OTHER, LocalDate.now()));
+            }
+            if (random.nextInt(5) == 0) {
+                statement.applyScholarship(10 + random.nextInt(5) * 10, "Synthetic Scholarship");
+            }
+        }
+        AccountStatementManager.saveStatements();
+        System.out.printf("Created %d statements in %.1f ms%n", count, (System.nanoTime() - start) / 1_000_000.0);
+        return ids;
+    }
+
+    /**
+     * Split the payments across threads; each thread follows its own arrival schedule
+     */
+    private static Run drive(String[] studentIDs, int payments, int threads, double rate) throws InterruptedException {
+        Run run = new Run(payments);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        double threadRate = rate / threads;
+
+        for (int t = 0; t < threads; t++) {
+            int share = payments / threads + (t < payments % threads ? 1 : 0);
+            workers.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                ready.countDown();
+                await(go);
+                long next = System.nanoTime();
+                for (int i = 0; i < share; i++) {
+                    if (threadRate > 0) {
+                        next += (long) (-Math.log(1 - random.nextDouble()) / threadRate * 1_000_000_000L);
+                        sleepUntil(next);
+                    } else {
+                        next = System.nanoTime();
+                    }
+                    String studentID = studentIDs[random.nextInt(studentIDs.length)];
+                    int channel = pickChannel(random.nextInt(100));
+                    double amount = 500 + random.nextInt(60) * 50;
+
+                    AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
+                        studentID, amount, CHANNELS[channel], IdempotentPaymentProcessor.newReference(CHANNELS[channel]));
+                    long latency = System.nanoTime() - next;
+                    if (result.success) {
+                        run.record(latency, channel, amount);
+                    } else {
+                        run.failures.incrementAndGet();
+                    }
+                }
+            }, "load-" + t));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        run.elapsedNanos = System.nanoTime() - start;
+        return run;
+    }
+
+    private static int pickChannel(int percent) {
+        for (int i = 0; i < CHANNEL_WEIGHTS.length; i++) {
+            percent -= CHANNEL_WEIGHTS[i];
+            if (percent < 0) {
+                return i;
+            }
+        }
+        return CHANNELS.length - 1;
+    }
+
+    private static void report(Run run) {
+        long[] sorted = Arrays.copyOf(run.latencies, run.completed.get());
+        Arrays.sort(sorted);
+        double seconds = run.elapsedNanos / 1_000_000_000.0;
+        System.out.printf("Completed %d payments (%d failed) in %.2f s: %.0f payments/s%n",
+            sorted.length, run.failures.get(), seconds, sorted.length / seconds);
+        System.out.printf("Latency ms: p50 %.2f | p90 %.2f | p99 %.2f | max %.2f%n",
+            percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+            sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+
+        for (int i = 0; i < CHANNELS.length; i++) {
+            System.out.printf("  %-34s %6d payments%n", CHANNELS[i], run.perChannel.get(i));
+        }
+        for (String name : OUTPUT_FILES) {
+            File file = new File(name);
+            System.out.printf("  %-22s %,12d bytes%n", name, file.exists() ? file.length() : 0L);
+        }
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    /**
+     * Statements, ledger and payment log must all account for every payment
+     */
+    private static void verify(String[] studentIDs, Run run) throws IOException {
+        double paid = 0;
+        int recorded = 0;
+        for (String id : studentIDs) {
+            AccountStatement statement = AccountStatementManager.getStatement(id);
+            paid += statement.getAmountPaid();
+            recorded += statement.getPaymentHistory().size();
+        }
+        check(recorded == run.completed.get(), "every payment on a statement (" + recorded + ")");
+        check(Math.abs(paid - run.amount()) < 0.01, "statement totals match amounts paid");
+        check(Ledger.isBalanced(), "ledger balanced");
+
+        int logged = 0;
+        for (String line : FileIOManager.readAllLines(new File("paymentLogs.txt"))) {
+            if (line.startsWith("0") || line.startsWith("1")) { // MM/dd/yyyy lines
+                logged++;
+            }
+        }
+        check(logged == run.completed.get(), "every payment logged (" + logged + ")");
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > 2_000_000) {
+                try {
+                    Thread.sleep(remaining / 1_000_000 - 1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+
+    /**
+     * Latencies and totals shared by the load threads
+     */
+    private static class Run {
+        final long[] latencies;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicIntegerArray perChannel = new AtomicIntegerArray(CHANNELS.length);
+        final AtomicLongArray centsByChannel = new AtomicLongArray(CHANNELS.length);
+        long elapsedNanos;
+
+        Run(int payments) {
+            latencies = new long[payments];
+        }
+
+        void record(long latencyNanos, int channel, double amount) {
+            latencies[completed.getAndIncrement()] = latencyNanos;
+            perChannel.incrementAndGet(channel);
+            centsByChannel.addAndGet(channel, Math.round(amount * 100));
+        }
+
+        double amount() {
+            long cents = 0;
+            for (int i = 0; i < CHANNELS.length; i++) {
+                cents += centsByChannel.get(i);
+            }
+            return cents / 100.0;
+        }
+    }
+}
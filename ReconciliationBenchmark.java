@@ -0,0 +1,217 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Large-file check for PaymentReconciler: bounded-memory sorting, discrepancy counts and repair
+ * Run from an empty scratch directory, ideally with a small heap:
+ *   java -Xmx64m ReconciliationBenchmark [students] [paymentsPerStudent] [runLimit]
+ *
+ * Writes synthetic paymentLogs.txt, accountStatements.txt and DueBalance.txt,
+ * with log lines in scattered student order and a known set of planted
+ * discrepancies, one kind per affected student. Then it:
+ * 1. reconciles without repair and checks every count
+ * 2. reconciles with repair and checks the repairs
+ * 3. reconciles again and checks that only the unrepairable drift remains
+ * 4. runs the portal's reconcile(false) and checks that it leaves DueBalance.txt as it is
+ *
+ * The run rewrites the three files in the working directory, so it refuses
+ * to start next to the portal's data files.
+ */
+public class ReconciliationBenchmark {
+    private static final String LOGS = "paymentLogs.txt";
+    private static final String STATEMENTS = "accountStatements.txt";
+    private static final String BALANCES = "DueBalance.txt";
+    private static final DateTimeFormatter LOG_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+    private static final String[] CHANNELS = {"UB UnionBank UPay Online", "BPI BPI Online", "BDO Bills Payment"};
+    private static final int ORPHANS = 25; // logged payments of students without a statement
+
+    // One planted discrepancy per affected student, chosen by studentIndex % PLANT_EVERY
+    private static final int PLANT_EVERY = 50;
+    private static final int DROP_LOG_LINE = 1;   // log misses one payment: repaired with an adjustment
+    private static final int EXTRA_LOG_LINE = 2;  // log holds more than the statement: reported only
+    private static final int NO_LOG_LINES = 3;    // statement payments never logged: repaired
+    private static final int NO_BALANCE = 4;      // DueBalance.txt line missing: repaired
+    private static final int WRONG_PAID = 5;      // DueBalance paid amount off: repaired
+    private static final int WRONG_REMAINING = 6; // DueBalance remaining balance off: repaired
+
+    public static void main(String[] args) throws IOException {
+        if (new File("Database.txt").exists() || new File(STATEMENTS).exists()) {
+            System.err.println("Run this benchmark from an empty scratch directory; it rewrites the payment files.");
+            System.exit(1);
+        }
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int payments = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int runLimit = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        if (students <= 0 || payments < 2 || runLimit <= 0) {
+            throw new IllegalArgumentException("Students and run limit must be positive, with at least 2 payments per student");
+        }
+        System.out.printf("=== Reconciliation Benchmark (%,d students, %d payments each, run limit %,d, heap %d MB) ===%n",
+            students, payments, runLimit, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        Map<PaymentReconciler.DiscrepancyType, Integer> expected = generate(students, payments);
+        File logs = new File(LOGS);
+        File statements = new File(STATEMENTS);
+        File balances = new File(BALANCES);
+        System.out.printf("  %-22s %,14d bytes%n  %-22s %,14d bytes%n  %-22s %,14d bytes%n",
+            LOGS, logs.length(), STATEMENTS, statements.length(), BALANCES, balances.length());
+
+        // 1. Report only
+        PaymentReconciler.ReconciliationReport report =
+            PaymentReconciler.reconcile(logs, statements, balances, false, runLimit);
+        System.out.println("Check:  " + report);
+        check(report.getStudentsChecked() == students + ORPHANS, "every student checked");
+        check(students <= runLimit || report.getRunsSpilled() > 0, "sorted runs spilled past the run limit");
+        for (PaymentReconciler.DiscrepancyType type : PaymentReconciler.DiscrepancyType.values()) {
+            check(report.getCount(type) == expected.getOrDefault(type, 0),
+                type + " count " + report.getCount(type) + ", expected " + expected.getOrDefault(type, 0));
+        }
+        check(report.getDiscrepancies().size() == Math.min(PaymentReconciler.MAX_KEPT, report.getDiscrepancyCount()),
+            "first discrepancies kept");
+        check(report.getRepairs() == 0, "nothing repaired without repair mode");
+
+        // 2. Repair
+        long logLinesBefore = countLines(logs);
+        report = PaymentReconciler.reconcile(logs, statements, balances, true, runLimit);
+        System.out.println("Repair: " + report);
+        int repairable = planted(students, DROP_LOG_LINE) + planted(students, NO_LOG_LINES) + planted(students, NO_BALANCE)
+            + planted(students, WRONG_PAID) + planted(students, WRONG_REMAINING);
+        check(report.getRepairs() == repairable, "repairs " + report.getRepairs() + ", expected " + repairable);
+        check(countLines(logs) - logLinesBefore == planted(students, DROP_LOG_LINE) + planted(students, NO_LOG_LINES),
+            "one adjustment line per student missing log amounts");
+        check(!new File(BALANCES + ".reconcile").exists(), "repaired DueBalance.txt moved into place");
+
+        // 3. Only drift that needs manual review is left
+        report = PaymentReconciler.reconcile(logs, statements, balances, false, runLimit);
+        System.out.println("Recheck: " + report);
+        for (PaymentReconciler.DiscrepancyType type : PaymentReconciler.DiscrepancyType.values()) {
+            int left = type == PaymentReconciler.DiscrepancyType.LOG_AMOUNT_MISMATCH ? planted(students, EXTRA_LOG_LINE)
+                : type == PaymentReconciler.DiscrepancyType.MISSING_STATEMENT ? ORPHANS : 0;
+            check(report.getCount(type) == left, type + " left " + report.getCount(type) + ", expected " + left);
+        }
+
+        // 4. The portal's entry point audits DueBalance.txt as it is on disk
+        byte[] before = Files.readAllBytes(balances.toPath());
+        report = PaymentReconciler.reconcile(false);
+        System.out.println("Portal: " + report);
+        check(Arrays.equals(before, Files.readAllBytes(balances.toPath())), "DueBalance.txt not rewritten");
+        check(report.getDiscrepancyCount() == planted(students, EXTRA_LOG_LINE) + ORPHANS, "same drift found");
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Write the three files and return the discrepancy counts planted in them
+     */
+    private static Map<PaymentReconciler.DiscrepancyType, Integer> generate(int students, int payments) throws IOException {
+        long start = System.nanoTime();
+        Random random = new Random(7);
+        double[][] amounts = new double[students][payments];
+        LocalDate today = LocalDate.now();
+        String logDate = LocalDateTime.now().format(LOG_DATE);
+
+        try (BufferedWriter statements = writer(STATEMENTS);
+             BufferedWriter balances = writer(BALANCES)) {
+            balances.write("=== USER BALANCE DATABASE ===\n");
+            balances.write("Format: StudentID,AmountDue,RemainingBalance,PaidAmount\n\n");
+            FeeBreakdown tuition = new FeeBreakdown("TF001", "Tuition Fee (21 units @ P1,500/unit)",
+                31500.00, FeeBreakdown.FeeType.TUITION, today);
+            FeeBreakdown misc = new FeeBreakdown("MF001", "Miscellaneous Fee", 2800.00,
+                FeeBreakdown.FeeType.MISCELLANEOUS, today);
+            double fees = tuition.getAmount() + misc.getAmount();
+
+            for (int i = 0; i < students; i++) {
+                String id = id(i);
+                statements.write("STUDENT:" + id + ",FIRST SEMESTER,2025-2026\n");
+                statements.write("FEE:" + tuition.toCSV() + "\n");
+                statements.write("FEE:" + misc.toCSV() + "\n");
+                double paid = 0;
+                for (int p = 0; p < payments; p++) {
+                    amounts[i][p] = 500 + random.nextInt(2500) + random.nextInt(100) / 100.0;
+                    paid += amounts[i][p];
+                    statements.write(String.format("PAYMENT:%s,%s,%.2f,REF-%d-%d,COMPLETED%n",
+                        today, CHANNELS[p % CHANNELS.length], amounts[i][p], i, p));
+                }
+                statements.write("\n");
+
+                double remaining = Math.max(0, fees - paid);
+                int plant = i % PLANT_EVERY;
+                if (plant != NO_BALANCE) {
+                    balances.write(String.format("%s,%.0f,%.0f,%.2f%n", id, remaining,
+                        plant == WRONG_REMAINING ? remaining + 100 : remaining,
+                        plant == WRONG_PAID ? paid - 250 : paid));
+                }
+            }
+        }
+
+        // Log lines in scattered student order, so every source needs the external sort
+        try (BufferedWriter logs = writer(LOGS)) {
+            logs.write("=== PAYMENT TRANSACTION LOGS ===\n");
+            logs.write("Format: DateTime,PaymentChannel,Reference,Amount,StudentID\n\n");
+            long stride = 1_000_003L % students == 0 ? 1_000_033L : 1_000_003L;
+            for (int j = 0; j < students; j++) {
+                int i = (int) (j * stride % students);
+                int plant = i % PLANT_EVERY;
+                if (plant == NO_LOG_LINES) {
+                    continue;
+                }
+                for (int p = plant == DROP_LOG_LINE ? 1 : 0; p < payments; p++) {
+                    logs.write(String.format("%s,%s,REF-%d-%d,P %,.2f,%s%n",
+                        logDate, CHANNELS[p % CHANNELS.length], i, p, amounts[i][p], id(i)));
+                }
+                if (plant == EXTRA_LOG_LINE) {
+                    logs.write(String.format("%s,%s,REF-%d-X,P %,.2f,%s%n", logDate, CHANNELS[0], i, 1_000.00, id(i)));
+                }
+            }
+            for (int o = 0; o < ORPHANS; o++) {
+                logs.write(String.format("%s,%s,ORPHAN-%d,P %,.2f,X%06d%n", logDate, CHANNELS[0], o, 750.00, o));
+            }
+        }
+        System.out.printf("Generated files in %.1f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+
+        Map<PaymentReconciler.DiscrepancyType, Integer> expected = new EnumMap<>(PaymentReconciler.DiscrepancyType.class);
+        expected.put(PaymentReconciler.DiscrepancyType.LOG_AMOUNT_MISMATCH,
+            planted(students, DROP_LOG_LINE) + planted(students, EXTRA_LOG_LINE));
+        expected.put(PaymentReconciler.DiscrepancyType.MISSING_IN_LOG, planted(students, NO_LOG_LINES));
+        expected.put(PaymentReconciler.DiscrepancyType.MISSING_BALANCE, planted(students, NO_BALANCE));
+        expected.put(PaymentReconciler.DiscrepancyType.PAID_AMOUNT_MISMATCH, planted(students, WRONG_PAID));
+        expected.put(PaymentReconciler.DiscrepancyType.BALANCE_MISMATCH, planted(students, WRONG_REMAINING));
+        expected.put(PaymentReconciler.DiscrepancyType.MISSING_STATEMENT, ORPHANS);
+        return expected;
+    }
+
+    /**
+     * Students i < students with i % PLANT_EVERY == plant
+     */
+    private static int planted(int students, int plant) {
+        return students / PLANT_EVERY + (students % PLANT_EVERY > plant ? 1 : 0);
+    }
+
+    private static String id(int index) {
+        return String.format("%07d", index);
+    }
+
+    private static BufferedWriter writer(String name) throws IOException {
+        return Files.newBufferedWriter(new File(name).toPath(), StandardCharsets.UTF_8);
+    }
+
+    private static long countLines(File file) throws IOException {
+        try (java.util.stream.Stream<String> lines = Files.lines(file.toPath(), StandardCharsets.UTF_8)) {
+            return lines.count();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput check for term-wide StatementReportGenerator runs
+ * Run from an empty scratch directory: java StatementReportBenchmark [statements] [managedStatements]
+ *
+ * Renders a synthetic term into one combined file and into one file per
+ * student while a background thread keeps making payments, then renders the
+ * statements held by AccountStatementManager with writeTermReport. Reports
+ * statements/s for each run.
+ *
+ * The run writes accountStatements.txt, ledger.txt and a reports directory
+ * in the working directory, so it refuses to start next to the portal's data files.
+ */
+public class StatementReportBenchmark {
+    private static final String HEADER = "STATEMENT OF ACCOUNT\n";
+
+    public static void main(String[] args) throws Exception {
+        if (new File("Database.txt").exists() || new File("accountStatements.txt").exists()) {
+            System.err.println("Run this benchmark from an empty scratch directory; it rewrites the statement files.");
+            System.exit(1);
+        }
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int managed = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        System.out.println("=== Statement Report Benchmark (" + count + " statements, "
+            + managed + " managed, " + Runtime.getRuntime().availableProcessors() + " cores) ===");
+
+        List<AccountStatement> statements = createStatements(count);
+        File reports = new File("reports");
+
+        // Payments keep arriving while the term is rendered
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger paymentsDuringRuns = new AtomicInteger();
+        Thread payments = new Thread(() -> {
+            int i = 0;
+            while (running.get()) {
+                AccountStatement statement = statements.get(i++ % statements.size());
+                synchronized (statement) { // as AccountStatementManager.processPayment does
+                    if (statement.processPayment(100.0, "BPI BPI Online", "RUN-" + i).success) {
+                        paymentsDuringRuns.incrementAndGet();
+                    }
+                }
+            }
+        }, "report-payments");
+        payments.start();
+
+        StatementReportGenerator.ReportRun combined;
+        StatementReportGenerator.ReportRun perStudent;
+        try {
+            combined = StatementReportGenerator.writeCombined(statements,
+                AccountStatement.ExamPeriod.MIDTERM, new File(reports, "term.txt"));
+            System.out.println("Combined file:    " + combined);
+            perStudent = StatementReportGenerator.writePerStudent(statements,
+                AccountStatement.ExamPeriod.MIDTERM, new File(reports, "students"));
+            System.out.println("Per-student files: " + perStudent);
+        } finally {
+            running.set(false);
+            payments.join();
+        }
+        System.out.println("Payments made during the runs: " + paymentsDuringRuns.get());
+
+        check(combined.getStatements() == count, "combined run covers every statement");
+        check(countReports(new File(reports, "term.txt")) == count, "combined file holds every report");
+        String[] files = new File(reports, "students").list();
+        check(files != null && files.length == count, "one file per student");
+        check(perStudent.getStatements() == count, "per-student run covers every statement");
+
+        // Statements held by the manager, as the registrar would run it
+        for (int i = 0; i < managed; i++) {
+            AccountStatementManager.getStatement(String.format("TERM%05d", i));
+        }
+        StatementReportGenerator.ReportRun term = StatementReportGenerator.writeTermReport(
+            AccountStatement.ExamPeriod.FINALS, new File(reports, "termReport.txt"));
+        System.out.println("Term report:      " + term);
+        check(term.getStatements() == managed, "term report covers every managed statement");
+        check(countReports(new File(reports, "termReport.txt")) == managed, "term report file holds every report");
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Statements outside AccountStatementManager, so creating them does not rewrite the statements file
+     */
+    private static List<AccountStatement> createStatements(int count) {
+        long start = System.nanoTime();
+        LocalDate now = LocalDate.now();
+        FeeSchedule schedule = FeeSchedule.load();
+        List<AccountStatement> statements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AccountStatement statement = new AccountStatement(String.format("RPT%06d", i), "FIRST SEMESTER", "2025-2026");
+            schedule.addFeesTo(statement, AccountStatementManager.DEFAULT_PROGRAM, now);
+            if (i % 3 == 0) {
+                statement.processPayment(5_000.0 + i % 7 * 1_000, "UB UnionBank UPay Online", "PRE-" + i);
+            }
+            statements.add(statement);
+        }
+        System.out.printf("Created %d statements in %.1f ms%n", count, (System.nanoTime() - start) / 1_000_000.0);
+        return statements;
+    }
+
+    private static int countReports(File file) throws IOException {
+        String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        int reports = 0;
+        for (int at = text.indexOf(HEADER); at >= 0; at = text.indexOf(HEADER, at + 1)) {
+            reports++;
+        }
+        return reports;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Test program for GradePostingService
+ * Run from an empty scratch directory: java TestGradePosting [students]
+ *
+ * 1) Posts prelim and midterm grades for a new section: every row is appended
+ *    to gradeRecords.txt without rewriting the rows already there
+ * 2) Re-posts the section with final grades, a few corrected prelims and a few
+ *    late enrollees: stored rows are merged and rewritten in place, new ones appended
+ * 3) Posts an invalid sheet: it is rejected as a whole and the file is untouched
+ * Each posting is checked against the file, the change events fired, the
+ * GWA aggregates and the cached transcripts.
+ *
+ * The run rewrites gradeRecords.txt in the working directory, so it refuses
+ * to start next to the portal's data files.
+ */
+public class TestGradePosting {
+    private static final String GRADES_FILE = "gradeRecords.txt";
+    private static final String SEMESTER = "FIRST SEMESTER 2025-2026";
+    private static final String SUBJECT = "IT211";
+    private static final String SUBJECT_NAME = "Data Structures and Algorithms";
+    private static final int OTHER_ROWS = 50;   // another subject's rows, left alone by every posting
+    private static final int LATE = 10;         // students first graded on the re-post
+    private static final int CORRECT_EVERY = 10; // every 10th student gets a corrected prelim
+
+    public static void main(String[] args) throws IOException {
+        if (new File("Database.txt").exists() || new File(GRADES_FILE).exists()) {
+            System.err.println("Run this test from an empty scratch directory; it rewrites gradeRecords.txt.");
+            System.exit(1);
+        }
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        if (students < CORRECT_EVERY || students + LATE > 10_000) {
+            throw new IllegalArgumentException("Students must be between " + CORRECT_EVERY + " and " + (10_000 - LATE));
+        }
+        System.out.println("=== Grade Posting Test (" + students + " students) ===");
+
+        List<String> seed = seedFile();
+        List<List<GradeRecord>> events = new ArrayList<>();
+        GradePostingService.addListener(events::add);
+        Curriculum curriculum = Curriculum.load();
+        String first = id(0);
+
+        // 1) New section: prelim and midterm only, appended as a delta
+        GradePostingService.GradeSheet sheet = new GradePostingService.GradeSheet(SUBJECT, SUBJECT_NAME, SEMESTER);
+        for (int i = 0; i < students; i++) {
+            sheet.addRow(id(i), prelim(i), midterm(i), Double.NaN, Double.NaN);
+        }
+        long start = System.nanoTime();
+        GradePostingService.PostingResult result = GradePostingService.post(sheet);
+        System.out.printf("Initial posting:  %s in %.1f ms%n", result, (System.nanoTime() - start) / 1_000_000.0);
+        check(result.isPosted(), "initial sheet posted: " + result);
+        check(result.getAppendedRows() == students && result.getUpdatedRows() == 0, "every row appended");
+        List<String> lines = readLines();
+        check(lines.subList(0, seed.size()).equals(seed), "rows already in the file left as they were");
+        check(lines.size() == seed.size() + students, "one line per student");
+        check(events.size() == 1 && events.get(0).size() == students, "one event with every posted record");
+        check("Ongoing".equals(events.get(0).get(0).getStatus()), "rows without a final grade stay ongoing");
+        check(TranscriptService.getTranscript(first, code -> curriculum.getUnits(code, GradeAggregator.DEFAULT_UNITS)).isEmpty(),
+            "transcript empty before final grades");
+        check(Double.isNaN(GradeAggregator.getGWA(first)), "no GWA before final grades");
+
+        // 2) Re-post: final grades, corrected prelims, late enrollees; merged and rewritten once
+        sheet = new GradePostingService.GradeSheet(SUBJECT, SUBJECT_NAME, SEMESTER);
+        for (int i = 0; i < students + LATE; i++) {
+            boolean late = i >= students;
+            double correctedPrelim = late ? prelim(i) : i % CORRECT_EVERY == 0 ? prelim(i) + 1 : Double.NaN;
+            sheet.addRow(id(i), correctedPrelim, late ? midterm(i) : Double.NaN, Double.NaN, finalGrade(i));
+        }
+        start = System.nanoTime();
+        result = GradePostingService.post(sheet);
+        System.out.printf("Re-posting:       %s in %.1f ms%n", result, (System.nanoTime() - start) / 1_000_000.0);
+        check(result.isPosted(), "re-post posted: " + result);
+        check(result.getUpdatedRows() == students && result.getAppendedRows() == LATE, "stored rows updated, late rows appended");
+        check(!result.getWarnings().isEmpty(), "low final grades warned about");
+        lines = readLines();
+        check(lines.subList(0, seed.size()).equals(seed), "other subject's rows untouched by the rewrite");
+        check(lines.size() == seed.size() + students + LATE, "no row duplicated by the merge");
+        for (int i = 0; i < students + LATE; i++) {
+            GradeRecord row = GradeRecord.fromCsvFormat(lines.get(seed.size() + i));
+            boolean corrected = i < students && i % CORRECT_EVERY == 0;
+            check(row.getStudentID().equals(id(i)), "row " + i + " kept its position");
+            check(row.getPrelimValue() == prelim(i) + (corrected ? 1 : 0), "prelim of " + id(i));
+            check(row.getMidtermValue() == midterm(i), "midterm of " + id(i) + " kept");
+            check(row.getFinalValue() == finalGrade(i) && "Completed".equals(row.getStatus()), "final grade of " + id(i));
+        }
+        check(events.size() == 2 && events.get(1).size() == students + LATE, "second event with every merged record");
+        check(events.get(1).get(0).getPrelimValue() == prelim(0) + 1, "event carries merged records");
+        TranscriptService.Transcript transcript =
+            TranscriptService.getTranscript(first, code -> curriculum.getUnits(code, GradeAggregator.DEFAULT_UNITS));
+        check(transcript.getTerms().size() == 1 && transcript.getGWA() == finalGrade(0), "cached transcript refreshed");
+        check(GradeAggregator.getGWA(first) == finalGrade(0), "GWA aggregate updated");
+
+        // 3) Invalid sheet: rejected as a whole, nothing written or published
+        byte[] before = Files.readAllBytes(new File(GRADES_FILE).toPath());
+        sheet = new GradePostingService.GradeSheet(SUBJECT, SUBJECT_NAME, SEMESTER)
+            .addRow(id(1), Double.NaN, Double.NaN, Double.NaN, 150.0)
+            .addRow(id(2), Double.NaN, Double.NaN, Double.NaN, 90.0)
+            .addRow(id(2), Double.NaN, Double.NaN, Double.NaN, 91.0)
+            .addRow("X100", Double.NaN, Double.NaN, Double.NaN, 88.0);
+        result = GradePostingService.post(sheet);
+        System.out.println("Invalid sheet:    " + result);
+        check(!result.isPosted() && result.getErrors().size() == 3, "out-of-range grade, duplicate row and bad ID rejected");
+        check(Arrays.equals(before, Files.readAllBytes(new File(GRADES_FILE).toPath())), "file untouched by a rejected sheet");
+        check(events.size() == 2, "no event for a rejected sheet");
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * gradeRecords.txt header plus another subject's rows; returns its lines
+     */
+    private static List<String> seedFile() throws IOException {
+        List<String> lines = new ArrayList<>(Arrays.asList(
+            "=== GRADE RECORDS ===",
+            "Format: StudentID,SubjectCode,SubjectName,PrelimGrade,MidtermGrade,TentativeFinalGrade,FinalGrade,Semester,Status",
+            ""));
+        for (int i = 0; i < OTHER_ROWS; i++) {
+            lines.add(new GradeRecord(id(i), "GSTS", "SCIENCE TECHNOLOGY AND SOCIETY", 85.0, 86.5, Double.NaN,
+                Double.NaN, SEMESTER, "Ongoing").toCsvFormat());
+        }
+        FileIOManager.writeAllLines(new File(GRADES_FILE), lines);
+        return lines;
+    }
+
+    private static List<String> readLines() throws IOException {
+        return Files.readAllLines(new File(GRADES_FILE).toPath(), StandardCharsets.UTF_8);
+    }
+
+    private static String id(int index) {
+        return String.format("225%04d", index);
+    }
+
+    private static double prelim(int i) { return 75 + i % 20; }
+    private static double midterm(int i) { return 78 + i % 17; }
+    private static double finalGrade(int i) { return i == 1 ? 65.0 : 80 + i % 15; }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
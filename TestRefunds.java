@@ -0,0 +1,165 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+/**
+ * Test program for payment refunds
+ * Run from an empty scratch directory: java TestRefunds
+ *
+ * Each student owes a P 1,000.00 tuition fee and a P 500.00 laboratory fee.
+ * 1) Pays P 1,200.00 and P 600.00 at the cashier, then the first payment is
+ *    refunded: the second payment's P 300.00 overpayment goes to the freed fees
+ * 2) Pays P 1,500.00, P 400.00 and P 300.00, then the first payment is refunded:
+ *    both overpayments go to the freed fees, oldest payment first
+ * 3) An online payment still processing is cancelled instead of refunded
+ * After each refund the fee balances must add up to the statement balance and
+ * no payment may keep unallocated credit while a fee is unpaid. The statements
+ * are then reloaded from file and checked again.
+ *
+ * The run writes accountStatements.txt, cashierQueue.txt, ledger.txt and
+ * paymentLogs.txt in the working directory, so it refuses to start next to the
+ * portal's data files.
+ */
+public class TestRefunds {
+    private static final String STATEMENTS = "accountStatements.txt";
+    private static final String CASHIER = "Cashier - Main Campus";
+    private static final String ONLINE = "GCash";
+
+    public static void main(String[] args) throws IOException {
+        if (new File("Database.txt").exists() || new File(STATEMENTS).exists()) {
+            System.err.println("Run this test from an empty scratch directory; it rewrites the statement files.");
+            System.exit(1);
+        }
+        System.out.println("=== Refund Test ===");
+        writeStatements("RFD0001", "RFD0002", "RFD0003"); // before AccountStatementManager loads the file
+
+        // 1) Refund frees fees that a later overpayment can cover
+        pay("RFD0001", 1200.00, CASHIER, "OR-1001");
+        pay("RFD0001", 600.00, CASHIER, "OR-1002");
+        CashierPostingQueue.postAll(CASHIER);
+        AccountStatement first = AccountStatementManager.getStatement("RFD0001");
+        check(first.getBalance() == 0 && first.getOverpayment() == 300.00, "overpaid before the refund");
+        check(AccountStatementManager.refundPayment("RFD0001", "OR-1001"), "first payment refunded");
+        print(first);
+        check(payment(first, "OR-1001").getStatus() == PaymentStatus.REFUNDED, "posted payment marked refunded");
+        check(first.getBalance() == 900.00 && first.getOverpayment() == 0, "balance restored less the overpayment");
+        checkAllocated(first);
+        check(!AccountStatementManager.refundPayment("RFD0001", "OR-1001"), "a refunded payment is not refunded again");
+        check(!AccountStatementManager.refundPayment("RFD0001", "OR-9999"), "unknown reference refused");
+
+        // 2) Several overpayments, applied oldest first
+        pay("RFD0002", 1500.00, CASHIER, "OR-2001");
+        pay("RFD0002", 400.00, CASHIER, "OR-2002");
+        pay("RFD0002", 300.00, CASHIER, "OR-2003");
+        CashierPostingQueue.postAll(CASHIER);
+        AccountStatement second = AccountStatementManager.getStatement("RFD0002");
+        check(AccountStatementManager.refundPayment("RFD0002", "OR-2001"), "second student's payment refunded");
+        print(second);
+        check(second.getBalance() == 800.00 && second.getOverpayment() == 0, "both overpayments applied");
+        checkAllocated(second);
+        check(applied(second, "OR-2002") == 400.00 && applied(second, "OR-2003") == 300.00, "each overpayment applied in full");
+
+        // 3) A payment still processing is cancelled
+        pay("RFD0003", 1000.00, ONLINE, "GC-3001");
+        AccountStatement third = AccountStatementManager.getStatement("RFD0003");
+        check(AccountStatementManager.refundPayment("RFD0003", "GC-3001"), "processing payment cancelled");
+        print(third);
+        check(payment(third, "GC-3001").getStatus() == PaymentStatus.CANCELLED, "in-progress payment marked cancelled");
+        check(third.getBalance() == 1500.00 && !third.hasPaymentsInProgress(), "nothing left in progress");
+        checkAllocated(third);
+
+        // Saved refunds load back with the same balances
+        check(countLines("REFUNDED") == 2 && countLines("CANCELLED") == 1, "refunds saved");
+        AccountStatementManager.clearCache();
+        for (String studentID : new String[] {"RFD0001", "RFD0002", "RFD0003"}) {
+            AccountStatement loaded = AccountStatementManager.getStatement(studentID);
+            check(loaded != first && loaded != second && loaded != third, "statement reloaded");
+            checkAllocated(loaded);
+        }
+        check(AccountStatementManager.getStatement("RFD0001").getBalance() == 900.00, "first balance reloaded");
+        check(AccountStatementManager.getStatement("RFD0002").getBalance() == 800.00, "second balance reloaded");
+        check(AccountStatementManager.getStatement("RFD0003").getBalance() == 1500.00, "third balance reloaded");
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * accountStatements.txt with a tuition and a laboratory fee per student
+     */
+    private static void writeStatements(String... studentIDs) throws IOException {
+        LocalDate posted = LocalDate.of(2025, 7, 1);
+        try (BufferedWriter writer = Files.newBufferedWriter(new File(STATEMENTS).toPath(), StandardCharsets.UTF_8)) {
+            for (String studentID : studentIDs) {
+                writer.write("STUDENT:" + studentID + ",FIRST SEMESTER,2025-2026\n");
+                writer.write("FEE:" + new FeeBreakdown("TF001", "Tuition Fee", 1000.00,
+                    FeeBreakdown.FeeType.TUITION, posted).toCSV() + "\n");
+                writer.write("FEE:" + new FeeBreakdown("LF001", "Laboratory Fee", 500.00,
+                    FeeBreakdown.FeeType.LABORATORY, posted).toCSV() + "\n");
+                writer.write("\n");
+            }
+        }
+    }
+
+    private static void pay(String studentID, double amount, String channel, String reference) {
+        check(AccountStatementManager.processPayment(studentID, amount, channel, reference).success, "payment " + reference);
+    }
+
+    private static PaymentTransaction payment(AccountStatement statement, String reference) {
+        for (PaymentTransaction payment : statement.getPaymentHistory()) {
+            if (payment.getReference().equals(reference)) {
+                return payment;
+            }
+        }
+        throw new AssertionError("Check failed: no payment " + reference);
+    }
+
+    private static double applied(AccountStatement statement, String reference) {
+        double total = 0;
+        for (FeeAllocator.Split split : statement.getAllocation(payment(statement, reference)).getSplits()) {
+            total += split.getAmount();
+        }
+        return total;
+    }
+
+    /**
+     * Fee balances add up to the statement balance, and no live payment keeps
+     * credit while a fee is unpaid
+     */
+    private static void checkAllocated(AccountStatement statement) {
+        double fees = 0;
+        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+            fees += fee.getBalance();
+        }
+        check(Math.abs(fees - statement.getBalance()) < 0.01,
+            statement.getStudentID() + " fee balances " + fees + " against balance " + statement.getBalance());
+        for (PaymentTransaction payment : statement.getPaymentHistory()) {
+            FeeAllocator.Allocation allocation = statement.getAllocation(payment);
+            check(payment.getStatus().isFinal() == (allocation == null), "only live payments allocated: " + payment.getReference());
+            check(allocation == null || statement.getBalance() == 0 || allocation.getUnallocated() == 0,
+                "credit left on " + allocation);
+        }
+    }
+
+    private static void print(AccountStatement statement) {
+        System.out.printf("%s: balance P %,.2f, overpayment P %,.2f%n",
+            statement.getStudentID(), statement.getBalance(), statement.getOverpayment());
+        for (PaymentTransaction payment : statement.getPaymentHistory()) {
+            FeeAllocator.Allocation allocation = statement.getAllocation(payment);
+            System.out.println("  " + payment.getStatus() + " " + (allocation != null ? allocation : payment.getReference()));
+        }
+    }
+
+    private static long countLines(String status) throws IOException {
+        try (java.util.stream.Stream<String> lines = Files.lines(new File(STATEMENTS).toPath(), StandardCharsets.UTF_8)) {
+            return lines.filter(line -> line.startsWith("PAYMENT:") && line.endsWith("," + status)).count();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError("Check failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Test program for ScheduleConflictDetector
+ * Run: java TestScheduleConflicts [sections]
+ *
+ * 1) Scans courseSchedules.txt and lists the conflicts found
+ * 2) Checks batch and incremental detection against a brute-force pairwise scan
+ * 3) Times both modes on a synthetic university timetable
+ */
+public class TestScheduleConflicts {
+    private static final String SEMESTER = "FIRST SEMESTER 2025-2026";
+    private static final String[] DAY_PATTERNS = {"MWF", "TThS", "TF", "MW", "TH", "S"};
+
+    public static void main(String[] args) {
+        int sections = args.length > 0 ? Integer.parseInt(args[0]) : 30_000;
+
+        System.out.println("=== Schedule Conflict Detection Test ===");
+        List<ScheduleConflictDetector.Conflict> fileConflicts = ScheduleConflictDetector.scanScheduleFile();
+        System.out.println("courseSchedules.txt: " + fileConflicts.size() + " conflict(s)");
+        for (ScheduleConflictDetector.Conflict conflict : fileConflicts) {
+            System.out.println("  " + conflict);
+        }
+
+        List<CourseSchedule> small = generateTimetable(400, 3, new Random(7));
+        int expected = bruteForceCount(small);
+        int batch = ScheduleConflictDetector.detectAll(small).size();
+        int incremental = new ScheduleConflictDetector().addAll(small).size();
+        check(batch == expected, "batch found " + batch + ", brute force " + expected);
+        check(incremental == expected, "incremental found " + incremental + ", brute force " + expected);
+        System.out.println("Brute-force cross-check passed (" + expected + " conflicts in " + small.size() + " rows)");
+
+        List<CourseSchedule> large = generateTimetable(sections, 4, new Random(42));
+        long start = System.nanoTime();
+        int batchLarge = ScheduleConflictDetector.detectAll(large).size();
+        long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        int incrementalLarge = new ScheduleConflictDetector().addAll(large).size();
+        long incrementalMillis = (System.nanoTime() - start) / 1_000_000;
+
+        check(batchLarge == incrementalLarge, "batch " + batchLarge + " vs incremental " + incrementalLarge);
+        System.out.printf("%,d sections / %,d rows: %,d conflicts, batch %d ms, incremental %d ms%n",
+            sections, large.size(), batchLarge, batchMillis, incrementalMillis);
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Random sections with rooms and instructors, each enrolled by a few students
+     */
+    private static List<CourseSchedule> generateTimetable(int sections, int studentsPerSection, Random random) {
+        int rooms = Math.max(10, sections / 12);
+        int instructors = Math.max(10, sections / 8);
+        int students = Math.max(10, sections * studentsPerSection / 8);
+
+        List<CourseSchedule> rows = new ArrayList<>();
+        for (int s = 0; s < sections; s++) {
+            int startSlot = random.nextInt(24); // 7:00 to 18:30 in half hours
+            int length = 2 + random.nextInt(3);
+            LocalTime startTime = LocalTime.of(7, 0).plusMinutes(30L * startSlot);
+            LocalTime endTime = startTime.plusMinutes(30L * length);
+            String days = DAY_PATTERNS[random.nextInt(DAY_PATTERNS.length)];
+            String room = "R" + random.nextInt(rooms);
+            String instructor = "Instructor " + random.nextInt(instructors);
+
+            for (int k = 0; k < studentsPerSection; k++) {
+                String studentID = String.valueOf(2200000 + random.nextInt(students));
+                rows.add(new CourseSchedule(studentID, "S" + s, "C" + s, "SECTION " + s, 3,
+                    startTime, endTime, days, room, instructor, SEMESTER));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Pairwise reference count using the same rules: distinct sections,
+     * sections counted once per room/instructor
+     */
+    private static int bruteForceCount(List<CourseSchedule> rows) {
+        int count = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = i + 1; j < rows.size(); j++) {
+                CourseSchedule a = rows.get(i);
+                CourseSchedule b = rows.get(j);
+                if (a.getClassCode().equals(b.getClassCode())) continue;
+                int sharedDays = Integer.bitCount(a.getDayMask() & b.getDayMask());
+                boolean overlap = a.getStartMinute() < b.getEndMinute() && b.getStartMinute() < a.getEndMinute();
+                if (sharedDays == 0 || !overlap) continue;
+                if (a.getStudentID().equals(b.getStudentID())) count += sharedDays;
+                if (firstOfSection(rows, i) && firstOfSection(rows, j)) {
+                    if (a.getRoom().equals(b.getRoom())) count += sharedDays;
+                    if (a.getInstructor().equals(b.getInstructor())) count += sharedDays;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean firstOfSection(List<CourseSchedule> rows, int index) {
+        String classCode = rows.get(index).getClassCode();
+        return index == 0 || !rows.get(index - 1).getClassCode().equals(classCode);
+    }
+
+    private static void check(boolean condition, String what) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + what);
+        }
+    }
+}
@@ -369,6 +369,7 @@ public class TestStatementOfAccounts extends JFrame {
             dialogTitle = "Payment through " + channelName;
         }
         
+        String dialogReference = IdempotentPaymentProcessor.newReference(channelName);
         JDialog paymentDialog = new JDialog(this, dialogTitle, true);
         paymentDialog.setSize(500, 400);
         paymentDialog.setLocationRelativeTo(this);
@@ -504,8 +505,8 @@ public class TestStatementOfAccounts extends JFrame {
                 }
                 
                 // Process payment using AccountStatementManager
-                AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
-                    studentID, amount, channelName, "PAY-" + System.currentTimeMillis());
+                AccountStatement.PaymentResult result = IdempotentPaymentProcessor.submit(
+                    studentID, amount, channelName, dialogReference);
                 
                 if (result.success) {
                     JOptionPane.showMessageDialog(paymentDialog, result.message, "Payment Successful", JOptionPane.INFORMATION_MESSAGE);
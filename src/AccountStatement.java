@@ -6,8 +6,13 @@ import java.util.*;
 /**
  * Manages student account statement information including
  * balances, fees, payments, and transaction history
+ *
+ * Totals, posted and in-progress payment amounts and the per-exam payment
+ * requirements are kept as running values, so balance and eligibility
+ * queries are O(1) and do not allocate.
  */
 public class AccountStatement {
+    public static final String SCHOLARSHIP_CODE = "SCHOLARSHIP"; // fee code of applyScholarship discounts
     private String studentID;
     private String semester;
     private String academicYear;
@@ -19,10 +24,23 @@ public class AccountStatement {
     private double overpayment;
     private List<FeeBreakdown> feeBreakdowns;
     private List<PaymentTransaction> paymentHistory;
+    private List<FeeBreakdown> feeBreakdownsView;
+    private List<PaymentTransaction> paymentHistoryView;
     private boolean isPrelimPaid;
     private boolean isMidtermPaid;
     private boolean isFinalsPaid;
     private LocalDate lastUpdateDate;
+    // Set by PaymentStatusScheduler when one of this statement's payments changes status
+    private volatile boolean paymentStatusChanged;
+    // Running payment amounts by status, adjusted on every transition (guarded by this)
+    private double postedAmount;
+    private double inProgressAmount;
+    private int postedCount;
+    private int inProgressCount;
+    // Unpaid fees by allocation priority and each payment's split across fees
+    private final FeeAllocator feeAllocator = new FeeAllocator(FeeAllocator.DEFAULT_RULES);
+    // Cumulative payment required before each exam, indexed by ExamPeriod ordinal
+    private final double[] examRequirements = new double[ExamPeriod.values().length];
     
     // Constructor for new account statement
     public AccountStatement(String studentID, String semester, String academicYear) {
@@ -31,6 +49,8 @@ public class AccountStatement {
         this.academicYear = academicYear;
         this.feeBreakdowns = new ArrayList<>();
         this.paymentHistory = new ArrayList<>();
+        this.feeBreakdownsView = Collections.unmodifiableList(feeBreakdowns);
+        this.paymentHistoryView = Collections.unmodifiableList(paymentHistory);
         this.lastUpdateDate = LocalDate.now();
         this.totalTuition = 0.0;
         this.totalFees = 0.0;
@@ -44,19 +64,78 @@ public class AccountStatement {
     }
     
     /**
-     * Adds a fee item to the statement
+     * Adds a fee item to the statement - O(1)
      */
     public void addFee(FeeBreakdown fee) {
         feeBreakdowns.add(fee);
-        recalculateTotals();
+        feeAllocator.addFee(fee);
+        Ledger.postFee(studentID, fee, false);
+        if (fee.getType() == FeeBreakdown.FeeType.TUITION) {
+            totalTuition += fee.getAmount();
+        } else {
+            totalFees += fee.getAmount();
+        }
+        updateBalance();
     }
     
     /**
      * Removes a fee item from the statement
      */
     public void removeFee(String feeCode) {
-        feeBreakdowns.removeIf(fee -> fee.getCode().equals(feeCode));
-        recalculateTotals();
+        removeFees(fee -> fee.getCode().equals(feeCode));
+    }
+    
+    private void removeFees(java.util.function.Predicate<FeeBreakdown> filter) {
+        boolean removed = feeBreakdowns.removeIf(fee -> {
+            if (filter.test(fee)) {
+                feeAllocator.removeFee(fee);
+                Ledger.postFee(studentID, fee, true);
+                return true;
+            }
+            return false;
+        });
+        if (removed) {
+            recalculateTotals();
+        }
+    }
+    
+    /**
+     * Change how payments are allocated to unpaid fees; applies to later payments - O(f)
+     */
+    public void setAllocationRules(FeeAllocator.Rule... rules) {
+        feeAllocator.setRules(rules);
+    }
+    
+    /**
+     * How a payment was split across fees, or null
+     */
+    public FeeAllocator.Allocation getAllocation(PaymentTransaction payment) {
+        return feeAllocator.getAllocation(payment);
+    }
+    
+    /**
+     * Refunds a payment: marks it REFUNDED (or CANCELLED while still in progress),
+     * reverses its fee allocation and restores the balance - O(k log f)
+     * Fees the refund frees are paid again from other payments' overpayment.
+     * Synchronized like the manager's payment calls, so it never runs mid-payment or mid-save.
+     */
+    public synchronized boolean refundPayment(PaymentTransaction payment) {
+        PaymentStatus target = payment.getStatus() != null && payment.getStatus().isInProgress()
+            ? PaymentStatus.CANCELLED : PaymentStatus.REFUNDED;
+        if (!paymentHistory.contains(payment) || !PaymentStatusScheduler.transition(payment, target)) {
+            return false;
+        }
+        reversePayment(payment);
+        return true;
+    }
+    
+    private void reversePayment(PaymentTransaction payment) {
+        feeAllocator.reverse(payment);
+        Ledger.postPayment(studentID, payment, true);
+        amountPaid -= payment.getAmountValue();
+        overpayment = 0;
+        updateBalance();
+        lastUpdateDate = LocalDate.now();
     }
     
     /**
@@ -82,7 +161,10 @@ public class AccountStatement {
                                      PaymentStatus.FOR_POSTING : PaymentStatus.PROCESSING;
         
         PaymentTransaction transaction = new PaymentTransaction(dateTime, paymentChannel, reference, formattedAmount, initialStatus);
+        transaction.setPaymentType(initialStatus == PaymentStatus.FOR_POSTING ? "ONSITE" : "ONLINE");
         paymentHistory.add(transaction);
+        countPayment(initialStatus, amount, 1);
+        Ledger.postPayment(studentID, transaction, false);
         
         // Apply payment to fees
         applyPaymentToFees(amount, transaction);
@@ -132,66 +214,67 @@ public class AccountStatement {
         
         lastUpdateDate = LocalDate.now();
         
+        // Later status changes arrive from the scheduler instead of being polled
+        PaymentStatusScheduler.track(transaction, this::onPaymentStatusChanged);
+        
         return result;
     }
     
     /**
-     * Updates exam payment status based on current balance
+     * Updates exam payment status from the running amounts - O(1)
      */
     private void updateExamPaymentStatus() {
-        // Calculate required payments for each exam period (33.33% each)
-        double prelimRequirement = totalAmount * 0.3333;
-        double midtermRequirement = totalAmount * 0.6666;
-        double finalsRequirement = totalAmount;
-        
-        double totalPaidIncludingOverpayment = amountPaid;
-        
-        // Check if payments are posted (not just processing)
-        boolean hasPostedPayments = paymentHistory.stream()
-            .anyMatch(p -> p.getStatus() != null && p.getStatus().isSuccessful());
-        
-        // Only mark as paid if payment is posted/completed
-        if (hasPostedPayments || amountPaid > 0) {
-            isPrelimPaid = totalPaidIncludingOverpayment >= prelimRequirement;
-            isMidtermPaid = totalPaidIncludingOverpayment >= midtermRequirement;
-            isFinalsPaid = totalPaidIncludingOverpayment >= finalsRequirement;
-        } else {
-            // If all payments are still processing, don't mark as paid yet
-            isPrelimPaid = false;
-            isMidtermPaid = false;
-            isFinalsPaid = false;
+        // Paid once anything has been paid and the cumulative requirement is met
+        boolean anyPaid = hasPostedPayments() || amountPaid > 0;
+        isPrelimPaid = anyPaid && amountPaid >= examRequirements[ExamPeriod.PRELIM.ordinal()];
+        isMidtermPaid = anyPaid && amountPaid >= examRequirements[ExamPeriod.MIDTERM.ordinal()];
+        isFinalsPaid = anyPaid && amountPaid >= examRequirements[ExamPeriod.FINALS.ordinal()];
+    }
+    
+    /**
+     * Moves a payment's amount between the posted and in-progress totals
+     */
+    private synchronized void countPayment(PaymentStatus status, double amount, int sign) {
+        if (status == null) {
+            return;
+        }
+        if (status.isSuccessful()) {
+            postedAmount += sign * amount;
+            postedCount += sign;
+        } else if (status.isInProgress()) {
+            inProgressAmount += sign * amount;
+            inProgressCount += sign;
         }
     }
     
     /**
-     * Apply payment to individual fees
+     * Status change pushed by PaymentStatusScheduler, possibly on its timer thread - O(1)
+     */
+    private void onPaymentStatusChanged(PaymentTransaction payment, PaymentStatus from, PaymentStatus to) {
+        countPayment(from, payment.getAmountValue(), -1);
+        countPayment(to, payment.getAmountValue(), 1);
+        paymentStatusChanged = true;
+    }
+    
+    /**
+     * Apply payment to individual fees in allocation priority - O(k log f)
      */
     private void applyPaymentToFees(double paymentAmount, PaymentTransaction transaction) {
-        double remainingPayment = paymentAmount;
-        
-        // Apply payment to unpaid fees in order
-        for (FeeBreakdown fee : feeBreakdowns) {
-            if (remainingPayment <= 0) break;
-            
-            if (!fee.isPaid() && fee.getAmount() > 0) {
-                double feeBalance = fee.getBalance();
-                if (feeBalance > 0) {
-                    double paymentForThisFee = Math.min(remainingPayment, feeBalance);
-                    fee.applyPayment(paymentForThisFee);
-                    fee.setPaymentStatus(transaction.getStatus());
-                    remainingPayment -= paymentForThisFee;
-                }
-            }
+        FeeAllocator.Allocation allocation = feeAllocator.allocate(transaction, paymentAmount);
+        for (FeeAllocator.Split split : allocation.getSplits()) {
+            split.getFee().setPaymentStatus(transaction.getStatus());
         }
     }
     
     /**
-     * Updates payment statuses (simulates processing time)
+     * Applies payment status changes pushed by PaymentStatusScheduler to the fees
+     * and exam status - O(1) when no payment changed since the last call
      */
     public void updatePaymentStatuses() {
-        for (PaymentTransaction payment : paymentHistory) {
-            payment.updateStatusBasedOnTime();
+        if (!paymentStatusChanged) {
+            return;
         }
+        paymentStatusChanged = false; // cleared first so a change during the update is kept
         
         // Update fee payment statuses
         for (FeeBreakdown fee : feeBreakdowns) {
@@ -212,7 +295,33 @@ public class AccountStatement {
     }
     
     /**
-     * Recalculates all totals based on current fees
+     * First payment of a channel with the given reference and status, or null - O(p)
+     */
+    public PaymentTransaction findPayment(String channel, String reference, PaymentStatus status) {
+        for (PaymentTransaction payment : paymentHistory) {
+            if (payment.getStatus() == status && payment.getChannel().equals(channel)
+                    && payment.getReference().equals(reference)) {
+                return payment;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Restores a saved payment status when statements are loaded from file
+     * and schedules the payment's remaining transitions from there
+     */
+    void restorePaymentStatus(PaymentTransaction payment, PaymentStatus status) {
+        onPaymentStatusChanged(payment, payment.getStatus(), status);
+        payment.setStatus(status);
+        if (status == PaymentStatus.REFUNDED || status == PaymentStatus.CANCELLED) {
+            reversePayment(payment); // refunded before the statements were saved
+        }
+        PaymentStatusScheduler.track(payment, this::onPaymentStatusChanged);
+    }
+    
+    /**
+     * Recalculates all totals based on current fees - O(f), only needed after fees are removed
      */
     private void recalculateTotals() {
         totalTuition = 0;
@@ -226,6 +335,13 @@ public class AccountStatement {
             }
         }
         
+        updateBalance();
+    }
+    
+    /**
+     * Derives the total, balance and exam requirements from the fee totals - O(1)
+     */
+    private void updateBalance() {
         totalAmount = totalTuition + totalFees;
         balance = totalAmount - amountPaid;
         
@@ -234,40 +350,59 @@ public class AccountStatement {
             balance = 0;
         }
         
+        for (ExamPeriod period : EXAM_PERIODS) {
+            examRequirements[period.ordinal()] = totalAmount * period.getShare();
+        }
         updateExamPaymentStatus();
     }
     
     /**
-     * Gets the amount due for a specific exam period
+     * Gets the amount due for a specific exam period - O(1)
      */
     public double getExamPeriodDue(ExamPeriod period) {
-        double prelimRequirement = totalAmount * 0.3333;
-        double midtermRequirement = totalAmount * 0.6666;
-        double finalsRequirement = totalAmount;
-        
-        switch (period) {
-            case PRELIM:
-                return Math.max(0, prelimRequirement - amountPaid);
-            case MIDTERM:
-                return Math.max(0, midtermRequirement - amountPaid);
-            case FINALS:
-                return Math.max(0, finalsRequirement - amountPaid);
-            default:
-                return balance;
-        }
+        return Math.max(0, examRequirements[period.ordinal()] - amountPaid);
+    }
+    
+    /**
+     * Whether the requirement for an exam period is paid and no payment is still in progress - O(1)
+     */
+    public boolean isExamEligible(ExamPeriod period) {
+        return getExamPeriodDue(period) <= 0 && !hasPaymentsInProgress();
+    }
+    
+    /**
+     * Whether any payment is still processing or awaiting posting - O(1)
+     */
+    public synchronized boolean hasPaymentsInProgress() {
+        return inProgressCount > 0;
+    }
+    
+    public synchronized boolean hasPostedPayments() {
+        return postedCount > 0;
+    }
+    
+    /**
+     * Total of payments that are posted or completed - O(1)
+     */
+    public synchronized double getPostedAmount() {
+        return postedAmount;
+    }
+    
+    /**
+     * Total of payments still processing or awaiting posting - O(1)
+     */
+    public synchronized double getInProgressAmount() {
+        return inProgressAmount;
     }
     
     /**
      * Gets exam eligibility message
      */
     public String getExamEligibilityMessage(ExamPeriod period) {
-        boolean hasProcessingPayments = paymentHistory.stream()
-            .anyMatch(p -> p.getStatus() != null && p.getStatus().isInProgress());
-        
         double amountDue = getExamPeriodDue(period);
         
         if (amountDue <= 0) {
-            if (hasProcessingPayments) {
+            if (hasPaymentsInProgress()) {
                 return "Payment processing - Eligibility pending";
             } else {
                 return "✓ Eligible to take " + period.toString().toLowerCase() + " examination";
@@ -279,17 +414,18 @@ public class AccountStatement {
     
     /**
      * Applies a scholarship discount
+     * Replaces an earlier scholarship only; rule discounts such as DISC01 stay.
      */
     public void applyScholarship(double discountPercentage, String scholarshipName) {
         // Remove existing scholarship if any
-        feeBreakdowns.removeIf(fee -> fee.getType() == FeeBreakdown.FeeType.DISCOUNT);
+        removeFees(fee -> fee.getType() == FeeBreakdown.FeeType.DISCOUNT && SCHOLARSHIP_CODE.equals(fee.getCode()));
         
         // Calculate discount amount
         double discountAmount = totalTuition * (discountPercentage / 100.0);
         
         // Add scholarship as negative fee
         FeeBreakdown scholarship = new FeeBreakdown(
-            "SCHOLARSHIP",
+            SCHOLARSHIP_CODE,
             scholarshipName,
             -discountAmount,
             FeeBreakdown.FeeType.DISCOUNT,
@@ -333,8 +469,11 @@ public class AccountStatement {
     public double getAmountPaid() { return amountPaid; }
     public double getBalance() { return balance; }
     public double getOverpayment() { return overpayment; }
-    public List<FeeBreakdown> getFeeBreakdowns() { return new ArrayList<>(feeBreakdowns); }
-    public List<PaymentTransaction> getPaymentHistory() { return new ArrayList<>(paymentHistory); }
+    /**
+     * Read-only views; they follow later changes to the statement
+     */
+    public List<FeeBreakdown> getFeeBreakdowns() { return feeBreakdownsView; }
+    public List<PaymentTransaction> getPaymentHistory() { return paymentHistoryView; }
     public boolean isPrelimPaid() { return isPrelimPaid; }
     public boolean isMidtermPaid() { return isMidtermPaid; }
     public boolean isFinalsPaid() { return isFinalsPaid; }
@@ -342,9 +481,19 @@ public class AccountStatement {
     
     // Enums
     public enum ExamPeriod {
-        PRELIM, MIDTERM, FINALS
+        PRELIM(0.3333), MIDTERM(0.6666), FINALS(1.0);
+        
+        private final double share; // cumulative share of the total due before the exam
+        
+        ExamPeriod(double share) {
+            this.share = share;
+        }
+        
+        public double getShare() { return share; }
     }
     
+    private static final ExamPeriod[] EXAM_PERIODS = ExamPeriod.values();
+    
     // Inner class for payment results
     public static class PaymentResult {
         public boolean success;
@@ -9,8 +9,9 @@ import java.util.*;
  */
 public class AccountStatementManager {
     private static final String STATEMENTS_FILE = "accountStatements.txt";
-    private static final String FEES_FILE = "feeSchedule.txt";
     private static Map<String, AccountStatement> statements = new HashMap<>();
+    public static final String DEFAULT_PROGRAM = "BSIT"; // the portal only enrolls IT students so far
+    private static volatile java.util.function.Function<String, String> programResolver = studentID -> DEFAULT_PROGRAM;
     
     static {
         loadStatements();
@@ -19,8 +20,9 @@ public class AccountStatementManager {
     
     /**
      * Gets or creates an account statement for a student
+     * Synchronized because portal panels load statements from background threads.
      */
-    public static AccountStatement getStatement(String studentID) {
+    public static synchronized AccountStatement getStatement(String studentID) {
         if (!statements.containsKey(studentID)) {
             createNewStatement(studentID);
         }
@@ -48,59 +50,14 @@ public class AccountStatementManager {
     
     /**
      * Adds default fees to a new statement
+     * Amounts come from the compiled feeSchedule.txt, so nothing is parsed per student.
      */
     private static void addDefaultFees(AccountStatement statement) {
         LocalDate now = LocalDate.now();
+        FeeSchedule.load().addFeesTo(statement, getProgram(statement.getStudentID()), now);
         
-        // Base tuition and fees for IT students
-        statement.addFee(new FeeBreakdown("TF001", "Tuition Fee (21 units @ P1,500/unit)", 
-            31500.00, FeeBreakdown.FeeType.TUITION, now));
-        
-        statement.addFee(new FeeBreakdown("LF001", "Computer Laboratory Fee", 
-            3500.00, FeeBreakdown.FeeType.LABORATORY, now));
-        
-        statement.addFee(new FeeBreakdown("MF001", "Miscellaneous Fee", 
-            2800.00, FeeBreakdown.FeeType.MISCELLANEOUS, now));
-        
-        statement.addFee(new FeeBreakdown("RF001", "Registration Fee", 
-            500.00, FeeBreakdown.FeeType.REGISTRATION, now));
-        
-        statement.addFee(new FeeBreakdown("LB001", "Library Fee", 
-            800.00, FeeBreakdown.FeeType.LIBRARY, now));
-        
-        statement.addFee(new FeeBreakdown("AT001", "Athletic Fee", 
-            500.00, FeeBreakdown.FeeType.ATHLETIC, now));
-        
-        statement.addFee(new FeeBreakdown("MD001", "Medical/Dental Fee", 
-            400.00, FeeBreakdown.FeeType.MEDICAL, now));
-        
-        statement.addFee(new FeeBreakdown("GD001", "Guidance Fee", 
-            300.00, FeeBreakdown.FeeType.GUIDANCE, now));
-        
-        statement.addFee(new FeeBreakdown("PB001", "Student Publication Fee", 
-            250.00, FeeBreakdown.FeeType.PUBLICATION, now));
-        
-        statement.addFee(new FeeBreakdown("IN001", "Internet and Technology Fee", 
-            1500.00, FeeBreakdown.FeeType.INTERNET, now));
-        
-        statement.addFee(new FeeBreakdown("EN001", "Energy Fee", 
-            1200.00, FeeBreakdown.FeeType.ENERGY, now));
-        
-        statement.addFee(new FeeBreakdown("IS001", "Student Insurance", 
-            350.00, FeeBreakdown.FeeType.INSURANCE, now));
-        
-        statement.addFee(new FeeBreakdown("DV001", "Development Fund", 
-            1000.00, FeeBreakdown.FeeType.DEVELOPMENT, now));
-        
-        statement.addFee(new FeeBreakdown("CL001", "Cultural Activities Fee", 
-            300.00, FeeBreakdown.FeeType.CULTURAL, now));
-        
-        // Apply early enrollment discount if applicable
-        LocalDate enrollmentDeadline = LocalDate.of(2025, 7, 15);
-        if (LocalDate.now().isBefore(enrollmentDeadline)) {
-            statement.addFee(new FeeBreakdown("DISC01", "Early Enrollment Discount (5%)", 
-                -2225.00, FeeBreakdown.FeeType.DISCOUNT, now, "5% discount on total fees"));
-        }
+        // Early enrollment and other discounts come from discountRules.txt
+        DiscountRuleEngine.applyTo(statement, now);
     }
     
     /**
@@ -109,9 +66,16 @@ public class AccountStatementManager {
     public static AccountStatement.PaymentResult processPayment(
             String studentID, double amount, String channel, String reference) {
         AccountStatement statement = getStatement(studentID);
-        AccountStatement.PaymentResult result = statement.processPayment(amount, channel, reference);
+        AccountStatement.PaymentResult result;
+        synchronized (statement) { // payments to one statement apply one at a time
+            result = statement.processPayment(amount, channel, reference);
+        }
         
         if (result.success) {
+            // Onsite payments wait for the cashier to post them
+            if (result.transaction.isOnsite()) {
+                CashierPostingQueue.enqueue(studentID, result.transaction);
+            }
             saveStatements();
             // Also save to payment logs
             DataManager.logPaymentTransaction(channel, amount, studentID);
@@ -120,6 +84,27 @@ public class AccountStatementManager {
         return result;
     }
     
+    /**
+     * Refunds a student's payment by reference and saves the statements
+     * Returns false if no refundable payment has that reference.
+     */
+    public static boolean refundPayment(String studentID, String reference) {
+        AccountStatement statement = getStatement(studentID);
+        boolean refunded = false;
+        synchronized (statement) { // not while a payment is applied or the statement saved
+            for (PaymentTransaction payment : statement.getPaymentHistory()) {
+                if (payment.getReference().equals(reference) && !payment.getStatus().isFinal()) {
+                    refunded = statement.refundPayment(payment);
+                    break;
+                }
+            }
+        }
+        if (refunded) {
+            saveStatements();
+        }
+        return refunded;
+    }
+    
     /**
      * Applies a scholarship to a student's account
      */
@@ -154,53 +139,34 @@ public class AccountStatementManager {
      * Generates a detailed statement report
      */
     public static String generateStatementReport(String studentID) {
-        AccountStatement statement = getStatement(studentID);
-        StringBuilder report = new StringBuilder();
-        
-        java.time.format.DateTimeFormatter dateFormatter = java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy");
-        String currentDate = LocalDate.now().format(dateFormatter);
-        
-        report.append("STATEMENT OF ACCOUNT\n");
-        report.append("===========================================\n");
-        report.append("Student ID: ").append(statement.getStudentID()).append("\n");
-        report.append("Semester: ").append(statement.getSemester()).append(" ").append(statement.getAcademicYear()).append("\n");
-        report.append("Date Generated: ").append(currentDate).append("\n");
-        report.append("As of: ").append(currentDate).append("\n\n");
-        
-        report.append("FEES BREAKDOWN:\n");
-        report.append("-------------------------------------------\n");
-        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
-            report.append(fee.toFormattedString()).append("\n");
-        }
-        
-        report.append("\n-------------------------------------------\n");
-        report.append(String.format("Total Tuition: P %,.2f\n", statement.getTotalTuition()));
-        report.append(String.format("Total Fees: P %,.2f\n", statement.getTotalFees()));
-        report.append(String.format("TOTAL AMOUNT: P %,.2f\n", statement.getTotalAmount()));
-        report.append(String.format("Amount Paid: P %,.2f\n", statement.getAmountPaid()));
-        report.append(String.format("BALANCE: P %,.2f\n", statement.getBalance()));
-        
-        if (statement.getOverpayment() > 0) {
-            report.append(String.format("Overpayment: P %,.2f\n", statement.getOverpayment()));
-        }
-        
-        report.append("\nEXAM PAYMENT STATUS:\n");
-        report.append("-------------------------------------------\n");
-        report.append("Prelim Exams: ").append(statement.isPrelimPaid() ? "✓ PAID" : "✗ UNPAID").append("\n");
-        report.append("Midterm Exams: ").append(statement.isMidtermPaid() ? "✓ PAID" : "✗ UNPAID").append("\n");
-        report.append("Finals Exams: ").append(statement.isFinalsPaid() ? "✓ PAID" : "✗ UNPAID").append("\n");
-        
-        if (!statement.getPaymentHistory().isEmpty()) {
-            report.append("\nPAYMENT HISTORY:\n");
-            report.append("-------------------------------------------\n");
-            for (PaymentTransaction payment : statement.getPaymentHistory()) {
-                report.append(String.format("%s | %s | %s | %s\n",
-                    payment.getDate(), payment.getChannel(), 
-                    payment.getReference(), payment.getAmount()));
-            }
+        return StatementReportGenerator.render(getStatement(studentID));
+    }
+    
+    /**
+     * Degree program of a student, used by program-specific fees and discounts
+     */
+    public static String getProgram(String studentID) {
+        String program = programResolver.apply(studentID);
+        return program != null ? program : DEFAULT_PROGRAM;
+    }
+    
+    /**
+     * Where programs come from once student records carry them
+     */
+    public static void setProgramResolver(java.util.function.Function<String, String> resolver) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("Program resolver cannot be null");
         }
-        
-        return report.toString();
+        programResolver = resolver;
+    }
+    
+    /**
+     * Snapshot of every loaded statement, ordered by student ID, for term-wide reports
+     */
+    public static synchronized List<AccountStatement> getAllStatements() {
+        List<AccountStatement> all = new ArrayList<>(statements.values());
+        all.sort(Comparator.comparing(AccountStatement::getStudentID));
+        return all;
     }
     
     /**
@@ -212,6 +178,11 @@ public class AccountStatementManager {
             return;
         }
         
+        // The journal already holds these postings, unless it predates the ledger
+        boolean replay = Ledger.hasJournal();
+        if (replay) {
+            Ledger.beginReplay();
+        }
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line;
             AccountStatement currentStatement = null;
@@ -233,43 +204,77 @@ public class AccountStatementManager {
                 } else if (line.startsWith("PAYMENT:") && currentStatement != null) {
                     String[] parts = line.substring(8).split(",");
                     if (parts.length >= 3) {
-                        currentStatement.processPayment(
+                        AccountStatement.PaymentResult result = currentStatement.processPayment(
                             Double.parseDouble(parts[2].trim()),
                             parts[1].trim(),
                             parts.length > 3 ? parts[3].trim() : "Payment"
                         );
+                        if (result.success) {
+                            result.transaction.restoreDate(parts[0].trim());
+                            restoreStatus(currentStatement, result.transaction,
+                                parts.length > 4 ? parts[4].trim() : null);
+                        }
                     }
                 }
             }
         } catch (IOException e) {
             System.err.println("Error loading statements: " + e.getMessage());
+        } finally {
+            if (replay) {
+                Ledger.endReplay();
+            }
+        }
+    }
+    
+    /**
+     * Applies the status saved with a payment line
+     * Lines saved before statuses were recorded leave online payments to the
+     * scheduler and count onsite ones as posted, as they were before the cashier queue.
+     */
+    private static void restoreStatus(AccountStatement statement, PaymentTransaction payment, String savedStatus) {
+        PaymentStatus status = null;
+        if (savedStatus != null && !savedStatus.isEmpty()) {
+            try {
+                status = PaymentStatus.valueOf(savedStatus);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown payment status " + savedStatus + " for " + payment.getReference());
+            }
+        } else if (payment.isOnsite()) {
+            status = PaymentStatus.POSTED;
+        }
+        if (status != null && status != payment.getStatus()) {
+            statement.restorePaymentStatus(payment, status);
         }
     }
     
     /**
      * Saves all statements to file
+     * Also called once per batch by CashierPostingQueue.
      */
-    private static void saveStatements() {
+    static synchronized void saveStatements() {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(STATEMENTS_FILE))) {
             for (AccountStatement statement : statements.values()) {
-                writer.write(String.format("STUDENT:%s,%s,%s\n",
-                    statement.getStudentID(),
-                    statement.getSemester(),
-                    statement.getAcademicYear()));
+                synchronized (statement) { // not mid-payment
+                    writer.write(String.format("STUDENT:%s,%s,%s\n",
+                        statement.getStudentID(),
+                        statement.getSemester(),
+                        statement.getAcademicYear()));
                 
-                for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
-                    writer.write("FEE:" + fee.toCSV() + "\n");
-                }
+                    for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                        writer.write("FEE:" + fee.toCSV() + "\n");
+                    }
                 
-                for (PaymentTransaction payment : statement.getPaymentHistory()) {
-                    writer.write(String.format("PAYMENT:%s,%s,%s,%s\n",
-                        payment.getDate(),
-                        payment.getChannel(),
-                        payment.getAmount().replace("P ", "").replace(",", ""),
-                        payment.getReference()));
-                }
+                    for (PaymentTransaction payment : statement.getPaymentHistory()) {
+                        writer.write(String.format("PAYMENT:%s,%s,%s,%s,%s\n",
+                            payment.getDate(),
+                            payment.getChannel(),
+                            payment.getAmount().replace("P ", "").replace(",", ""),
+                            payment.getReference(),
+                            payment.getStatus().name()));
+                    }
                 
-                writer.write("\n");
+                    writer.write("\n");
+                }
             }
         } catch (IOException e) {
             System.err.println("Error saving statements: " + e.getMessage());
@@ -280,31 +285,7 @@ public class AccountStatementManager {
      * Initialize default fee schedule if file doesn't exist
      */
     private static void initializeDefaultFees() {
-        File file = new File(FEES_FILE);
-        if (file.exists()) {
-            return;
-        }
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
-            writer.write("# Fee Schedule for 2025-2026\n");
-            writer.write("# Format: CODE,DESCRIPTION,AMOUNT,TYPE\n");
-            writer.write("TF001,Tuition Fee per Unit,1500.00,TUITION\n");
-            writer.write("LF001,Computer Laboratory Fee,3500.00,LABORATORY\n");
-            writer.write("MF001,Miscellaneous Fee,2800.00,MISCELLANEOUS\n");
-            writer.write("RF001,Registration Fee,500.00,REGISTRATION\n");
-            writer.write("LB001,Library Fee,800.00,LIBRARY\n");
-            writer.write("AT001,Athletic Fee,500.00,ATHLETIC\n");
-            writer.write("MD001,Medical/Dental Fee,400.00,MEDICAL\n");
-            writer.write("GD001,Guidance Fee,300.00,GUIDANCE\n");
-            writer.write("PB001,Student Publication Fee,250.00,PUBLICATION\n");
-            writer.write("IN001,Internet and Technology Fee,1500.00,INTERNET\n");
-            writer.write("EN001,Energy Fee,1200.00,ENERGY\n");
-            writer.write("IS001,Student Insurance,350.00,INSURANCE\n");
-            writer.write("DV001,Development Fund,1000.00,DEVELOPMENT\n");
-            writer.write("CL001,Cultural Activities Fee,300.00,CULTURAL\n");
-        } catch (IOException e) {
-            System.err.println("Error creating fee schedule: " + e.getMessage());
-        }
+        FeeSchedule.writeDefaultIfMissing();
     }
     
     /**
@@ -312,6 +293,7 @@ public class AccountStatementManager {
      */
     public static void clearCache() {
         statements.clear();
+        Ledger.clear();
         loadStatements();
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Background data loading for portal panels
+ * Features:
+ * - Blocking file I/O runs on a shared executor instead of the Event Dispatch Thread
+ * - Virtual threads when the running JDK provides them, otherwise a small daemon pool
+ * - Results are bound on the EDT through SwingWorker.done()
+ * - Skeleton placeholder panels shown until the data arrives
+ */
+public class AsyncLoader {
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    /**
+     * Run loader in the background and hand its result to onLoaded on the EDT.
+     * Failures go to onError on the EDT, or are logged when onError is null.
+     */
+    public static <T> void load(Callable<T> loader, Consumer<T> onLoaded, Consumer<Exception> onError) {
+        SwingWorker<T, Void> worker = new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return loader.call();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    onLoaded.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    if (onError != null) {
+                        onError.accept(cause);
+                    } else {
+                        System.err.println("Error loading data: " + cause.getMessage());
+                    }
+                }
+            }
+        };
+        EXECUTOR.execute(worker);
+    }
+
+    /**
+     * Panel that shows a skeleton immediately and swaps in binder's component
+     * once loader has finished. binder runs on the EDT.
+     */
+    public static <T> JPanel createAsyncPanel(String loadingMessage, Callable<T> loader,
+                                              Function<T, ? extends Component> binder) {
+        JPanel holder = new JPanel(new BorderLayout());
+        holder.setBackground(new Color(240, 240, 240));
+        holder.add(createSkeletonPanel(loadingMessage), BorderLayout.CENTER);
+
+        load(loader, data -> replaceContent(holder, binder.apply(data)), error -> {
+            System.err.println("Error loading panel data: " + error.getMessage());
+            JLabel errorLabel = new JLabel("Unable to load data: " + error.getMessage(), SwingConstants.CENTER);
+            errorLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+            errorLabel.setForeground(new Color(200, 0, 0));
+            replaceContent(holder, errorLabel);
+        });
+        return holder;
+    }
+
+    /**
+     * Placeholder with grey bars in the rough shape of a header and table rows
+     */
+    public static JPanel createSkeletonPanel(String message) {
+        JPanel skeleton = new JPanel(new BorderLayout()) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                int x = 20;
+                int width = Math.max(0, getWidth() - 40);
+                g2d.setColor(new Color(225, 228, 232));
+                g2d.fillRoundRect(x, 50, width, 40, 8, 8);
+
+                g2d.setColor(new Color(236, 238, 241));
+                for (int y = 110; y + 20 < getHeight() && y < 110 + 8 * 36; y += 36) {
+                    g2d.fillRoundRect(x, y, width, 20, 6, 6);
+                }
+                g2d.dispose();
+            }
+        };
+        skeleton.setBackground(Color.WHITE);
+        skeleton.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200), 1));
+
+        JLabel messageLabel = new JLabel(message);
+        messageLabel.setFont(new Font("Arial", Font.ITALIC, 13));
+        messageLabel.setForeground(Color.GRAY);
+        messageLabel.setBorder(BorderFactory.createEmptyBorder(15, 20, 0, 20));
+        skeleton.add(messageLabel, BorderLayout.NORTH);
+        return skeleton;
+    }
+
+    private static void replaceContent(JPanel holder, Component content) {
+        holder.removeAll();
+        holder.add(content, BorderLayout.CENTER);
+        holder.revalidate();
+        holder.repaint();
+    }
+
+    /**
+     * Virtual-thread-per-task executor on JDK 21+, daemon fixed pool otherwise
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "portal-loader-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
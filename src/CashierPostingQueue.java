@@ -0,0 +1,292 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Posting queue for onsite payments awaiting the cashier
+ * Features:
+ * - One FIFO queue per payment channel on ConcurrentSinglyLinkedList, so
+ *   payment windows can enqueue while a cashier drains a batch
+ * - Persisted to cashierQueue.txt: appended on enqueue, rewritten once per batch
+ * - postBatch() posts a run of receipts with one status recalculation per
+ *   affected AccountStatement and one statements flush for the whole batch
+ * - Batch results carry timings for end-of-day throughput checks
+ *
+ * Cashiers post the queue with main(), e.g. at the end of the day:
+ *   java CashierPostingQueue [channel...]
+ * Until then onsite payments stay FOR_POSTING; nothing posts them on a timer.
+ */
+public class CashierPostingQueue {
+    private static final String QUEUE_FILE = "cashierQueue.txt";
+    private static final String[] HEADER = {
+        "=== CASHIER POSTING QUEUE ===",
+        "Format: StudentID,Channel,Amount,DateTime,Reference"
+    };
+
+    private static final Map<String, ConcurrentSinglyLinkedList<PendingPayment>> queues = new ConcurrentHashMap<>();
+    private static final Object fileLock = new Object();
+
+    static {
+        loadQueue();
+    }
+
+    /**
+     * Queue an onsite payment for posting - O(1) plus one appended line
+     */
+    public static void enqueue(String studentID, PaymentTransaction payment) {
+        if (studentID == null || payment == null) {
+            throw new IllegalArgumentException("Student ID and payment cannot be null");
+        }
+        if (!payment.isOnsite() || payment.getStatus() != PaymentStatus.FOR_POSTING) {
+            throw new IllegalArgumentException("Only onsite payments awaiting posting can be queued: " + payment.getReference());
+        }
+
+        PendingPayment pending = new PendingPayment(studentID, payment.getChannel(),
+            payment.getAmountValue(), payment.getDate(), payment.getReference(), payment);
+        synchronized (fileLock) {
+            queueFor(pending.channel).add(pending);
+            try {
+                File file = new File(QUEUE_FILE);
+                if (!file.exists()) {
+                    FileIOManager.appendLines(file, Arrays.asList(HEADER));
+                }
+                FileIOManager.appendLine(file, pending.toCsv());
+            } catch (IOException e) {
+                System.err.println("Error saving posting queue: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cashier entry point: post the queued receipts of the given channels, or of all channels
+     * Run while the portal is closed; both rewrite accountStatements.txt.
+     */
+    public static void main(String[] args) {
+        Collection<String> channels = args.length > 0 ? Arrays.asList(args) : getChannels();
+        if (channels.isEmpty()) {
+            System.out.println("No receipts waiting for posting.");
+            return;
+        }
+        for (BatchResult result : postAll(channels)) {
+            System.out.println(result);
+            if (!result.getSkipped().isEmpty()) {
+                System.out.println("  Skipped (already posted or not found): " + String.join(", ", result.getSkipped()));
+            }
+        }
+    }
+
+    /**
+     * Post every queued receipt of each channel, one batch per channel
+     */
+    public static List<BatchResult> postAll(Collection<String> channels) {
+        List<BatchResult> results = new ArrayList<>();
+        for (String channel : channels) {
+            results.add(postAll(channel));
+        }
+        return results;
+    }
+
+    /**
+     * Post every queued receipt of a channel
+     */
+    public static BatchResult postAll(String channel) {
+        return postBatch(channel, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Post up to maxReceipts of a channel's oldest receipts - O(receipts + payments of affected students)
+     * Statuses change through PaymentStatusScheduler, so listeners see each posting,
+     * but each statement is recalculated once and the files are written once.
+     */
+    public static BatchResult postBatch(String channel, int maxReceipts) {
+        if (maxReceipts <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        long start = System.nanoTime();
+        BatchResult result = new BatchResult(channel);
+
+        ConcurrentSinglyLinkedList<PendingPayment> queue = queues.get(channel);
+        if (queue == null || queue.isEmpty()) {
+            return result;
+        }
+        List<PendingPayment> batch = new ArrayList<>();
+        queue.drainTo(batch::add, maxReceipts);
+
+        // Group by student, keeping queue order within each statement
+        Map<String, List<PendingPayment>> byStudent = new LinkedHashMap<>();
+        for (PendingPayment pending : batch) {
+            byStudent.computeIfAbsent(pending.studentID, id -> new ArrayList<>()).add(pending);
+        }
+
+        for (Map.Entry<String, List<PendingPayment>> entry : byStudent.entrySet()) {
+            AccountStatement statement = AccountStatementManager.getStatement(entry.getKey());
+            for (PendingPayment pending : entry.getValue()) {
+                PaymentTransaction payment = pending.payment != null
+                    ? pending.payment
+                    : statement.findPayment(pending.channel, pending.reference, PaymentStatus.FOR_POSTING);
+                if (payment != null && PaymentStatusScheduler.transition(payment, PaymentStatus.POSTED)) {
+                    result.posted++;
+                    result.amountPosted += pending.amount;
+                } else {
+                    result.skipped.add(pending.reference);
+                }
+            }
+            statement.updatePaymentStatuses(); // one recalculation per statement
+        }
+        result.statements = byStudent.size();
+
+        AccountStatementManager.saveStatements();
+        saveQueue();
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Channels with queued receipts
+     */
+    public static Set<String> getChannels() {
+        Set<String> channels = new TreeSet<>();
+        for (Map.Entry<String, ConcurrentSinglyLinkedList<PendingPayment>> entry : queues.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                channels.add(entry.getKey());
+            }
+        }
+        return channels;
+    }
+
+    /**
+     * Number of receipts waiting in a channel - O(1)
+     */
+    public static int getPendingCount(String channel) {
+        ConcurrentSinglyLinkedList<PendingPayment> queue = queues.get(channel);
+        return queue == null ? 0 : queue.getSize();
+    }
+
+    /**
+     * References waiting in a channel, oldest first
+     */
+    public static List<String> getPendingReferences(String channel) {
+        List<String> references = new ArrayList<>();
+        ConcurrentSinglyLinkedList<PendingPayment> queue = queues.get(channel);
+        if (queue != null) {
+            for (PendingPayment pending : queue) {
+                references.add(pending.reference);
+            }
+        }
+        return references;
+    }
+
+    private static ConcurrentSinglyLinkedList<PendingPayment> queueFor(String channel) {
+        return queues.computeIfAbsent(channel, c -> new ConcurrentSinglyLinkedList<>());
+    }
+
+    /**
+     * Rewrite cashierQueue.txt with the receipts still queued
+     */
+    private static void saveQueue() {
+        synchronized (fileLock) {
+            List<String> lines = new ArrayList<>(Arrays.asList(HEADER));
+            for (ConcurrentSinglyLinkedList<PendingPayment> queue : queues.values()) {
+                for (PendingPayment pending : queue) {
+                    lines.add(pending.toCsv());
+                }
+            }
+            try {
+                FileIOManager.writeAllLines(new File(QUEUE_FILE), lines);
+            } catch (IOException e) {
+                System.err.println("Error saving posting queue: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Restore queued receipts; their payments are matched to statements when posted
+     */
+    private static void loadQueue() {
+        File file = new File(QUEUE_FILE);
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            FileIOManager.readAndProcess(file, (line, lineNumber) -> {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:") || line.startsWith("#")) {
+                    return null;
+                }
+                String[] parts = line.split(",", 5); // reference is last and may contain commas
+                if (parts.length < 5) {
+                    System.err.println("Skipping malformed posting queue line " + (lineNumber + 1) + ": " + line);
+                    return null;
+                }
+                try {
+                    queueFor(parts[1]).add(new PendingPayment(parts[0], parts[1],
+                        Double.parseDouble(parts[2]), parts[3], parts[4], null));
+                } catch (NumberFormatException e) {
+                    System.err.println("Skipping malformed posting queue line " + (lineNumber + 1) + ": " + line);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            System.err.println("Error loading posting queue: " + e.getMessage());
+        }
+    }
+
+    /**
+     * One queued receipt; payment is null for receipts restored from file
+     */
+    private static class PendingPayment {
+        final String studentID;
+        final String channel;
+        final double amount;
+        final String dateTime;
+        final String reference;
+        final PaymentTransaction payment;
+
+        PendingPayment(String studentID, String channel, double amount, String dateTime,
+                       String reference, PaymentTransaction payment) {
+            this.studentID = studentID;
+            this.channel = channel;
+            this.amount = amount;
+            this.dateTime = dateTime;
+            this.reference = reference;
+            this.payment = payment;
+        }
+
+        String toCsv() {
+            return String.format("%s,%s,%.2f,%s,%s", studentID, channel, amount, dateTime, reference);
+        }
+    }
+
+    /**
+     * Outcome and timing of one posting run
+     */
+    public static class BatchResult {
+        private final String channel;
+        private int posted;
+        private int statements;
+        private double amountPosted;
+        private long elapsedNanos;
+        private final List<String> skipped = new ArrayList<>();
+
+        BatchResult(String channel) {
+            this.channel = channel;
+        }
+
+        public String getChannel() { return channel; }
+        public int getPosted() { return posted; }
+        public int getStatements() { return statements; }
+        public double getAmountPosted() { return amountPosted; }
+        public List<String> getSkipped() { return Collections.unmodifiableList(skipped); }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+
+        public double getReceiptsPerSecond() {
+            return elapsedNanos > 0 ? posted * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d posted to %d statements (P %,.2f) in %.1f ms, %d skipped",
+                channel, posted, statements, amountPosted, getElapsedMillis(), skipped.size());
+        }
+    }
+}
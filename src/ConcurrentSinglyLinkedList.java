@@ -0,0 +1,295 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free concurrent variant of EnhancedSinglyLinkedList for producer/consumer hand-off
+ * Features:
+ * - Michael-Scott non-blocking queue: CAS on head/tail, no locks
+ * - Any number of producers (addLast/offer) and consumers (removeFirst/poll)
+ * - Linearizable add/poll/peek; each element is handed to exactly one consumer
+ * - Weakly consistent iterator: never throws ConcurrentModificationException,
+ *   sees elements present at creation and may see later additions
+ * - Batch drainTo() for writers that persist several items per flush
+ *
+ * Intended as the hand-off buffer between threads that produce records
+ * (attendance marking, payment posting) and the threads that persist them.
+ */
+public class ConcurrentSinglyLinkedList<T> implements Iterable<T> {
+
+    /**
+     * Queue node; item is cleared once the node has been consumed and
+     * next points to the node itself once it has been unlinked
+     */
+    private static class ConcurrentNode<T> {
+        private volatile T item;
+        private volatile ConcurrentNode<T> next;
+
+        ConcurrentNode(T item) {
+            this.item = item;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentNode, ConcurrentNode> NEXT =
+        AtomicReferenceFieldUpdater.newUpdater(ConcurrentNode.class, ConcurrentNode.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentSinglyLinkedList, ConcurrentNode> HEAD =
+        AtomicReferenceFieldUpdater.newUpdater(ConcurrentSinglyLinkedList.class, ConcurrentNode.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentSinglyLinkedList, ConcurrentNode> TAIL =
+        AtomicReferenceFieldUpdater.newUpdater(ConcurrentSinglyLinkedList.class, ConcurrentNode.class, "tail");
+
+    // head always points at a dummy node; the first element is head.next
+    private volatile ConcurrentNode<T> head;
+    private volatile ConcurrentNode<T> tail;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentSinglyLinkedList() {
+        ConcurrentNode<T> dummy = new ConcurrentNode<>(null);
+        this.head = dummy;
+        this.tail = dummy;
+    }
+
+    /**
+     * Add element to the end of the list - O(1), lock-free
+     */
+    public void add(T data) {
+        addLast(data);
+    }
+
+    /**
+     * Add element to the end of the list - O(1), lock-free
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+
+        ConcurrentNode<T> newNode = new ConcurrentNode<>(data);
+        while (true) {
+            ConcurrentNode<T> last = tail;
+            ConcurrentNode<T> next = last.next;
+            if (last != tail) {
+                continue; // tail moved underneath us, re-read
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    TAIL.compareAndSet(this, last, newNode); // may fail; another thread will help
+                    size.incrementAndGet();
+                    return;
+                }
+            } else {
+                TAIL.compareAndSet(this, last, next); // help a lagging tail forward
+            }
+        }
+    }
+
+    /**
+     * Queue-style alias for addLast; always succeeds (unbounded)
+     */
+    public boolean offer(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Remove and return the first element, or null when empty - O(1), lock-free
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        while (true) {
+            ConcurrentNode<T> first = head;
+            ConcurrentNode<T> last = tail;
+            ConcurrentNode<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (first == last) {
+                if (next == null) {
+                    return null;
+                }
+                TAIL.compareAndSet(this, last, next); // tail is lagging, help it
+            } else {
+                T data = next.item;
+                if (HEAD.compareAndSet(this, first, next)) {
+                    next.item = null; // next is the new dummy; drop the reference
+                    first.next = first; // self-link old dummy: lets GC reclaim it, tells iterators to restart
+                    size.decrementAndGet();
+                    return data;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove and return the first element - O(1), lock-free
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T removeFirst() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return data;
+    }
+
+    /**
+     * Return the first element without removing it, or null when empty - O(1)
+     */
+    public T peek() {
+        while (true) {
+            ConcurrentNode<T> first = head;
+            ConcurrentNode<T> next = first.next;
+            if (next == null) {
+                return null;
+            }
+            T data = next.item;
+            if (first == head && data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Get first element - O(1)
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T getFirst() {
+        T data = peek();
+        if (data == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return data;
+    }
+
+    /**
+     * Remove up to maxElements from the front and hand them to the consumer - O(k)
+     * Returns the number of elements drained.
+     */
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            T data = poll();
+            if (data == null) {
+                break;
+            }
+            consumer.accept(data);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Remove all available elements and hand them to the consumer - O(k)
+     */
+    public int drainTo(Consumer<? super T> consumer) {
+        return drainTo(consumer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get list size - O(1)
+     * Exact when quiescent; only an estimate while other threads are modifying the list.
+     */
+    public int getSize() {
+        return Math.max(0, size.get());
+    }
+
+    /**
+     * Check if list is empty - O(1)
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Check if list contains element - O(n), weakly consistent
+     */
+    public boolean contains(T data) {
+        if (data == null) return false;
+        for (T item : this) {
+            if (data.equals(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove all elements currently present - O(n)
+     */
+    public void clear() {
+        while (poll() != null) {
+            // keep polling until empty
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        boolean first = true;
+        for (T item : this) {
+            if (!first) {
+                sb.append(" -> ");
+            }
+            sb.append(item);
+            first = false;
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new WeaklyConsistentIterator();
+    }
+
+    /**
+     * Weakly consistent iterator: walks next pointers from the current head and
+     * skips nodes that have been consumed in the meantime. Never throws
+     * ConcurrentModificationException and does not support remove().
+     */
+    private class WeaklyConsistentIterator implements Iterator<T> {
+        private ConcurrentNode<T> current = head;
+        private T nextItem = null;
+
+        @Override
+        public boolean hasNext() {
+            if (nextItem != null) {
+                return true;
+            }
+            ConcurrentNode<T> node = successor(current);
+            while (node != null) {
+                T item = node.item;
+                current = node;
+                if (item != null) {
+                    nextItem = item;
+                    return true;
+                }
+                node = successor(node);
+            }
+            return false;
+        }
+
+        /**
+         * Next node, restarting from head if node was unlinked by a consumer
+         */
+        private ConcurrentNode<T> successor(ConcurrentNode<T> node) {
+            ConcurrentNode<T> next = node.next;
+            return next == node ? head.next : next;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = nextItem;
+            nextItem = null;
+            return item;
+        }
+    }
+}
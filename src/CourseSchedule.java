@@ -1,11 +1,10 @@
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Set;
-import java.util.HashSet;
-import java.util.Arrays;
 
 /**
  * Data class to hold course schedule information
+ * Days are also kept as a bitmask (see Timetable.parseDayMask) and times as
+ * minutes of the day, so schedule lookups need no string or time parsing.
  */
 public class CourseSchedule {
     private String studentID;
@@ -19,6 +18,9 @@ public class CourseSchedule {
     private String room;
     private String instructor;
     private String semester;
+    private final int dayMask;
+    private final int startMinute;
+    private final int endMinute;
     
     public CourseSchedule(String studentID, String classCode, String courseNumber, 
                          String courseDescription, int units, LocalTime startTime, 
@@ -34,6 +36,9 @@ public class CourseSchedule {
         this.room = room;
         this.instructor = instructor;
         this.semester = semester;
+        this.dayMask = Timetable.parseDayMask(days);
+        this.startMinute = startTime.getHour() * 60 + startTime.getMinute();
+        this.endMinute = endTime.getHour() * 60 + endTime.getMinute();
     }
     
     // Getters
@@ -48,15 +53,26 @@ public class CourseSchedule {
     public String getRoom() { return room; }
     public String getInstructor() { return instructor; }
     public String getSemester() { return semester; }
+    public int getDayMask() { return dayMask; }
+    public int getStartMinute() { return startMinute; }
+    public int getEndMinute() { return endMinute; }
     
     /**
-     * Checks if this course occurs on a specific day
+     * Checks if this course occurs on a specific day code such as "M", "T", "TH" or "S"
      */
     public boolean occursOn(String day) {
-        Set<String> daySet = new HashSet<>(Arrays.asList(days.split("")));
-        return daySet.contains(day);
+        int mask = Timetable.parseDayMask(day);
+        return mask != 0 && (dayMask & mask) == mask;
     }
     
+    /**
+     * Checks if this course occurs on a day index (Timetable.SUNDAY .. Timetable.SATURDAY)
+     */
+    public boolean occursOn(int dayIndex) {
+        return (dayMask & (1 << dayIndex)) != 0;
+    }
+
+    
     /**
      * Gets the formatted time range
      */
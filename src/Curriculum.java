@@ -0,0 +1,220 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Program curriculum with units and a prerequisite graph, loaded from curriculum.txt
+ * Features:
+ * - Courses numbered 0..n-1 in curriculum order (year, term, listing order)
+ * - Prerequisites stored as one BitSet per course over those numbers
+ * - Prerequisites must be listed earlier, so the graph is a DAG by construction
+ * - O(1) code lookup by course number or any grade-record code, ignoring spaces
+ * - Reloaded only when curriculum.txt changes on disk
+ */
+public final class Curriculum {
+    private static final String CURRICULUM_FILE = "curriculum.txt";
+    private static final String[] YEAR_NAMES = {"First", "Second", "Third", "Fourth", "Fifth"};
+
+    private static volatile Curriculum current;
+    private static long loadedModified = -1;
+
+    private final String[] codes;
+    private final String[] descriptions;
+    private final double[] units;
+    private final int[] termOf;
+    private final BitSet[] prerequisites;
+    private final List<String> termLabels;
+    private final Map<String, Integer> indexByCode;
+    private final BitSet allCourses;
+    private final double totalUnits;
+
+    private Curriculum(List<String[]> rows) {
+        int n = rows.size();
+        codes = new String[n];
+        descriptions = new String[n];
+        units = new double[n];
+        termOf = new int[n];
+        prerequisites = new BitSet[n];
+        termLabels = new ArrayList<>();
+        indexByCode = new HashMap<>();
+        allCourses = new BitSet(n);
+
+        String previousTerm = null;
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            String[] row = rows.get(i);
+            String termLabel = yearName(row[0]) + " Year, " + row[1].trim();
+            if (!termLabel.equals(previousTerm)) {
+                termLabels.add(termLabel);
+                previousTerm = termLabel;
+            }
+            codes[i] = row[2].trim();
+            units[i] = Double.parseDouble(row[3].trim());
+            descriptions[i] = row[6].trim();
+            termOf[i] = termLabels.size() - 1;
+            sum += units[i];
+            allCourses.set(i);
+
+            // Prerequisites resolve only against earlier courses, which rules out cycles
+            prerequisites[i] = new BitSet(n);
+            for (String prerequisite : splitList(row[4])) {
+                Integer index = indexByCode.get(normalize(prerequisite));
+                if (index == null) {
+                    System.err.println("Unknown or later-listed prerequisite " + prerequisite + " for " + codes[i]);
+                } else {
+                    prerequisites[i].set(index);
+                }
+            }
+
+            indexByCode.put(normalize(codes[i]), i);
+            for (String alias : splitList(row[5])) {
+                indexByCode.put(normalize(alias), i);
+            }
+        }
+        totalUnits = sum;
+    }
+
+    /**
+     * The curriculum in curriculum.txt, reloaded only after the file changes
+     */
+    public static Curriculum load() {
+        reloadIfChanged();
+        return current;
+    }
+
+    private static synchronized void reloadIfChanged() {
+        File file = new File(CURRICULUM_FILE);
+        long modified = file.exists() ? file.lastModified() : 0;
+        if (current != null && modified == loadedModified) {
+            return;
+        }
+
+        List<String[]> rows;
+        try {
+            rows = FileIOManager.readAndProcess(file, (line, lineNumber) -> {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:") || line.startsWith("#")) {
+                    return null;
+                }
+                String[] parts = line.split(",", 7); // description is last and may contain commas
+                if (parts.length < 7 || !isWellFormed(parts)) {
+                    System.err.println("Skipping malformed curriculum line " + (lineNumber + 1) + ": " + line);
+                    return null;
+                }
+                return parts;
+            });
+        } catch (IOException e) {
+            System.err.println("Error reading curriculum: " + e.getMessage());
+            rows = new ArrayList<>();
+        }
+        current = new Curriculum(rows);
+        loadedModified = modified;
+    }
+
+    /**
+     * Course number used to look up codes: upper case without spaces
+     */
+    public static String normalize(String code) {
+        return code.replace(" ", "").trim().toUpperCase();
+    }
+
+    /**
+     * Year is a positive number, the course has a code and units are a non-negative number
+     */
+    private static boolean isWellFormed(String[] parts) {
+        try {
+            return Integer.parseInt(parts[0].trim()) > 0
+                && !parts[2].trim().isEmpty()
+                && Double.parseDouble(parts[3].trim()) >= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static List<String> splitList(String field) {
+        List<String> values = new ArrayList<>();
+        for (String value : field.split(";")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    private static String yearName(String year) {
+        int index = Integer.parseInt(year.trim()) - 1;
+        return index >= 0 && index < YEAR_NAMES.length ? YEAR_NAMES[index] : year.trim();
+    }
+
+    /**
+     * Index of a course by course number or grade-record code, or -1 - O(1)
+     */
+    public int indexOf(String code) {
+        return code == null ? -1 : indexByCode.getOrDefault(normalize(code), -1);
+    }
+
+    public int size() { return codes.length; }
+    public String getCode(int index) { return codes[index]; }
+    public String getDescription(int index) { return descriptions[index]; }
+    public double getUnits(int index) { return units[index]; }
+
+    /**
+     * Units of a course by any of its codes, or the fallback for courses outside the curriculum - O(1)
+     */
+    public double getUnits(String code, double fallback) {
+        int index = indexOf(code);
+        return index >= 0 ? units[index] : fallback;
+    }
+    public double getTotalUnits() { return totalUnits; }
+
+    /**
+     * Term of a course as an index into getTermLabels()
+     */
+    public int getTerm(int index) { return termOf[index]; }
+
+    /**
+     * Labels such as "First Year, First Semester" in curriculum order
+     */
+    public List<String> getTermLabels() { return Collections.unmodifiableList(termLabels); }
+
+    /**
+     * Direct prerequisites of a course (copy)
+     */
+    public BitSet getPrerequisites(int index) {
+        return (BitSet) prerequisites[index].clone();
+    }
+
+    /**
+     * Courses not yet completed whose prerequisites are all completed - O(n * n/64)
+     */
+    public BitSet eligibleCourses(BitSet completed) {
+        BitSet missing = (BitSet) allCourses.clone();
+        missing.andNot(completed);
+        BitSet eligible = new BitSet(codes.length);
+        for (int i = missing.nextSetBit(0); i >= 0; i = missing.nextSetBit(i + 1)) {
+            if (!prerequisites[i].intersects(missing)) {
+                eligible.set(i);
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Units of the given set of courses - O(n/64 + set bits)
+     */
+    public double unitsOf(BitSet courses) {
+        double sum = 0.0;
+        for (int i = courses.nextSetBit(0); i >= 0 && i < codes.length; i = courses.nextSetBit(i + 1)) {
+            sum += units[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Units still to be taken
+     */
+    public double remainingUnits(BitSet completed) {
+        BitSet missing = (BitSet) allCourses.clone();
+        missing.andNot(completed);
+        return unitsOf(missing);
+    }
+}
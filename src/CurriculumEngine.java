@@ -0,0 +1,180 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates students' progress against the curriculum
+ * Features:
+ * - Completed and in-progress courses as bitsets derived from grade records
+ * - Eligible next courses and remaining units answered with bitwise operations
+ * - Whole student body evaluated in one fork-join pass over gradeRecords.txt
+ */
+public class CurriculumEngine {
+    private static final String GRADES_FILE = "gradeRecords.txt";
+    private static final String STATUS_ONGOING = "Ongoing";
+    private static final int SEQUENTIAL_THRESHOLD = 64; // students per fork-join leaf
+
+    /**
+     * Progress of one student using the cached grade records - O(r + n * n/64)
+     */
+    public static Progress evaluate(String studentID) {
+        return evaluate(Curriculum.load(), studentID, OptimizedDataManager.getGradeRecords(studentID));
+    }
+
+    /**
+     * Progress of one student from the given grade records
+     * A course is completed with a final grade of at least the passing grade,
+     * and in progress while its record is still ongoing.
+     */
+    public static Progress evaluate(Curriculum curriculum, String studentID, List<GradeRecord> records) {
+        BitSet completed = new BitSet(curriculum.size());
+        BitSet inProgress = new BitSet(curriculum.size());
+        for (GradeRecord record : records) {
+            int index = curriculum.indexOf(record.getSubjectCode());
+            if (index < 0) continue;
+
+            double finalGrade = record.getFinalValue();
+            if (!Double.isNaN(finalGrade) && finalGrade >= GradeAggregator.PASSING_GRADE
+                    && !STATUS_ONGOING.equalsIgnoreCase(record.getStatus())) {
+                completed.set(index);
+            } else if (STATUS_ONGOING.equalsIgnoreCase(record.getStatus())) {
+                inProgress.set(index);
+            }
+        }
+        inProgress.andNot(completed);
+        return new Progress(curriculum, studentID, completed, inProgress);
+    }
+
+    /**
+     * Progress of every student in gradeRecords.txt, evaluated in parallel - O(r + s * n * n/64 / cores)
+     */
+    public static Map<String, Progress> evaluateAll() {
+        Curriculum curriculum = Curriculum.load();
+        Map<String, List<GradeRecord>> byStudent = new HashMap<>();
+        try {
+            FileIOManager.readAndProcess(new File(GRADES_FILE), (line, lineNumber) -> {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:") || line.startsWith("#")) {
+                    return null;
+                }
+                try {
+                    GradeRecord record = GradeRecord.fromCsvFormat(line);
+                    if (record != null) {
+                        byStudent.computeIfAbsent(record.getStudentID(), id -> new ArrayList<>()).add(record);
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println("Skipping malformed grade line " + (lineNumber + 1) + ": " + line);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            System.err.println("Error reading grade records: " + e.getMessage());
+        }
+        return evaluateAll(curriculum, byStudent);
+    }
+
+    /**
+     * Progress of every student in the map using the common fork-join pool
+     */
+    public static Map<String, Progress> evaluateAll(Curriculum curriculum, Map<String, List<GradeRecord>> recordsByStudent) {
+        List<Map.Entry<String, List<GradeRecord>>> students = new ArrayList<>(recordsByStudent.entrySet());
+        Progress[] results = new Progress[students.size()];
+        ForkJoinPool.commonPool().invoke(new EvaluateTask(curriculum, students, results, 0, students.size()));
+
+        Map<String, Progress> progress = new HashMap<>();
+        for (Progress result : results) {
+            progress.put(result.getStudentID(), result);
+        }
+        return progress;
+    }
+
+    /**
+     * Splits the student range in halves until it is small enough to evaluate directly
+     */
+    private static class EvaluateTask extends RecursiveTask<Void> {
+        private final Curriculum curriculum;
+        private final List<Map.Entry<String, List<GradeRecord>>> students;
+        private final Progress[] results;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(Curriculum curriculum, List<Map.Entry<String, List<GradeRecord>>> students,
+                     Progress[] results, int from, int to) {
+            this.curriculum = curriculum;
+            this.students = students;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    Map.Entry<String, List<GradeRecord>> student = students.get(i);
+                    results[i] = evaluate(curriculum, student.getKey(), student.getValue());
+                }
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            EvaluateTask left = new EvaluateTask(curriculum, students, results, from, mid);
+            left.fork();
+            new EvaluateTask(curriculum, students, results, mid, to).compute();
+            left.join();
+            return null;
+        }
+    }
+
+    /**
+     * A student's standing against the curriculum
+     */
+    public static class Progress {
+        private final Curriculum curriculum;
+        private final String studentID;
+        private final BitSet completed;
+        private final BitSet inProgress;
+        private final BitSet eligible;
+
+        Progress(Curriculum curriculum, String studentID, BitSet completed, BitSet inProgress) {
+            this.curriculum = curriculum;
+            this.studentID = studentID;
+            this.completed = completed;
+            this.inProgress = inProgress;
+
+            // Next-term eligibility assumes the courses in progress are passed
+            BitSet projected = (BitSet) completed.clone();
+            projected.or(inProgress);
+            this.eligible = curriculum.eligibleCourses(projected);
+        }
+
+        public String getStudentID() { return studentID; }
+        public Curriculum getCurriculum() { return curriculum; }
+
+        public boolean isCompleted(int course) { return completed.get(course); }
+        public boolean isInProgress(int course) { return inProgress.get(course); }
+        public boolean isEligible(int course) { return eligible.get(course); }
+
+        public BitSet getCompleted() { return (BitSet) completed.clone(); }
+        public BitSet getInProgress() { return (BitSet) inProgress.clone(); }
+
+        /**
+         * Courses that can be taken next term (copy)
+         */
+        public BitSet getEligible() { return (BitSet) eligible.clone(); }
+
+        public double getCompletedUnits() { return curriculum.unitsOf(completed); }
+        public double getRemainingUnits() { return curriculum.remainingUnits(completed); }
+
+        /**
+         * Course numbers of the eligible courses in curriculum order
+         */
+        public List<String> getEligibleCodes() {
+            List<String> result = new ArrayList<>();
+            for (int i = eligible.nextSetBit(0); i >= 0; i = eligible.nextSetBit(i + 1)) {
+                result.add(curriculum.getCode(i));
+            }
+            return result;
+        }
+    }
+}
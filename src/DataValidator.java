@@ -26,7 +26,7 @@ public class DataValidator {
         "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
     );
     private static final Pattern PHONE_PATTERN = Pattern.compile("^[0-9+\\-\\s\\(\\)]{7,20}$");
-    private static final Pattern SUBJECT_CODE_PATTERN = Pattern.compile("^[A-Z]{2,6}\\d{2,3}[A-Z]?$");
+    private static final Pattern SUBJECT_CODE_PATTERN = Pattern.compile("^[A-Z]{2,8}(\\d{2,3}[A-Z]?)?$");
     
     // Date formatters
     private static final DateTimeFormatter[] DATE_FORMATTERS = {
@@ -275,7 +275,7 @@ public class DataValidator {
         String trimmedCode = subjectCode.trim().toUpperCase();
         
         if (!SUBJECT_CODE_PATTERN.matcher(trimmedCode).matches()) {
-            result.addError("Subject code format is invalid. Expected format: 2-6 letters followed by 2-3 digits, optionally followed by a letter");
+            result.addError("Subject code format is invalid. Expected format: 2-8 letters, optionally followed by 2-3 digits and a letter");
             return new ValidationResult(false, result.getErrors(), result.getWarnings());
         }
         
@@ -352,31 +352,31 @@ public class DataValidator {
         
         // Combine results
         if (!idResult.isValid()) {
-            result.getErrors().addAll(idResult.getErrors());
+            idResult.getErrors().forEach(result::addError);
         }
         if (!firstNameResult.isValid()) {
-            result.getErrors().addAll(firstNameResult.getErrors());
+            firstNameResult.getErrors().forEach(result::addError);
         }
         if (!lastNameResult.isValid()) {
-            result.getErrors().addAll(lastNameResult.getErrors());
+            lastNameResult.getErrors().forEach(result::addError);
         }
         if (!middleNameResult.isValid()) {
-            result.getErrors().addAll(middleNameResult.getErrors());
+            middleNameResult.getErrors().forEach(result::addError);
         }
         if (!dobResult.isValid()) {
-            result.getErrors().addAll(dobResult.getErrors());
+            dobResult.getErrors().forEach(result::addError);
         }
         if (!passwordResult.isValid()) {
-            result.getErrors().addAll(passwordResult.getErrors());
+            passwordResult.getErrors().forEach(result::addError);
         }
         
         // Collect warnings
-        result.getWarnings().addAll(idResult.getWarnings());
-        result.getWarnings().addAll(firstNameResult.getWarnings());
-        result.getWarnings().addAll(lastNameResult.getWarnings());
-        result.getWarnings().addAll(middleNameResult.getWarnings());
-        result.getWarnings().addAll(dobResult.getWarnings());
-        result.getWarnings().addAll(passwordResult.getWarnings());
+        idResult.getWarnings().forEach(result::addWarning);
+        firstNameResult.getWarnings().forEach(result::addWarning);
+        lastNameResult.getWarnings().forEach(result::addWarning);
+        middleNameResult.getWarnings().forEach(result::addWarning);
+        dobResult.getWarnings().forEach(result::addWarning);
+        passwordResult.getWarnings().forEach(result::addWarning);
         
         boolean isValid = result.getErrors().isEmpty();
         return new ValidationResult(isValid, result.getErrors(), result.getWarnings());
@@ -397,10 +397,10 @@ public class DataValidator {
         ValidationResult subjectResult = validateSubjectCode(record.getSubjectCode());
         
         if (!idResult.isValid()) {
-            result.getErrors().addAll(idResult.getErrors());
+            idResult.getErrors().forEach(result::addError);
         }
         if (!subjectResult.isValid()) {
-            result.getErrors().addAll(subjectResult.getErrors());
+            subjectResult.getErrors().forEach(result::addError);
         }
         
         // Validate status
@@ -444,18 +444,18 @@ public class DataValidator {
         ValidationResult finalResult = validateGrade(record.getFinalGrade(), "Final grade");
         
         // Combine results
-        if (!idResult.isValid()) result.getErrors().addAll(idResult.getErrors());
-        if (!subjectResult.isValid()) result.getErrors().addAll(subjectResult.getErrors());
-        if (!prelimResult.isValid()) result.getErrors().addAll(prelimResult.getErrors());
-        if (!midtermResult.isValid()) result.getErrors().addAll(midtermResult.getErrors());
-        if (!tentativeResult.isValid()) result.getErrors().addAll(tentativeResult.getErrors());
-        if (!finalResult.isValid()) result.getErrors().addAll(finalResult.getErrors());
+        if (!idResult.isValid()) idResult.getErrors().forEach(result::addError);
+        if (!subjectResult.isValid()) subjectResult.getErrors().forEach(result::addError);
+        if (!prelimResult.isValid()) prelimResult.getErrors().forEach(result::addError);
+        if (!midtermResult.isValid()) midtermResult.getErrors().forEach(result::addError);
+        if (!tentativeResult.isValid()) tentativeResult.getErrors().forEach(result::addError);
+        if (!finalResult.isValid()) finalResult.getErrors().forEach(result::addError);
         
         // Collect warnings
-        result.getWarnings().addAll(prelimResult.getWarnings());
-        result.getWarnings().addAll(midtermResult.getWarnings());
-        result.getWarnings().addAll(tentativeResult.getWarnings());
-        result.getWarnings().addAll(finalResult.getWarnings());
+        prelimResult.getWarnings().forEach(result::addWarning);
+        midtermResult.getWarnings().forEach(result::addWarning);
+        tentativeResult.getWarnings().forEach(result::addWarning);
+        finalResult.getWarnings().forEach(result::addWarning);
         
         boolean isValid = result.getErrors().isEmpty();
         return new ValidationResult(isValid, result.getErrors(), result.getWarnings());
@@ -472,6 +472,17 @@ public class DataValidator {
         return results;
     }
     
+    /**
+     * Batch validation spread across cores; results keep the order of items
+     * The validator must be thread-safe, as the static validators here are.
+     */
+    public static <T> List<ValidationResult> parallelBatchValidate(List<T> items, Validator<T> validator) {
+        ValidationResult[] results = new ValidationResult[items.size()];
+        java.util.stream.IntStream.range(0, items.size()).parallel()
+            .forEach(i -> results[i] = validator.validate(items.get(i)));
+        return java.util.Arrays.asList(results);
+    }
+    
     /**
      * Check if name is properly capitalized
      */
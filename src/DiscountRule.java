@@ -0,0 +1,198 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * One scholarship or discount: who qualifies and how much it takes off
+ * Eligibility is a predicate over grades, program and date; the amount is a
+ * percentage of tuition or of all charges, or a fixed amount. Rules are
+ * immutable and posted to statements as a DISCOUNT fee under their own code.
+ *
+ * Line format in discountRules.txt:
+ *   Code,Description,Kind,Value,Base,Conditions
+ *   Conditions are ';'-separated: gwa>=N, gwa<=N, program=A|B,
+ *   before=yyyy-MM-dd, from=yyyy-MM-dd, until=yyyy-MM-dd
+ */
+public class DiscountRule {
+    public enum Kind { PERCENTAGE, FIXED }
+
+    /**
+     * What a percentage is taken of
+     */
+    public enum Base { TUITION, FEES }
+
+    private final String code;
+    private final String description;
+    private final Kind kind;
+    private final double value;
+    private final Base base;
+    private final Predicate<Context> eligibility;
+    private final String conditions;
+
+    public DiscountRule(String code, String description, Kind kind, double value, Base base,
+                        Predicate<Context> eligibility, String conditions) {
+        if (code == null || code.trim().isEmpty() || kind == null || base == null || eligibility == null) {
+            throw new IllegalArgumentException("Discount rules need a code, kind, base and eligibility");
+        }
+        if (value <= 0 || (kind == Kind.PERCENTAGE && value > 100)) {
+            throw new IllegalArgumentException("Invalid discount value for " + code + ": " + value);
+        }
+        this.code = code.trim();
+        this.description = description;
+        this.kind = kind;
+        this.value = value;
+        this.base = base;
+        this.eligibility = eligibility;
+        this.conditions = conditions == null ? "" : conditions;
+    }
+
+    /**
+     * Whether the student qualifies - O(conditions)
+     */
+    public boolean appliesTo(Context context) {
+        return eligibility.test(context);
+    }
+
+    /**
+     * Discount for a statement, never more than the base it is taken from - O(1)
+     */
+    public double amountFor(AccountStatement statement) {
+        double baseAmount = base == Base.TUITION ? statement.getTotalTuition() : chargesOf(statement);
+        double amount = kind == Kind.PERCENTAGE ? baseAmount * value / 100.0 : value;
+        return Math.max(0, Math.min(amount, baseAmount));
+    }
+
+    private static double chargesOf(AccountStatement statement) {
+        double charges = 0;
+        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+            if (fee.getType() != FeeBreakdown.FeeType.DISCOUNT && fee.getAmount() > 0) {
+                charges += fee.getAmount();
+            }
+        }
+        return charges;
+    }
+
+    public String getCode() { return code; }
+    public String getDescription() { return description; }
+    public Kind getKind() { return kind; }
+    public double getValue() { return value; }
+    public Base getBase() { return base; }
+    public String getConditions() { return conditions; }
+
+    /**
+     * Parse a discountRules.txt line; the description may contain commas
+     */
+    public static DiscountRule parse(String line) {
+        String[] parts = line.split(",", -1);
+        if (parts.length < 6) {
+            throw new IllegalArgumentException("Expected Code,Description,Kind,Value,Base,Conditions: " + line);
+        }
+        int n = parts.length;
+        String description = String.join(",", Arrays.copyOfRange(parts, 1, n - 4)).trim();
+        try {
+            return new DiscountRule(parts[0], description,
+                Kind.valueOf(parts[n - 4].trim().toUpperCase()),
+                Double.parseDouble(parts[n - 3].trim()),
+                Base.valueOf(parts[n - 2].trim().toUpperCase()),
+                parseConditions(parts[n - 1]), parts[n - 1].trim());
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid discount rule: " + line + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * All conditions must hold; no conditions means everyone qualifies
+     */
+    static Predicate<Context> parseConditions(String text) {
+        List<Predicate<Context>> all = new ArrayList<>();
+        for (String condition : text.split(";")) {
+            condition = condition.trim();
+            if (condition.isEmpty()) {
+                continue;
+            }
+            if (condition.startsWith("gwa>=")) {
+                all.add(gwaAtLeast(Double.parseDouble(condition.substring(5))));
+            } else if (condition.startsWith("gwa<=")) {
+                all.add(gwaAtMost(Double.parseDouble(condition.substring(5))));
+            } else if (condition.startsWith("program=")) {
+                all.add(program(condition.substring(8).split("\\|")));
+            } else if (condition.startsWith("before=")) {
+                all.add(before(LocalDate.parse(condition.substring(7))));
+            } else if (condition.startsWith("from=")) {
+                all.add(onOrAfter(LocalDate.parse(condition.substring(5))));
+            } else if (condition.startsWith("until=")) {
+                all.add(onOrBefore(LocalDate.parse(condition.substring(6))));
+            } else {
+                throw new IllegalArgumentException("Unknown condition " + condition);
+            }
+        }
+        return context -> {
+            for (Predicate<Context> predicate : all) {
+                if (!predicate.test(context)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    // Eligibility predicates; combine with Predicate.and/or/negate
+
+    public static Predicate<Context> gwaAtLeast(double gwa) {
+        return context -> !Double.isNaN(context.gwa) && context.gwa >= gwa;
+    }
+
+    public static Predicate<Context> gwaAtMost(double gwa) {
+        return context -> !Double.isNaN(context.gwa) && context.gwa <= gwa;
+    }
+
+    public static Predicate<Context> program(String... programs) {
+        List<String> accepted = new ArrayList<>();
+        for (String program : programs) {
+            accepted.add(program.trim().toUpperCase());
+        }
+        return context -> context.program != null && accepted.contains(context.program.toUpperCase());
+    }
+
+    public static Predicate<Context> before(LocalDate date) {
+        return context -> context.date.isBefore(date);
+    }
+
+    public static Predicate<Context> onOrAfter(LocalDate date) {
+        return context -> !context.date.isBefore(date);
+    }
+
+    public static Predicate<Context> onOrBefore(LocalDate date) {
+        return context -> !context.date.isAfter(date);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s,%s,%s,%.2f,%s,%s", code, description, kind, value, base, conditions);
+    }
+
+    /**
+     * What eligibility is decided on: the student's GWA (NaN without grades),
+     * program and enrollment date
+     */
+    public static class Context {
+        private final String studentID;
+        private final double gwa;
+        private final String program;
+        private final LocalDate date;
+
+        public Context(String studentID, double gwa, String program, LocalDate date) {
+            this.studentID = studentID;
+            this.gwa = gwa;
+            this.program = program;
+            this.date = date;
+        }
+
+        public String getStudentID() { return studentID; }
+        public double getGWA() { return gwa; }
+        public String getProgram() { return program; }
+        public LocalDate getDate() { return date; }
+    }
+}
@@ -0,0 +1,204 @@
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Applies scholarship and discount rules to statements
+ * Features:
+ * - Rules are data (discountRules.txt, see DiscountRule) instead of code:
+ *   eligibility over GWA, program and enrollment date; percentage or fixed amounts
+ * - Each rule owns a fee code; re-applying a rule updates or removes its
+ *   discount as eligibility changes, so passes can be repeated safely
+ * - applyToAll() covers the whole student body in one parallel pass, with
+ *   GWAs read in one snapshot and statements saved once at the end
+ *
+ * The enrollment date is the posting date of a statement's earliest fee.
+ */
+public class DiscountRuleEngine {
+    private static final String RULES_FILE = "discountRules.txt";
+    private static final String[] DEFAULT_RULES = {
+        "=== DISCOUNT RULES ===",
+        "Format: Code,Description,Kind,Value,Base,Conditions",
+        "Kind: PERCENTAGE or FIXED; Base: TUITION or FEES (all charges before discounts)",
+        "Conditions: ';'-separated gwa>=N, gwa<=N, program=A|B, before=yyyy-MM-dd, from=yyyy-MM-dd, until=yyyy-MM-dd",
+        "",
+        "DISC01,Early Enrollment Discount (5%),FIXED,2225.00,FEES,before=2025-07-15"
+    };
+
+    private static volatile List<DiscountRule> rules = loadRules();
+
+    /**
+     * Active rules in the order they are applied
+     */
+    public static List<DiscountRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Replace the active rules, e.g. for a one-off pass; discountRules.txt is not changed
+     */
+    public static void setRules(List<DiscountRule> newRules) {
+        if (newRules == null) {
+            throw new IllegalArgumentException("Rules cannot be null");
+        }
+        rules = Collections.unmodifiableList(new ArrayList<>(newRules));
+    }
+
+    /**
+     * Re-read discountRules.txt
+     */
+    public static void reloadRules() {
+        rules = loadRules();
+    }
+
+    /**
+     * Apply the rules to one statement; the caller saves it - O(rules * fees)
+     * Returns the number of discounts added, changed or removed.
+     */
+    public static int applyTo(AccountStatement statement, LocalDate asOf) {
+        BulkResult result = new BulkResult();
+        synchronized (statement) {
+            apply(statement, rules, GradeAggregator.getGWA(statement.getStudentID()), asOf, result);
+        }
+        return result.added.get() + result.changed.get() + result.removed.get();
+    }
+
+    /**
+     * Apply the rules to every statement in parallel and save once - O(n * rules * fees / cores)
+     */
+    public static BulkResult applyToAll(LocalDate asOf) {
+        long start = System.nanoTime();
+        List<DiscountRule> active = rules;
+        List<AccountStatement> statements = AccountStatementManager.getAllStatements();
+        Map<String, Double> gwas = GradeAggregator.getAllGWAs(); // one lock acquisition for the pass
+
+        BulkResult result = new BulkResult();
+        statements.parallelStream().forEach(statement -> {
+            synchronized (statement) { // not while a payment is applied or the statement saved
+                apply(statement, active, gwas.getOrDefault(statement.getStudentID(), Double.NaN), asOf, result);
+            }
+        });
+        result.statements = statements.size();
+
+        if (result.added.get() + result.changed.get() + result.removed.get() > 0) {
+            AccountStatementManager.saveStatements();
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static void apply(AccountStatement statement, List<DiscountRule> active, double gwa,
+                              LocalDate asOf, BulkResult result) {
+        DiscountRule.Context context = new DiscountRule.Context(statement.getStudentID(), gwa,
+            AccountStatementManager.getProgram(statement.getStudentID()), enrollmentDate(statement, asOf));
+
+        for (DiscountRule rule : active) {
+            FeeBreakdown existing = findDiscount(statement, rule.getCode());
+            if (!rule.appliesTo(context)) {
+                if (existing != null) {
+                    statement.removeFee(rule.getCode());
+                    result.removed.incrementAndGet();
+                    result.discountTotal.add(-existing.getAmount()); // discounts are negative
+                }
+                continue;
+            }
+
+            double amount = rule.amountFor(statement);
+            if (existing != null && Math.abs(existing.getAmount() + amount) < 0.005) {
+                result.unchanged.incrementAndGet();
+                continue;
+            }
+            if (existing != null) {
+                statement.removeFee(rule.getCode());
+                result.discountTotal.add(-existing.getAmount());
+            }
+            if (amount > 0) {
+                statement.addFee(new FeeBreakdown(rule.getCode(), rule.getDescription(), -amount,
+                    FeeBreakdown.FeeType.DISCOUNT, asOf, rule.getConditions().replace(",", ";")));
+                result.discountTotal.add(-amount);
+            }
+            (existing == null ? result.added : result.changed).incrementAndGet();
+        }
+    }
+
+    private static FeeBreakdown findDiscount(AccountStatement statement, String code) {
+        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+            if (fee.getType() == FeeBreakdown.FeeType.DISCOUNT && fee.getCode().equals(code)) {
+                return fee;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate enrollmentDate(AccountStatement statement, LocalDate asOf) {
+        LocalDate earliest = null;
+        for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+            LocalDate posted = fee.getDatePosted();
+            if (posted != null && fee.getType() != FeeBreakdown.FeeType.DISCOUNT
+                    && (earliest == null || posted.isBefore(earliest))) {
+                earliest = posted;
+            }
+        }
+        return earliest != null ? earliest : asOf;
+    }
+
+    private static List<DiscountRule> loadRules() {
+        File file = new File(RULES_FILE);
+        List<DiscountRule> loaded = new ArrayList<>();
+        try {
+            if (!file.exists()) {
+                FileIOManager.writeAllLines(file, Arrays.asList(DEFAULT_RULES));
+            }
+            FileIOManager.readAndProcess(file, (line, lineNumber) -> {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:")
+                        || line.startsWith("Kind:") || line.startsWith("Conditions:") || line.startsWith("#")) {
+                    return null;
+                }
+                try {
+                    loaded.add(DiscountRule.parse(line));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Skipping discount rule on line " + (lineNumber + 1) + ": " + e.getMessage());
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            System.err.println("Error loading discount rules: " + e.getMessage());
+        }
+        return Collections.unmodifiableList(loaded);
+    }
+
+    /**
+     * Outcome and timing of a rules pass
+     */
+    public static class BulkResult {
+        private int statements;
+        private final AtomicInteger added = new AtomicInteger();
+        private final AtomicInteger changed = new AtomicInteger();
+        private final AtomicInteger removed = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final DoubleAdder discountTotal = new DoubleAdder(); // net change in discount fees, negative = more off
+        private long elapsedNanos;
+
+        public int getStatements() { return statements; }
+        public int getAdded() { return added.get(); }
+        public int getChanged() { return changed.get(); }
+        public int getRemoved() { return removed.get(); }
+        public int getUnchanged() { return unchanged.get(); }
+        public double getDiscountChange() { return discountTotal.sum(); }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+
+        @Override
+        public String toString() {
+            return String.format("%d statements: %d discounts added, %d changed, %d removed, %d unchanged "
+                + "(net P %,.2f) in %.1f ms", statements, getAdded(), getChanged(), getRemoved(), getUnchanged(),
+                getDiscountChange(), getElapsedMillis());
+        }
+    }
+}
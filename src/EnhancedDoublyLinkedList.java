@@ -7,7 +7,8 @@ import java.util.Comparator;
  * Features:
  * - O(1) insertion and deletion at both ends
  * - O(n/2) average case for get() using bidirectional search
- * - Merge sort implementation for O(n log n) sorting
+ * - Iterative bottom-up merge sort for O(n log n) sorting
+ * - Natural merge sort for nearly sorted data
  * - Binary search for sorted lists
  * - Iterator with bidirectional traversal
  * - Enhanced error handling and validation
@@ -261,7 +262,9 @@ public class EnhancedDoublyLinkedList<T> implements Iterable<T> {
     }
 
     /**
-     * Sort the list using merge sort - O(n log n)
+     * Sort the list using iterative bottom-up merge sort - O(n log n)
+     * Merges relink next pointers only; prev pointers are repaired in one final pass.
+     * No recursion and no allocation per merge.
      */
     public void sort(Comparator<T> comparator) {
         if (size <= 1) {
@@ -269,93 +272,169 @@ public class EnhancedDoublyLinkedList<T> implements Iterable<T> {
             lastUsedComparator = comparator;
             return;
         }
-        
-        head = mergeSort(head, comparator);
-        
-        // Update tail reference
-        DoublyLinkedNode<T> current = head;
-        while (current.getNext() != null) {
-            current = current.getNext();
+
+        DoublyLinkedNode<T> sentinel = new DoublyLinkedNode<>(null);
+        sentinel.setNext(head);
+
+        // Merge adjacent blocks of width 1, 2, 4, ... until one block remains
+        for (int width = 1; width < size; width *= 2) {
+            DoublyLinkedNode<T> mergedTail = sentinel;
+            DoublyLinkedNode<T> current = sentinel.getNext();
+
+            while (current != null) {
+                DoublyLinkedNode<T> left = current;
+                DoublyLinkedNode<T> right = split(left, width);
+                current = split(right, width);
+                mergedTail = mergeAfter(mergedTail, left, right, comparator);
+            }
         }
-        tail = current;
-        
+
+        head = sentinel.getNext();
+        restorePrevLinks();
         isSorted = true;
         lastUsedComparator = comparator;
     }
 
     /**
-     * Recursive merge sort implementation
+     * Sort the list using natural merge sort - O(n log r) for r initial runs
+     * Detects already ordered runs (reversing strictly descending ones) and only
+     * merges those, so nearly sorted data such as chronological records sorts in
+     * close to linear time. Stable, iterative and relinks nodes in place.
      */
-    private DoublyLinkedNode<T> mergeSort(DoublyLinkedNode<T> node, Comparator<T> comparator) {
-        if (node == null || node.getNext() == null) {
-            return node;
+    public void sortNatural(Comparator<T> comparator) {
+        if (size <= 1) {
+            isSorted = true;
+            lastUsedComparator = comparator;
+            return;
         }
 
-        // Split the list into two halves
-        DoublyLinkedNode<T> middle = getMiddle(node);
-        DoublyLinkedNode<T> nextOfMiddle = middle.getNext();
-        middle.setNext(null);
-        nextOfMiddle.setPrev(null);
+        DoublyLinkedNode<T> sentinel = new DoublyLinkedNode<>(null);
+        sentinel.setNext(head);
+        reverseDescendingRuns(sentinel, comparator);
 
-        // Recursively sort both halves
-        DoublyLinkedNode<T> left = mergeSort(node, comparator);
-        DoublyLinkedNode<T> right = mergeSort(nextOfMiddle, comparator);
+        int runs;
+        do {
+            runs = 0;
+            DoublyLinkedNode<T> mergedTail = sentinel;
+            DoublyLinkedNode<T> current = sentinel.getNext();
 
-        // Merge the sorted halves
-        return merge(left, right, comparator);
+            while (current != null) {
+                DoublyLinkedNode<T> left = current;
+                DoublyLinkedNode<T> right = splitRun(left, comparator);
+                current = splitRun(right, comparator);
+                mergedTail = mergeAfter(mergedTail, left, right, comparator);
+                runs++;
+            }
+        } while (runs > 1);
+
+        head = sentinel.getNext();
+        restorePrevLinks();
+        isSorted = true;
+        lastUsedComparator = comparator;
     }
 
     /**
-     * Find middle node for merge sort
+     * Cut the chain after count nodes and return the remainder (null if none)
      */
-    private DoublyLinkedNode<T> getMiddle(DoublyLinkedNode<T> node) {
-        if (node == null) return node;
+    private DoublyLinkedNode<T> split(DoublyLinkedNode<T> node, int count) {
+        for (int i = 1; node != null && i < count; i++) {
+            node = node.getNext();
+        }
+        if (node == null) {
+            return null;
+        }
+        DoublyLinkedNode<T> rest = node.getNext();
+        node.setNext(null);
+        return rest;
+    }
 
-        DoublyLinkedNode<T> slow = node;
-        DoublyLinkedNode<T> fast = node.getNext();
+    /**
+     * Cut the chain after its leading non-descending run and return the remainder
+     */
+    private DoublyLinkedNode<T> splitRun(DoublyLinkedNode<T> node, Comparator<T> comparator) {
+        if (node == null) {
+            return null;
+        }
+        while (node.getNext() != null && comparator.compare(node.getData(), node.getNext().getData()) <= 0) {
+            node = node.getNext();
+        }
+        DoublyLinkedNode<T> rest = node.getNext();
+        node.setNext(null);
+        return rest;
+    }
 
-        while (fast != null && fast.getNext() != null) {
-            slow = slow.getNext();
-            fast = fast.getNext().getNext();
+    /**
+     * Reverse every strictly descending run in place so it becomes ascending.
+     * Strictness keeps equal elements in their original order (stability).
+     */
+    private void reverseDescendingRuns(DoublyLinkedNode<T> sentinel, Comparator<T> comparator) {
+        DoublyLinkedNode<T> before = sentinel;
+        while (before.getNext() != null) {
+            DoublyLinkedNode<T> runHead = before.getNext();
+            DoublyLinkedNode<T> runEnd = runHead;
+            while (runEnd.getNext() != null && comparator.compare(runEnd.getData(), runEnd.getNext().getData()) > 0) {
+                runEnd = runEnd.getNext();
+            }
+
+            if (runEnd == runHead) {
+                before = runHead;
+                continue;
+            }
+
+            // Reverse runHead..runEnd and splice it back between before and after
+            DoublyLinkedNode<T> after = runEnd.getNext();
+            DoublyLinkedNode<T> prev = after;
+            DoublyLinkedNode<T> current = runHead;
+            while (current != after) {
+                DoublyLinkedNode<T> next = current.getNext();
+                current.setNext(prev);
+                prev = current;
+                current = next;
+            }
+            before.setNext(runEnd);
+            before = runHead;
         }
+    }
 
-        return slow;
+    /**
+     * Rebuild prev pointers and the tail reference after next pointers were relinked
+     */
+    private void restorePrevLinks() {
+        DoublyLinkedNode<T> prev = null;
+        DoublyLinkedNode<T> current = head;
+        while (current != null) {
+            current.setPrev(prev);
+            prev = current;
+            current = current.getNext();
+        }
+        tail = prev;
     }
 
     /**
-     * Merge two sorted lists
+     * Merge two sorted chains and append the result after mergedTail.
+     * Returns the last node of the appended chain. Only next pointers are set.
      */
-    private DoublyLinkedNode<T> merge(DoublyLinkedNode<T> left, DoublyLinkedNode<T> right, Comparator<T> comparator) {
-        DoublyLinkedNode<T> dummy = new DoublyLinkedNode<>(null);
-        DoublyLinkedNode<T> current = dummy;
+    private DoublyLinkedNode<T> mergeAfter(DoublyLinkedNode<T> mergedTail, DoublyLinkedNode<T> left, DoublyLinkedNode<T> right, Comparator<T> comparator) {
+        DoublyLinkedNode<T> current = mergedTail;
 
         while (left != null && right != null) {
             if (comparator.compare(left.getData(), right.getData()) <= 0) {
                 current.setNext(left);
-                left.setPrev(current);
                 left = left.getNext();
             } else {
                 current.setNext(right);
-                right.setPrev(current);
                 right = right.getNext();
             }
             current = current.getNext();
         }
 
         // Attach remaining nodes
-        if (left != null) {
-            current.setNext(left);
-            left.setPrev(current);
-        } else if (right != null) {
-            current.setNext(right);
-            right.setPrev(current);
+        current.setNext(left != null ? left : right);
+        while (current.getNext() != null) {
+            current = current.getNext();
         }
 
-        DoublyLinkedNode<T> result = dummy.getNext();
-        if (result != null) {
-            result.setPrev(null);
-        }
-        return result;
+        return current;
     }
 
     /**
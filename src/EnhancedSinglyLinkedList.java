@@ -7,7 +7,8 @@ import java.util.Comparator;
  * Features:
  * - O(1) insertion at head
  * - O(n) insertion at tail with tail pointer optimization
- * - Merge sort for O(n log n) sorting
+ * - Iterative bottom-up merge sort for O(n log n) sorting
+ * - Natural merge sort for nearly sorted data
  * - Fast cycle detection using Floyd's algorithm
  * - Enhanced error handling and validation
  * - Iterator support with fail-fast behavior
@@ -258,7 +259,8 @@ public class EnhancedSinglyLinkedList<T> implements Iterable<T> {
     }
 
     /**
-     * Sort the list using merge sort - O(n log n)
+     * Sort the list using iterative bottom-up merge sort - O(n log n)
+     * Nodes are relinked in place: no recursion and no allocation per merge.
      */
     public void sort(Comparator<T> comparator) {
         if (size <= 1) {
@@ -266,64 +268,136 @@ public class EnhancedSinglyLinkedList<T> implements Iterable<T> {
             lastUsedComparator = comparator;
             return;
         }
-        
-        head = mergeSort(head, comparator);
-        
-        // Update tail reference
-        Node<T> current = head;
-        while (current.getNext() != null) {
-            current = current.getNext();
+
+        Node<T> sentinel = new Node<>(null);
+        sentinel.setNext(head);
+
+        // Merge adjacent blocks of width 1, 2, 4, ... until one block remains
+        for (int width = 1; width < size; width *= 2) {
+            Node<T> mergedTail = sentinel;
+            Node<T> current = sentinel.getNext();
+
+            while (current != null) {
+                Node<T> left = current;
+                Node<T> right = split(left, width);
+                current = split(right, width);
+                mergedTail = mergeAfter(mergedTail, left, right, comparator);
+            }
+            tail = mergedTail;
         }
-        tail = current;
-        
+
+        head = sentinel.getNext();
         isSorted = true;
         lastUsedComparator = comparator;
     }
 
     /**
-     * Recursive merge sort implementation
+     * Sort the list using natural merge sort - O(n log r) for r initial runs
+     * Detects already ordered runs (reversing strictly descending ones) and only
+     * merges those, so nearly sorted data such as chronological records sorts in
+     * close to linear time. Stable, iterative and relinks nodes in place.
      */
-    private Node<T> mergeSort(Node<T> node, Comparator<T> comparator) {
-        if (node == null || node.getNext() == null) {
-            return node;
+    public void sortNatural(Comparator<T> comparator) {
+        if (size <= 1) {
+            isSorted = true;
+            lastUsedComparator = comparator;
+            return;
         }
 
-        // Split the list into two halves using fast/slow pointer technique
-        Node<T> middle = getMiddle(node);
-        Node<T> nextOfMiddle = middle.getNext();
-        middle.setNext(null);
+        Node<T> sentinel = new Node<>(null);
+        sentinel.setNext(head);
+        reverseDescendingRuns(sentinel, comparator);
 
-        // Recursively sort both halves
-        Node<T> left = mergeSort(node, comparator);
-        Node<T> right = mergeSort(nextOfMiddle, comparator);
+        int runs;
+        do {
+            runs = 0;
+            Node<T> mergedTail = sentinel;
+            Node<T> current = sentinel.getNext();
 
-        // Merge the sorted halves
-        return merge(left, right, comparator);
+            while (current != null) {
+                Node<T> left = current;
+                Node<T> right = splitRun(left, comparator);
+                current = splitRun(right, comparator);
+                mergedTail = mergeAfter(mergedTail, left, right, comparator);
+                runs++;
+            }
+            tail = mergedTail;
+        } while (runs > 1);
+
+        head = sentinel.getNext();
+        isSorted = true;
+        lastUsedComparator = comparator;
     }
 
     /**
-     * Find middle node using fast/slow pointer technique
+     * Cut the chain after count nodes and return the remainder (null if none)
      */
-    private Node<T> getMiddle(Node<T> node) {
-        if (node == null) return node;
-
-        Node<T> slow = node;
-        Node<T> fast = node.getNext();
+    private Node<T> split(Node<T> node, int count) {
+        for (int i = 1; node != null && i < count; i++) {
+            node = node.getNext();
+        }
+        if (node == null) {
+            return null;
+        }
+        Node<T> rest = node.getNext();
+        node.setNext(null);
+        return rest;
+    }
 
-        while (fast != null && fast.getNext() != null) {
-            slow = slow.getNext();
-            fast = fast.getNext().getNext();
+    /**
+     * Cut the chain after its leading non-descending run and return the remainder
+     */
+    private Node<T> splitRun(Node<T> node, Comparator<T> comparator) {
+        if (node == null) {
+            return null;
         }
+        while (node.getNext() != null && comparator.compare(node.getData(), node.getNext().getData()) <= 0) {
+            node = node.getNext();
+        }
+        Node<T> rest = node.getNext();
+        node.setNext(null);
+        return rest;
+    }
 
-        return slow;
+    /**
+     * Reverse every strictly descending run in place so it becomes ascending.
+     * Strictness keeps equal elements in their original order (stability).
+     */
+    private void reverseDescendingRuns(Node<T> sentinel, Comparator<T> comparator) {
+        Node<T> before = sentinel;
+        while (before.getNext() != null) {
+            Node<T> runHead = before.getNext();
+            Node<T> runEnd = runHead;
+            while (runEnd.getNext() != null && comparator.compare(runEnd.getData(), runEnd.getNext().getData()) > 0) {
+                runEnd = runEnd.getNext();
+            }
+
+            if (runEnd == runHead) {
+                before = runHead;
+                continue;
+            }
+
+            // Reverse runHead..runEnd and splice it back between before and after
+            Node<T> after = runEnd.getNext();
+            Node<T> prev = after;
+            Node<T> current = runHead;
+            while (current != after) {
+                Node<T> next = current.getNext();
+                current.setNext(prev);
+                prev = current;
+                current = next;
+            }
+            before.setNext(runEnd);
+            before = runHead;
+        }
     }
 
     /**
-     * Merge two sorted lists
+     * Merge two sorted chains and append the result after mergedTail.
+     * Returns the last node of the appended chain.
      */
-    private Node<T> merge(Node<T> left, Node<T> right, Comparator<T> comparator) {
-        Node<T> dummy = new Node<>(null);
-        Node<T> current = dummy;
+    private Node<T> mergeAfter(Node<T> mergedTail, Node<T> left, Node<T> right, Comparator<T> comparator) {
+        Node<T> current = mergedTail;
 
         while (left != null && right != null) {
             if (comparator.compare(left.getData(), right.getData()) <= 0) {
@@ -338,8 +412,11 @@ public class EnhancedSinglyLinkedList<T> implements Iterable<T> {
 
         // Attach remaining nodes
         current.setNext(left != null ? left : right);
+        while (current.getNext() != null) {
+            current = current.getNext();
+        }
 
-        return dummy.getNext();
+        return current;
     }
 
     /**
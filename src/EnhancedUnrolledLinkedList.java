@@ -0,0 +1,757 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Comparator;
+
+/**
+ * Unrolled (chunked) variant of EnhancedDoublyLinkedList for large positional workloads
+ * Features:
+ * - Same public API as EnhancedDoublyLinkedList
+ * - Doubly linked chain of array chunks instead of one node per element
+ * - Chunk capacity grows with the list so there are about sqrt(n) chunks
+ * - O(sqrt n) get()/set()/add(index)/remove(index), O(1) inside the located chunk
+ * - O(1) amortized insertion and deletion at both ends
+ * - Cursor cache makes sequential index loops O(1) per access
+ * - Binary search is O(sqrt n + log n) instead of O(n log n)
+ */
+public class EnhancedUnrolledLinkedList<T> implements Iterable<T> {
+    private static final int MIN_CHUNK_CAPACITY = 16;
+
+    private Chunk<T> head;
+    private Chunk<T> tail;
+    private int size;
+    private int chunkCapacity = MIN_CHUNK_CAPACITY;
+    private int modCount = 0;
+    private boolean isSorted = false;
+    private Comparator<T> lastUsedComparator = null;
+
+    // Last located chunk and the list index of its first element
+    private Chunk<T> cursorChunk = null;
+    private int cursorStart = 0;
+
+    public EnhancedUnrolledLinkedList() {
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    /**
+     * Block of up to chunkCapacity elements stored in items[lo .. lo + count)
+     */
+    private static class Chunk<T> {
+        private final Object[] items;
+        private int lo;
+        private int count;
+        private Chunk<T> prev;
+        private Chunk<T> next;
+
+        Chunk(int capacity, int lo) {
+            this.items = new Object[capacity];
+            this.lo = lo;
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int offset) {
+            return (T) items[lo + offset];
+        }
+
+        void set(int offset, T data) {
+            items[lo + offset] = data;
+        }
+
+        /**
+         * Move elements to the front of the backing array so there is room at the end
+         */
+        void compact() {
+            if (lo == 0) return;
+            System.arraycopy(items, lo, items, 0, count);
+            Arrays.fill(items, count, lo + count, null);
+            lo = 0;
+        }
+    }
+
+    /**
+     * Add element to the end of the list - O(1) amortized
+     */
+    public void add(T data) {
+        addLast(data);
+    }
+
+    /**
+     * Add element to the end of the list - O(1) amortized
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+
+        if (tail == null || tail.lo + tail.count == chunkCapacity) {
+            linkLast(new Chunk<>(chunkCapacity, 0));
+        }
+        tail.items[tail.lo + tail.count] = data;
+        tail.count++;
+        size++;
+        modCount++;
+        isSorted = false;
+        growIfNeeded();
+    }
+
+    /**
+     * Add element to the beginning of the list - O(1) amortized
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+
+        if (head == null || head.lo == 0) {
+            linkFirst(new Chunk<>(chunkCapacity, chunkCapacity));
+        }
+        head.lo--;
+        head.items[head.lo] = data;
+        head.count++;
+        size++;
+        modCount++;
+        if (cursorChunk != null && cursorChunk != head) {
+            cursorStart++;
+        }
+        isSorted = false;
+        growIfNeeded();
+    }
+
+    /**
+     * Insert element at specific index - O(sqrt n)
+     */
+    public void add(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+
+        if (index == 0) {
+            addFirst(data);
+            return;
+        }
+        if (index == size) {
+            addLast(data);
+            return;
+        }
+
+        Chunk<T> chunk = findChunk(index);
+        int offset = index - cursorStart;
+
+        if (chunk.count == chunkCapacity) {
+            // Split the full chunk in half and insert into the proper half
+            Chunk<T> right = splitChunk(chunk);
+            if (offset > chunk.count) {
+                offset -= chunk.count;
+                chunk = right;
+            }
+        } else if (chunk.lo + chunk.count == chunkCapacity) {
+            chunk.compact();
+        }
+
+        int pos = chunk.lo + offset;
+        System.arraycopy(chunk.items, pos, chunk.items, pos + 1, chunk.count - offset);
+        chunk.items[pos] = data;
+        chunk.count++;
+        size++;
+        modCount++;
+        cursorChunk = null;
+        isSorted = false;
+        growIfNeeded();
+    }
+
+    /**
+     * Remove first element - O(1)
+     */
+    public T removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        T data = head.get(0);
+        head.items[head.lo] = null;
+        head.lo++;
+        head.count--;
+        if (cursorChunk == head) {
+            cursorChunk = null;
+        } else if (cursorChunk != null) {
+            cursorStart--;
+        }
+        if (head.count == 0) {
+            unlink(head);
+        }
+        size--;
+        modCount++;
+        return data;
+    }
+
+    /**
+     * Remove last element - O(1)
+     */
+    public T removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+
+        int pos = tail.lo + tail.count - 1;
+        @SuppressWarnings("unchecked")
+        T data = (T) tail.items[pos];
+        tail.items[pos] = null;
+        tail.count--;
+        if (cursorChunk == tail) {
+            cursorChunk = null;
+        }
+        if (tail.count == 0) {
+            unlink(tail);
+        }
+        size--;
+        modCount++;
+        return data;
+    }
+
+    /**
+     * Remove element at specific index - O(sqrt n)
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (index == 0) {
+            return removeFirst();
+        }
+        if (index == size - 1) {
+            return removeLast();
+        }
+
+        Chunk<T> chunk = findChunk(index);
+        int offset = index - cursorStart;
+        T data = chunk.get(offset);
+
+        int pos = chunk.lo + offset;
+        System.arraycopy(chunk.items, pos + 1, chunk.items, pos, chunk.count - offset - 1);
+        chunk.items[chunk.lo + chunk.count - 1] = null;
+        chunk.count--;
+
+        if (chunk.count == 0) {
+            unlink(chunk);
+        } else if (chunk.next != null && chunk.count + chunk.next.count <= chunkCapacity / 2) {
+            mergeWithNext(chunk);
+        }
+
+        size--;
+        modCount++;
+        cursorChunk = null;
+        return data;
+    }
+
+    /**
+     * Get element at index - O(sqrt n), O(1) for sequential access
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Chunk<T> chunk = findChunk(index);
+        return chunk.get(index - cursorStart);
+    }
+
+    /**
+     * Set element at index - O(sqrt n), O(1) for sequential access
+     */
+    public void set(int index, T data) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot set null element");
+        }
+
+        Chunk<T> chunk = findChunk(index);
+        chunk.set(index - cursorStart, data);
+        isSorted = false;
+    }
+
+    /**
+     * Locate the chunk holding index, starting from the cursor, head or tail,
+     * whichever is nearest. Leaves the cursor on the returned chunk.
+     */
+    private Chunk<T> findChunk(int index) {
+        if (cursorChunk != null && index >= cursorStart && index < cursorStart + cursorChunk.count) {
+            return cursorChunk;
+        }
+
+        Chunk<T> current;
+        int start;
+        int fromTail = size - index;
+
+        if (cursorChunk != null && Math.abs(index - cursorStart) < Math.min(index, fromTail)) {
+            current = cursorChunk;
+            start = cursorStart;
+        } else if (index < fromTail) {
+            current = head;
+            start = 0;
+        } else {
+            current = tail;
+            start = size - tail.count;
+        }
+
+        while (index < start) {
+            current = current.prev;
+            start -= current.count;
+        }
+        while (index >= start + current.count) {
+            start += current.count;
+            current = current.next;
+        }
+
+        cursorChunk = current;
+        cursorStart = start;
+        return current;
+    }
+
+    private void linkFirst(Chunk<T> chunk) {
+        if (head == null) {
+            head = chunk;
+            tail = chunk;
+        } else {
+            chunk.next = head;
+            head.prev = chunk;
+            head = chunk;
+        }
+    }
+
+    private void linkLast(Chunk<T> chunk) {
+        if (tail == null) {
+            head = chunk;
+            tail = chunk;
+        } else {
+            chunk.prev = tail;
+            tail.next = chunk;
+            tail = chunk;
+        }
+    }
+
+    private void unlink(Chunk<T> chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+    }
+
+    /**
+     * Move the upper half of a full chunk into a new chunk linked after it
+     */
+    private Chunk<T> splitChunk(Chunk<T> chunk) {
+        Chunk<T> right = new Chunk<>(chunkCapacity, 0);
+        int keep = chunk.count / 2;
+        int move = chunk.count - keep;
+
+        System.arraycopy(chunk.items, chunk.lo + keep, right.items, 0, move);
+        Arrays.fill(chunk.items, chunk.lo + keep, chunk.lo + chunk.count, null);
+        chunk.count = keep;
+        right.count = move;
+        chunk.compact();
+
+        right.prev = chunk;
+        right.next = chunk.next;
+        if (chunk.next == null) {
+            tail = right;
+        } else {
+            chunk.next.prev = right;
+        }
+        chunk.next = right;
+        return right;
+    }
+
+    /**
+     * Pull all elements of the following chunk into this one and unlink it
+     */
+    private void mergeWithNext(Chunk<T> chunk) {
+        Chunk<T> next = chunk.next;
+        chunk.compact();
+        System.arraycopy(next.items, next.lo, chunk.items, chunk.count, next.count);
+        chunk.count += next.count;
+        unlink(next);
+    }
+
+    /**
+     * Double the chunk capacity once the list outgrows capacity^2 elements,
+     * keeping the chunk count near sqrt(n). Amortized O(1) per insertion.
+     */
+    private void growIfNeeded() {
+        if ((long) size > (long) chunkCapacity * chunkCapacity) {
+            rebuild(toObjectArray(), chunkCapacity * 2);
+        }
+    }
+
+    /**
+     * Replace the chunk chain with densely packed chunks holding the given elements
+     */
+    private void rebuild(Object[] elements, int capacity) {
+        head = null;
+        tail = null;
+        cursorChunk = null;
+        chunkCapacity = capacity;
+
+        for (int from = 0; from < elements.length; from += capacity) {
+            int length = Math.min(capacity, elements.length - from);
+            Chunk<T> chunk = new Chunk<>(capacity, 0);
+            System.arraycopy(elements, from, chunk.items, 0, length);
+            chunk.count = length;
+            linkLast(chunk);
+        }
+    }
+
+    private Object[] toObjectArray() {
+        Object[] elements = new Object[size];
+        int i = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, chunk.lo, elements, i, chunk.count);
+            i += chunk.count;
+        }
+        return elements;
+    }
+
+    /**
+     * Find index of first occurrence of element - O(n)
+     */
+    public int indexOf(T data) {
+        if (data == null) return -1;
+
+        int start = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (data.equals(chunk.items[chunk.lo + i])) {
+                    return start + i;
+                }
+            }
+            start += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Find index of last occurrence of element - O(n)
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) return -1;
+
+        int end = size;
+        for (Chunk<T> chunk = tail; chunk != null; chunk = chunk.prev) {
+            end -= chunk.count;
+            for (int i = chunk.count - 1; i >= 0; i--) {
+                if (data.equals(chunk.items[chunk.lo + i])) {
+                    return end + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains element - O(n)
+     */
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    /**
+     * Sort the list - O(n log n)
+     * Elements are sorted in a flat array and repacked into full chunks.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<T> comparator) {
+        if (size <= 1) {
+            isSorted = true;
+            lastUsedComparator = comparator;
+            return;
+        }
+
+        Object[] elements = toObjectArray();
+        Arrays.sort((T[]) elements, comparator);
+        rebuild(elements, chunkCapacity);
+        modCount++;
+
+        isSorted = true;
+        lastUsedComparator = comparator;
+    }
+
+    /**
+     * Binary search for sorted list - O(sqrt n + log n)
+     * Only works if list is sorted with the same comparator.
+     * Skips whole chunks by their last element, then searches inside one chunk.
+     */
+    @SuppressWarnings("unchecked")
+    public int binarySearch(T key, Comparator<T> comparator) {
+        if (!isSorted || !comparator.equals(lastUsedComparator)) {
+            throw new IllegalStateException("List must be sorted with the same comparator before binary search");
+        }
+
+        int start = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            T last = chunk.get(chunk.count - 1);
+            if (comparator.compare(key, last) <= 0) {
+                int pos = Arrays.binarySearch((T[]) chunk.items, chunk.lo, chunk.lo + chunk.count, key, comparator);
+                return pos >= 0 ? start + (pos - chunk.lo) : -1;
+            }
+            start += chunk.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Reverse the list - O(n)
+     */
+    public void reverse() {
+        if (size <= 1) return;
+
+        Chunk<T> current = head;
+        while (current != null) {
+            // Reverse elements inside the chunk
+            for (int i = current.lo, j = current.lo + current.count - 1; i < j; i++, j--) {
+                Object temp = current.items[i];
+                current.items[i] = current.items[j];
+                current.items[j] = temp;
+            }
+            // Swap chunk links
+            Chunk<T> temp = current.prev;
+            current.prev = current.next;
+            current.next = temp;
+            current = current.prev; // Move to next chunk (which was previous due to swap)
+        }
+
+        Chunk<T> temp = head;
+        head = tail;
+        tail = temp;
+
+        cursorChunk = null;
+        modCount++;
+        isSorted = false;
+    }
+
+    /**
+     * Get list size - O(1)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Check if list is empty - O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get first element - O(1)
+     */
+    public T getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return head.get(0);
+    }
+
+    /**
+     * Get last element - O(1)
+     */
+    public T getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return tail.get(tail.count - 1);
+    }
+
+    /**
+     * Clear the list - O(1)
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        chunkCapacity = MIN_CHUNK_CAPACITY;
+        cursorChunk = null;
+        modCount++;
+        isSorted = false;
+        lastUsedComparator = null;
+    }
+
+    /**
+     * Convert to array - O(n)
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray(T[] array) {
+        if (array.length < size) {
+            array = (T[]) java.lang.reflect.Array.newInstance(
+                array.getClass().getComponentType(), size);
+        }
+
+        int i = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.items, chunk.lo, array, i, chunk.count);
+            i += chunk.count;
+        }
+
+        if (array.length > size) {
+            array[size] = null;
+        }
+
+        return array;
+    }
+
+    /**
+     * Check if list is sorted
+     */
+    public boolean isSorted() {
+        return isSorted;
+    }
+
+    /**
+     * Get the number of chunks currently in the chain (for diagnostics)
+     */
+    public int getChunkCount() {
+        int count = 0;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        boolean first = true;
+        for (Chunk<T> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (!first) {
+                    sb.append(" <-> ");
+                }
+                sb.append(chunk.items[chunk.lo + i]);
+                first = false;
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ForwardIterator();
+    }
+
+    /**
+     * Get reverse iterator
+     */
+    public Iterator<T> reverseIterator() {
+        return new ReverseIterator();
+    }
+
+    /**
+     * Forward iterator implementation
+     * Index based; the cursor cache keeps each step O(1).
+     */
+    private class ForwardIterator implements Iterator<T> {
+        private int nextIndex = 0;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            checkForModification();
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForModification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextIndex++;
+            return get(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForModification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            EnhancedUnrolledLinkedList.this.remove(lastReturned);
+            nextIndex = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForModification() {
+            if (expectedModCount != modCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Reverse iterator implementation
+     */
+    private class ReverseIterator implements Iterator<T> {
+        private int nextIndex = size - 1;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            checkForModification();
+            return nextIndex >= 0;
+        }
+
+        @Override
+        public T next() {
+            checkForModification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextIndex--;
+            return get(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForModification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            EnhancedUnrolledLinkedList.this.remove(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForModification() {
+            if (expectedModCount != modCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+}
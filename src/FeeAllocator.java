@@ -0,0 +1,253 @@
+import java.util.*;
+
+/**
+ * Allocates payments to a statement's unpaid fees by priority
+ * Features:
+ * - Unpaid fees kept in a priority queue ordered by configurable rules:
+ *   tuition first, oldest first, FeeBreakdown.FeeType precedence
+ * - A payment touching k fees is allocated in O(k log n); only the last fee
+ *   it touches can be left partially paid and go back into the queue
+ * - Allocations are split across fees and recorded per payment so a refund
+ *   reverses exactly what the payment paid
+ * - Unallocated credit is kept in payment order and applied to the fees a
+ *   refund frees, so fee balances keep adding up to the statement balance
+ * - Fees with equal priority keep the order they were added in
+ */
+public class FeeAllocator {
+
+    /**
+     * Ordering rules, applied in the order given
+     */
+    public enum Rule {
+        TUITION_FIRST(Comparator.comparingInt(fee -> fee.getType() == FeeBreakdown.FeeType.TUITION ? 0 : 1)),
+        OLDEST_FIRST(Comparator.comparing(FeeBreakdown::getDatePosted,
+            Comparator.nullsLast(Comparator.naturalOrder()))),
+        TYPE_PRECEDENCE(Comparator.comparingInt(fee -> fee.getType().ordinal()));
+
+        private final Comparator<FeeBreakdown> order;
+
+        Rule(Comparator<FeeBreakdown> order) {
+            this.order = order;
+        }
+    }
+
+    public static final Rule[] DEFAULT_RULES = {Rule.TUITION_FIRST, Rule.OLDEST_FIRST};
+
+    private PriorityQueue<QueuedFee> unpaid;
+    private Comparator<QueuedFee> priority;
+    // Every fee added, by identity; the entry keeps the fee's place among equal fees
+    private final Map<FeeBreakdown, QueuedFee> entries = new IdentityHashMap<>();
+    private final Map<PaymentTransaction, Allocation> allocations = new IdentityHashMap<>();
+    // Allocations with unallocated credit left, oldest payment first
+    private final Deque<Allocation> credits = new ArrayDeque<>();
+    private long nextSequence;
+
+    public FeeAllocator(Rule... rules) {
+        setRules(rules);
+    }
+
+    /**
+     * Change the ordering rules and reorder the queue - O(n)
+     */
+    public void setRules(Rule... rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Rules cannot be null");
+        }
+        Comparator<FeeBreakdown> order = (a, b) -> 0;
+        for (Rule rule : rules) {
+            order = order.thenComparing(rule.order);
+        }
+        Comparator<FeeBreakdown> feeOrder = order;
+        priority = (a, b) -> {
+            int result = feeOrder.compare(a.fee, b.fee);
+            return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+        };
+
+        PriorityQueue<QueuedFee> reordered = new PriorityQueue<>(Math.max(1, entries.size()), priority);
+        for (QueuedFee entry : entries.values()) {
+            if (entry.queued) {
+                reordered.add(entry);
+            }
+        }
+        unpaid = reordered;
+    }
+
+    /**
+     * Queue a fee if it has a positive unpaid balance - O(log n)
+     */
+    public void addFee(FeeBreakdown fee) {
+        if (entries.containsKey(fee)) {
+            return;
+        }
+        QueuedFee entry = new QueuedFee(fee, nextSequence++);
+        entries.put(fee, entry);
+        enqueue(entry);
+    }
+
+    private void enqueue(QueuedFee entry) {
+        if (!entry.queued && entry.fee.getAmount() > 0 && entry.fee.getBalance() > 0) {
+            entry.queued = true;
+            unpaid.add(entry);
+        }
+    }
+
+    /**
+     * Drop a fee from the queue - O(n)
+     */
+    public void removeFee(FeeBreakdown fee) {
+        QueuedFee entry = entries.remove(fee);
+        if (entry != null && entry.queued) {
+            unpaid.remove(entry);
+        }
+    }
+
+    /**
+     * Split a payment across the highest-priority unpaid fees - O(k log n)
+     * Whatever is left once every fee is paid is reported as unallocated.
+     */
+    public Allocation allocate(PaymentTransaction payment, double amount) {
+        if (payment == null || amount <= 0) {
+            throw new IllegalArgumentException("Allocation needs a payment and a positive amount");
+        }
+        if (allocations.containsKey(payment)) {
+            throw new IllegalArgumentException("Payment already allocated: " + payment.getReference());
+        }
+
+        Allocation allocation = new Allocation(payment);
+        allocation.unallocated = spread(allocation, amount);
+        allocations.put(payment, allocation);
+        if (allocation.unallocated > 0) {
+            credits.add(allocation);
+        }
+        return allocation;
+    }
+
+    /**
+     * Apply an amount to the highest-priority unpaid fees and return what is left - O(k log n)
+     */
+    private double spread(Allocation allocation, double amount) {
+        double remaining = amount;
+        while (remaining > 0 && !unpaid.isEmpty()) {
+            QueuedFee entry = unpaid.poll();
+            FeeBreakdown fee = entry.fee;
+            double applied = Math.min(remaining, fee.getBalance());
+            fee.applyPayment(applied);
+            allocation.splits.add(new Split(fee, applied));
+            remaining -= applied;
+
+            if (fee.getBalance() > 0) {
+                unpaid.add(entry); // partially paid: only the last fee touched
+            } else {
+                entry.queued = false;
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Undo a payment's allocation, e.g. for a refund - O(k log n + c) for c payments holding credit
+     * The freed fees are paid again from other payments' unallocated credit,
+     * oldest payment first; those payments' allocations gain the new splits.
+     * Returns the reversed allocation, or null if the payment was never allocated.
+     */
+    public Allocation reverse(PaymentTransaction payment) {
+        Allocation allocation = allocations.remove(payment);
+        if (allocation == null) {
+            return null;
+        }
+        if (allocation.unallocated > 0) {
+            credits.remove(allocation);
+        }
+        for (Split split : allocation.splits) {
+            split.fee.reversePayment(split.amount);
+            QueuedFee entry = entries.get(split.fee);
+            if (entry != null) {
+                enqueue(entry); // back in the queue with its original place among equal fees
+            }
+        }
+        while (!credits.isEmpty() && !unpaid.isEmpty()) {
+            Allocation credit = credits.peek();
+            credit.unallocated = spread(credit, credit.unallocated);
+            if (credit.unallocated > 0) {
+                break; // every fee is paid again
+            }
+            credits.poll();
+        }
+        return allocation;
+    }
+
+    /**
+     * The allocation recorded for a payment, or null
+     */
+    public Allocation getAllocation(PaymentTransaction payment) {
+        return allocations.get(payment);
+    }
+
+    /**
+     * Next fee a payment would go to, or null when everything is paid - O(1)
+     */
+    public FeeBreakdown peekNextFee() {
+        QueuedFee entry = unpaid.peek();
+        return entry == null ? null : entry.fee;
+    }
+
+    public int getUnpaidCount() {
+        return unpaid.size();
+    }
+
+    private static class QueuedFee {
+        final FeeBreakdown fee;
+        final long sequence;
+        boolean queued;
+
+        QueuedFee(FeeBreakdown fee, long sequence) {
+            this.fee = fee;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Part of a payment applied to one fee
+     */
+    public static class Split {
+        private final FeeBreakdown fee;
+        private final double amount;
+
+        Split(FeeBreakdown fee, double amount) {
+            this.fee = fee;
+            this.amount = amount;
+        }
+
+        public FeeBreakdown getFee() { return fee; }
+        public double getAmount() { return amount; }
+    }
+
+    /**
+     * How one payment was split across fees
+     */
+    public static class Allocation {
+        private final PaymentTransaction payment;
+        private final List<Split> splits = new ArrayList<>();
+        private double unallocated;
+
+        Allocation(PaymentTransaction payment) {
+            this.payment = payment;
+        }
+
+        public PaymentTransaction getPayment() { return payment; }
+        public List<Split> getSplits() { return Collections.unmodifiableList(splits); }
+        public double getUnallocated() { return unallocated; }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(payment.getReference()).append(':');
+            for (Split split : splits) {
+                text.append(String.format(" %s P %,.2f;", split.fee.getCode(), split.amount));
+            }
+            if (unallocated > 0) {
+                text.append(String.format(" unallocated P %,.2f", unallocated));
+            }
+            return text.toString();
+        }
+    }
+}
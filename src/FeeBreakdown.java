@@ -1,5 +1,6 @@
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 
 /**
  * Represents a single fee or charge in the student's account
@@ -111,6 +112,21 @@ public class FeeBreakdown {
         }
     }
     
+    /**
+     * Undo part of an earlier payment, e.g. when the payment is refunded
+     */
+    public void reversePayment(double paymentAmount) {
+        if (paymentAmount <= 0) return;
+        
+        amountPaid = Math.max(0, amountPaid - paymentAmount);
+        balance = amount - amountPaid;
+        isPaid = balance <= 0;
+        isPartiallyPaid = !isPaid && amountPaid > 0;
+        if (amountPaid == 0) {
+            paymentStatus = null;
+        }
+    }
+    
     /**
      * Returns a formatted string representation of the fee
      */
@@ -127,27 +143,44 @@ public class FeeBreakdown {
     
     /**
      * Creates a fee from a CSV string
+     * The description may contain commas (e.g. "P1,500/unit"), so the amount,
+     * type and date are located from the fee type rather than by position.
      */
     public static FeeBreakdown fromCSV(String csvLine) {
-        String[] parts = csvLine.split(",");
+        String[] parts = csvLine.split(",", -1);
         if (parts.length < 5) {
             return null;
         }
         
         try {
-            String code = parts[0].trim();
-            String description = parts[1].trim();
-            double amount = Double.parseDouble(parts[2].trim());
-            FeeType type = FeeType.valueOf(parts[3].trim());
-            LocalDate date = LocalDate.parse(parts[4].trim());
-            String remarks = parts.length > 5 ? parts[5].trim() : "";
-            
-            return new FeeBreakdown(code, description, amount, type, date, remarks);
+            for (int t = 3; t + 1 < parts.length; t++) {
+                FeeType type = parseType(parts[t].trim());
+                if (type == null) continue;
+                
+                String code = parts[0].trim();
+                String description = String.join(",", Arrays.copyOfRange(parts, 1, t - 1)).trim();
+                double amount = Double.parseDouble(parts[t - 1].trim());
+                LocalDate date = LocalDate.parse(parts[t + 1].trim());
+                String remarks = t + 2 < parts.length
+                    ? String.join(",", Arrays.copyOfRange(parts, t + 2, parts.length)).trim() : "";
+                
+                return new FeeBreakdown(code, description, amount, type, date, remarks);
+            }
+            return null;
         } catch (Exception e) {
             return null;
         }
     }
     
+    private static FeeType parseType(String name) {
+        for (FeeType type : FeeType.values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+    
     /**
      * Converts the fee to CSV format for storage
      */
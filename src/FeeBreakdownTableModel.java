@@ -0,0 +1,67 @@
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Breakdown of fees table: beginning balance, payments received, then assessed fees
+ * Features:
+ * - Rows are the statement's PaymentTransaction and FeeBreakdown objects themselves
+ * - A new payment inserts one row after the existing payments
+ */
+public class FeeBreakdownTableModel extends ListTableModel<Object> {
+    private static final String[] COLUMNS = {"Date", "Description", "Amount"};
+    private static final Object BEGINNING_BALANCE = new Object();
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    public FeeBreakdownTableModel(List<PaymentTransaction> payments, List<FeeBreakdown> fees) {
+        super(COLUMNS);
+        setStatement(payments, fees);
+    }
+
+    /**
+     * Show the given payments and fees, firing only the rows that changed
+     */
+    public void setStatement(List<PaymentTransaction> payments, List<FeeBreakdown> fees) {
+        List<Object> rows = new ArrayList<>(payments.size() + fees.size() + 1);
+        rows.add(BEGINNING_BALANCE);
+        rows.addAll(payments);
+        rows.addAll(fees);
+        setItems(rows);
+    }
+
+    @Override
+    protected Object getColumnValue(Object item, int column) {
+        if (item instanceof PaymentTransaction) {
+            PaymentTransaction payment = (PaymentTransaction) item;
+            switch (column) {
+                case 0: return payment.getDate().split(" ")[0]; // date part only
+                case 1: return "PAYMENT RECEIVED (" + payment.getReference() + ")";
+                default: return "(" + payment.getAmount().replace("P ", "").replace(",", "") + ")";
+            }
+        }
+        if (item instanceof FeeBreakdown) {
+            FeeBreakdown fee = (FeeBreakdown) item;
+            switch (column) {
+                case 0: return fee.getDatePosted() != null ? fee.getDatePosted().format(DATE_FORMAT) : "";
+                case 1: return fee.getDescription();
+                default: return String.format("%,.2f", fee.getAmount());
+            }
+        }
+        switch (column) {
+            case 1: return "BEGINNING BALANCE";
+            case 2: return "0.00";
+            default: return "";
+        }
+    }
+
+    @Override
+    protected boolean isSameItem(Object a, Object b) {
+        if (a instanceof PaymentTransaction && b instanceof PaymentTransaction) {
+            return ((PaymentTransaction) a).getReference().equals(((PaymentTransaction) b).getReference());
+        }
+        if (a instanceof FeeBreakdown && b instanceof FeeBreakdown) {
+            return ((FeeBreakdown) a).getDescription().equals(((FeeBreakdown) b).getDescription());
+        }
+        return a == b; // beginning balance marker
+    }
+}
@@ -0,0 +1,286 @@
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Tariff table compiled from feeSchedule.txt
+ * Features:
+ * - Parsed once into immutable per-program fee lists keyed by FeeType and program
+ * - A line with a program replaces the all-program lines of its FeeType for that program
+ * - Descriptions and amounts are final at load time (tuition is rate x units),
+ *   so billing a new statement only creates its FeeBreakdown objects
+ * - Reloaded only when feeSchedule.txt changes on disk; every reload gets a new version
+ *
+ * Line format: CODE,DESCRIPTION,AMOUNT,TYPE[,PROGRAM]
+ * The TUITION amount is per unit. A reload that yields no fees keeps the
+ * previous table, so a half-saved file never bills students nothing.
+ */
+public final class FeeSchedule {
+    private static final String FEES_FILE = "feeSchedule.txt";
+    public static final int UNITS_PER_TERM = 21;
+    private static final String ALL_PROGRAMS = "";
+    private static final String[] DEFAULT_LINES = {
+        "# Fee Schedule for 2025-2026",
+        "# Format: CODE,DESCRIPTION,AMOUNT,TYPE[,PROGRAM] - TUITION is per unit, PROGRAM limits a line to one program",
+        "TF001,Tuition Fee per Unit,1500.00,TUITION",
+        "LF001,Computer Laboratory Fee,3500.00,LABORATORY",
+        "MF001,Miscellaneous Fee,2800.00,MISCELLANEOUS",
+        "RF001,Registration Fee,500.00,REGISTRATION",
+        "LB001,Library Fee,800.00,LIBRARY",
+        "AT001,Athletic Fee,500.00,ATHLETIC",
+        "MD001,Medical/Dental Fee,400.00,MEDICAL",
+        "GD001,Guidance Fee,300.00,GUIDANCE",
+        "PB001,Student Publication Fee,250.00,PUBLICATION",
+        "IN001,Internet and Technology Fee,1500.00,INTERNET",
+        "EN001,Energy Fee,1200.00,ENERGY",
+        "IS001,Student Insurance,350.00,INSURANCE",
+        "DV001,Development Fund,1000.00,DEVELOPMENT",
+        "CL001,Cultural Activities Fee,300.00,CULTURAL"
+    };
+
+    private static volatile FeeSchedule current;
+    private static long loadedModified = -1;
+    private static int lastVersion = 0;
+
+    private final int version;
+    private final Tariff[] general;
+    private final Map<String, Tariff[]> byProgram;
+    private final Map<String, Map<FeeBreakdown.FeeType, List<Tariff>>> byTypeAndProgram;
+
+    private FeeSchedule(int version, List<Tariff> tariffs) {
+        this.version = version;
+
+        List<Tariff> shared = new ArrayList<>();
+        Map<String, List<Tariff>> specific = new LinkedHashMap<>();
+        for (Tariff tariff : tariffs) {
+            if (tariff.program.equals(ALL_PROGRAMS)) {
+                shared.add(tariff);
+            } else {
+                specific.computeIfAbsent(tariff.program, p -> new ArrayList<>()).add(tariff);
+            }
+        }
+        general = shared.toArray(new Tariff[0]);
+
+        Map<String, Tariff[]> programs = new HashMap<>();
+        Map<String, Map<FeeBreakdown.FeeType, List<Tariff>>> index = new HashMap<>();
+        index.put(ALL_PROGRAMS, indexByType(shared));
+        for (Map.Entry<String, List<Tariff>> entry : specific.entrySet()) {
+            Set<FeeBreakdown.FeeType> overridden = EnumSet.noneOf(FeeBreakdown.FeeType.class);
+            for (Tariff tariff : entry.getValue()) {
+                overridden.add(tariff.type);
+            }
+            List<Tariff> merged = new ArrayList<>();
+            for (Tariff tariff : shared) {
+                if (!overridden.contains(tariff.type)) {
+                    merged.add(tariff);
+                }
+            }
+            merged.addAll(entry.getValue());
+            programs.put(entry.getKey(), merged.toArray(new Tariff[0]));
+            index.put(entry.getKey(), indexByType(merged));
+        }
+        byProgram = Collections.unmodifiableMap(programs);
+        byTypeAndProgram = Collections.unmodifiableMap(index);
+    }
+
+    private static Map<FeeBreakdown.FeeType, List<Tariff>> indexByType(List<Tariff> tariffs) {
+        Map<FeeBreakdown.FeeType, List<Tariff>> byType = new EnumMap<>(FeeBreakdown.FeeType.class);
+        for (Tariff tariff : tariffs) {
+            byType.computeIfAbsent(tariff.type, t -> new ArrayList<>()).add(tariff);
+        }
+        for (Map.Entry<FeeBreakdown.FeeType, List<Tariff>> entry : byType.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(byType);
+    }
+
+    /**
+     * The fee schedule in feeSchedule.txt, reloaded only after the file changes
+     */
+    public static FeeSchedule load() {
+        reloadIfChanged();
+        return current;
+    }
+
+    private static synchronized void reloadIfChanged() {
+        File file = new File(FEES_FILE);
+        long modified = file.exists() ? file.lastModified() : 0;
+        if (current != null && modified == loadedModified) {
+            return;
+        }
+
+        List<Tariff> tariffs;
+        try {
+            tariffs = file.exists()
+                ? FileIOManager.readAndProcess(file, FeeSchedule::parseLine)
+                : parseLines(DEFAULT_LINES);
+        } catch (IOException e) {
+            System.err.println("Error reading fee schedule: " + e.getMessage());
+            tariffs = new ArrayList<>();
+        }
+        if (tariffs.isEmpty()) {
+            System.err.println("Fee schedule has no fees; keeping the " + (current != null ? "previous" : "default") + " schedule");
+            if (current == null) {
+                current = new FeeSchedule(++lastVersion, parseLines(DEFAULT_LINES));
+            }
+        } else {
+            current = new FeeSchedule(++lastVersion, tariffs);
+        }
+        loadedModified = modified;
+    }
+
+    /**
+     * Write the default schedule if feeSchedule.txt does not exist yet
+     */
+    static void writeDefaultIfMissing() {
+        File file = new File(FEES_FILE);
+        if (file.exists()) {
+            return;
+        }
+        try {
+            FileIOManager.writeAllLines(file, Arrays.asList(DEFAULT_LINES));
+        } catch (IOException e) {
+            System.err.println("Error creating fee schedule: " + e.getMessage());
+        }
+    }
+
+    private static List<Tariff> parseLines(String[] lines) {
+        List<Tariff> tariffs = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            Tariff tariff = parseLine(lines[i], i);
+            if (tariff != null) {
+                tariffs.add(tariff);
+            }
+        }
+        return tariffs;
+    }
+
+    private static Tariff parseLine(String line, int lineNumber) {
+        if (line.trim().isEmpty() || line.startsWith("#")) {
+            return null;
+        }
+        String[] parts = line.split(",", -1);
+        try {
+            // The type is last, or second to last when a program follows it
+            int typeIndex = parts.length - 1;
+            String program = ALL_PROGRAMS;
+            if (parts.length >= 5 && !isFeeType(parts[typeIndex])) {
+                program = parts[typeIndex].trim().toUpperCase();
+                typeIndex--;
+            }
+            if (typeIndex < 3) {
+                throw new IllegalArgumentException("expected CODE,DESCRIPTION,AMOUNT,TYPE[,PROGRAM]");
+            }
+            String description = String.join(",", Arrays.copyOfRange(parts, 1, typeIndex - 1)).trim();
+            return new Tariff(parts[0].trim(), description,
+                Double.parseDouble(parts[typeIndex - 1].trim()),
+                FeeBreakdown.FeeType.valueOf(parts[typeIndex].trim().toUpperCase()), program);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Skipping malformed fee schedule line " + (lineNumber + 1) + ": " + line
+                + " (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    private static boolean isFeeType(String value) {
+        try {
+            FeeBreakdown.FeeType.valueOf(value.trim().toUpperCase());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Post the program's fees to a new statement - O(fees)
+     */
+    public void addFeesTo(AccountStatement statement, String program, LocalDate datePosted) {
+        for (Tariff tariff : tariffsFor(program)) {
+            statement.addFee(new FeeBreakdown(tariff.code, tariff.description, tariff.amount, tariff.type, datePosted));
+        }
+    }
+
+    /**
+     * Fees a program is billed, in schedule order - O(1)
+     */
+    public List<Tariff> getTariffs(String program) {
+        return Collections.unmodifiableList(Arrays.asList(tariffsFor(program)));
+    }
+
+    /**
+     * Fees of one type for a program - O(1)
+     */
+    public List<Tariff> getTariffs(FeeBreakdown.FeeType type, String program) {
+        Map<FeeBreakdown.FeeType, List<Tariff>> byType = byTypeAndProgram.get(normalizeProgram(program));
+        if (byType == null) {
+            byType = byTypeAndProgram.get(ALL_PROGRAMS);
+        }
+        return byType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * Total a new statement of the program is charged - O(fees)
+     */
+    public double getTotal(String program) {
+        double total = 0;
+        for (Tariff tariff : tariffsFor(program)) {
+            total += tariff.amount;
+        }
+        return total;
+    }
+
+    /**
+     * Increases on every reload of feeSchedule.txt
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private Tariff[] tariffsFor(String program) {
+        Tariff[] tariffs = byProgram.get(normalizeProgram(program));
+        return tariffs != null ? tariffs : general;
+    }
+
+    private static String normalizeProgram(String program) {
+        return program == null ? ALL_PROGRAMS : program.trim().toUpperCase();
+    }
+
+    /**
+     * One billed fee with its final description and amount
+     */
+    public static final class Tariff {
+        private final String code;
+        private final String description;
+        private final double amount;
+        private final FeeBreakdown.FeeType type;
+        private final String program;
+        private final double rate;
+
+        private Tariff(String code, String description, double rate, FeeBreakdown.FeeType type, String program) {
+            if (code.isEmpty() || rate < 0) {
+                throw new IllegalArgumentException("fees need a code and a non-negative amount");
+            }
+            this.code = code;
+            this.type = type;
+            this.program = program;
+            this.rate = rate;
+            if (type == FeeBreakdown.FeeType.TUITION) {
+                String name = description.replaceFirst("(?i)\\s*per unit$", "");
+                this.description = String.format("%s (%d units @ P%,.0f/unit)", name, UNITS_PER_TERM, rate);
+                this.amount = rate * UNITS_PER_TERM;
+            } else {
+                this.description = description;
+                this.amount = rate;
+            }
+        }
+
+        public String getCode() { return code; }
+        public String getDescription() { return description; }
+        public double getAmount() { return amount; }
+        public FeeBreakdown.FeeType getType() { return type; }
+        public String getProgram() { return program; }
+        /** The amount in feeSchedule.txt: per unit for tuition */
+        public double getRate() { return rate; }
+    }
+}
@@ -0,0 +1,380 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Running GWA aggregates over gradeRecords.txt
+ * Features:
+ * - Sums of units x grade kept per student and per student/semester,
+ *   keyed by numeric student ID (StudentMap over IntObjectMap)
+ * - postGrade() replaces a subject's previous contribution in O(1)
+ * - Dean's list, at-risk and ranking queries over the whole student body
+ *   without rereading gradeRecords.txt
+ * - Parallel-stream rebuild from gradeRecords.txt for recovery
+ *
+ * A subject counts once its final grade is posted, weighted by its
+ * curriculum units, the same way TranscriptService counts it
+ * (GradeStatistics.countedGrade); subjects outside the curriculum count
+ * DEFAULT_UNITS.
+ */
+public class GradeAggregator {
+    public static final double PASSING_GRADE = 75.0;
+    public static final double AT_RISK_GWA = 80.0;
+    public static final double DEANS_LIST_GWA = 90.0;
+    public static final double DEANS_LIST_MIN_GRADE = 85.0;
+    public static final double DEANS_LIST_MIN_UNITS = 15.0;
+    public static final double DEFAULT_UNITS = 3.0;
+
+    private static final String GRADES_FILE = "gradeRecords.txt";
+
+    // studentID|semester|subjectCode -> the subject's current contribution
+    private static Map<String, Contribution> contributions = new HashMap<>();
+    private static StudentMap<Aggregate> studentTotals = new StudentMap<>();
+    // semester -> studentID -> term aggregate
+    private static Map<String, StudentMap<Aggregate>> semesterTotals = new HashMap<>();
+    private static boolean loaded = false;
+    private static ToDoubleFunction<String> unitsResolver; // null: units from curriculum.txt
+
+    /**
+     * Set how subject codes map to credit units; gradeRecords.txt has no units column.
+     * Null restores the curriculum units. Takes effect on the next rebuild()
+     * and for later postGrade() calls.
+     */
+    public static synchronized void setUnitsResolver(ToDoubleFunction<String> resolver) {
+        unitsResolver = resolver;
+    }
+
+    /**
+     * The configured resolver, or the current curriculum's units
+     */
+    private static ToDoubleFunction<String> unitsResolver() {
+        if (unitsResolver != null) {
+            return unitsResolver;
+        }
+        Curriculum curriculum = Curriculum.load();
+        return subjectCode -> curriculum.getUnits(subjectCode, DEFAULT_UNITS);
+    }
+
+    /**
+     * Apply a posted grade, replacing any earlier grade for the same subject and term - O(1)
+     */
+    public static synchronized void postGrade(GradeRecord record) {
+        ensureLoaded();
+        apply(record, unitsResolver().applyAsDouble(record.getSubjectCode()));
+    }
+
+    /**
+     * Apply a batch of posted grades - O(n)
+     */
+    public static synchronized void postGrades(Collection<GradeRecord> records) {
+        ensureLoaded();
+        ToDoubleFunction<String> resolver = unitsResolver();
+        for (GradeRecord record : records) {
+            apply(record, resolver.applyAsDouble(record.getSubjectCode()));
+        }
+    }
+
+    private static void apply(GradeRecord record, double units) {
+        String key = contributionKey(record);
+        Contribution previous = contributions.remove(key);
+        if (previous != null) {
+            aggregate(previous, -1);
+        }
+
+        Contribution current = Contribution.of(record, units);
+        if (current != null) {
+            contributions.put(key, current);
+            aggregate(current, 1);
+        }
+    }
+
+    private static void aggregate(Contribution contribution, int sign) {
+        studentTotals.computeIfAbsent(contribution.studentID, id -> new Aggregate())
+            .add(contribution, sign);
+        semesterTotals.computeIfAbsent(contribution.semester, s -> new StudentMap<>())
+            .computeIfAbsent(contribution.studentID, id -> new Aggregate())
+            .add(contribution, sign);
+    }
+
+    /**
+     * Recompute every aggregate from gradeRecords.txt using parallel streams - O(n / cores)
+     * Later lines win when a subject appears more than once for a student and term.
+     */
+    public static synchronized void rebuild() {
+        ToDoubleFunction<String> resolver = unitsResolver();
+        Map<String, Contribution> rebuilt;
+        try (Stream<String> lines = Files.lines(Paths.get(GRADES_FILE), StandardCharsets.UTF_8)) {
+            rebuilt = lines.parallel()
+                .map(GradeAggregator::parseLine)
+                .filter(Objects::nonNull)
+                .map(record -> Contribution.of(record, resolver.applyAsDouble(record.getSubjectCode())))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Contribution::key, c -> c, (earlier, later) -> later));
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error rebuilding grade aggregates: " + e.getMessage());
+            rebuilt = new HashMap<>();
+        }
+
+        Collector<Contribution, Aggregate, Aggregate> summing =
+            Collector.of(Aggregate::new, (total, c) -> total.add(c, 1), Aggregate::merge);
+        studentTotals = StudentMap.copyOf(rebuilt.values().parallelStream()
+            .collect(Collectors.groupingBy(c -> c.studentID, HashMap::new, summing)));
+        Map<String, Map<String, Aggregate>> bySemester = rebuilt.values().parallelStream()
+            .collect(Collectors.groupingBy(c -> c.semester, HashMap::new,
+                Collectors.groupingBy(c -> c.studentID, HashMap::new, summing)));
+        semesterTotals = new HashMap<>();
+        bySemester.forEach((semester, totals) -> semesterTotals.put(semester, StudentMap.copyOf(totals)));
+        contributions = new HashMap<>(rebuilt);
+        loaded = true;
+    }
+
+    private static GradeRecord parseLine(String line) {
+        if (line.isEmpty() || line.startsWith("===") || line.startsWith("Format:") || line.startsWith("#")) {
+            return null;
+        }
+        try {
+            return GradeRecord.fromCsvFormat(line);
+        } catch (NumberFormatException e) {
+            System.err.println("Skipping malformed grade line: " + line);
+            return null;
+        }
+    }
+
+    private static void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Cumulative GWA of a student over all terms, or NaN - O(1)
+     */
+    public static synchronized double getGWA(String studentID) {
+        ensureLoaded();
+        Aggregate total = studentTotals.get(studentID);
+        return total == null ? Double.NaN : total.getGWA();
+    }
+
+    /**
+     * Cumulative GWA of every student with graded units, for bulk passes - O(n)
+     */
+    public static synchronized Map<String, Double> getAllGWAs() {
+        ensureLoaded();
+        Map<String, Double> gwas = new HashMap<>();
+        studentTotals.forEach((studentID, total) -> {
+            if (total.units > 0) {
+                gwas.put(studentID, total.getGWA());
+            }
+        });
+        return gwas;
+    }
+
+    /**
+     * GWA of a student for one semester, or NaN - O(1)
+     */
+    public static synchronized double getTermGWA(String studentID, String semester) {
+        ensureLoaded();
+        StudentMap<Aggregate> term = semesterTotals.get(semester);
+        Aggregate total = term == null ? null : term.get(studentID);
+        return total == null ? Double.NaN : total.getGWA();
+    }
+
+    /**
+     * Dean's list for a semester, best GWA first - O(s log s) for s students in the term
+     * Requires DEANS_LIST_GWA or better, no subject below DEANS_LIST_MIN_GRADE
+     * and at least DEANS_LIST_MIN_UNITS graded units.
+     */
+    public static synchronized List<Standing> getDeansList(String semester) {
+        ensureLoaded();
+        List<Standing> result = new ArrayList<>();
+        semesterTotals.getOrDefault(semester, EMPTY).forEach((studentID, total) -> {
+            if (total.units >= DEANS_LIST_MIN_UNITS && total.belowHonorsFloor == 0
+                    && total.getGWA() >= DEANS_LIST_GWA) {
+                result.add(new Standing(studentID, total));
+            }
+        });
+        result.sort(BEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Students with a failing subject or a term GWA below AT_RISK_GWA, lowest GWA first - O(s log s)
+     */
+    public static synchronized List<Standing> getAtRiskStudents(String semester) {
+        ensureLoaded();
+        List<Standing> result = new ArrayList<>();
+        semesterTotals.getOrDefault(semester, EMPTY).forEach((studentID, total) -> {
+            if (total.units > 0 && (total.failing > 0 || total.getGWA() < AT_RISK_GWA)) {
+                result.add(new Standing(studentID, total));
+            }
+        });
+        result.sort(BEST_FIRST.reversed());
+        return result;
+    }
+
+    /**
+     * Top students by cumulative GWA - O(n log k) with a bounded heap
+     */
+    public static synchronized List<Standing> getTopStudents(int limit) {
+        ensureLoaded();
+        return topOf(studentTotals, limit);
+    }
+
+    /**
+     * Top students by GWA for one semester - O(s log k)
+     */
+    public static synchronized List<Standing> getTopStudents(String semester, int limit) {
+        ensureLoaded();
+        return topOf(semesterTotals.getOrDefault(semester, EMPTY), limit);
+    }
+
+    /**
+     * 1-based rank of a student by cumulative GWA, or -1 without grades - O(n)
+     */
+    public static synchronized int getRank(String studentID) {
+        ensureLoaded();
+        double gwa = getGWA(studentID);
+        if (Double.isNaN(gwa)) {
+            return -1;
+        }
+        int[] ahead = {0};
+        studentTotals.forEach((otherID, total) -> {
+            if (total.getGWA() > gwa) {
+                ahead[0]++;
+            }
+        });
+        return ahead[0] + 1;
+    }
+
+    private static List<Standing> topOf(StudentMap<Aggregate> totals, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        // Min-heap of the best `limit` standings seen so far
+        PriorityQueue<Standing> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        totals.forEach((studentID, total) -> {
+            if (total.units <= 0) return;
+            best.add(new Standing(studentID, total));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Standing> result = new ArrayList<>(best);
+        result.sort(BEST_FIRST);
+        return result;
+    }
+
+    private static String contributionKey(GradeRecord record) {
+        return record.getStudentID() + "|" + record.getSemester() + "|" + record.getSubjectCode();
+    }
+
+    private static final StudentMap<Aggregate> EMPTY = new StudentMap<>(); // semesters without grades; never written
+
+    private static final Comparator<Standing> BEST_FIRST = Comparator
+        .comparingDouble(Standing::getGWA).reversed()
+        .thenComparing(Standing::getStudentID);
+
+    /**
+     * One subject's grade and units as counted in the aggregates
+     */
+    private static class Contribution {
+        final String studentID;
+        final String semester;
+        final String subjectCode;
+        final double grade;
+        final double units;
+
+        private Contribution(GradeRecord record, double grade, double units) {
+            this.studentID = record.getStudentID();
+            this.semester = record.getSemester();
+            this.subjectCode = record.getSubjectCode();
+            this.grade = grade;
+            this.units = units;
+        }
+
+        /**
+         * Contribution of a record, or null when it has no final grade yet or no units
+         */
+        static Contribution of(GradeRecord record, double units) {
+            double grade = GradeStatistics.countedGrade(record);
+            return Double.isNaN(grade) || units <= 0 ? null : new Contribution(record, grade, units);
+        }
+
+        String key() {
+            return studentID + "|" + semester + "|" + subjectCode;
+        }
+    }
+
+    /**
+     * Running sums for one student or one student's term
+     */
+    private static class Aggregate {
+        double weightedSum;
+        double units;
+        int subjects;
+        int failing;
+        int belowHonorsFloor;
+
+        void add(Contribution contribution, int sign) {
+            weightedSum += sign * contribution.grade * contribution.units;
+            units += sign * contribution.units;
+            subjects += sign;
+            if (contribution.grade < PASSING_GRADE) failing += sign;
+            if (contribution.grade < DEANS_LIST_MIN_GRADE) belowHonorsFloor += sign;
+            if (subjects == 0) {
+                weightedSum = 0.0; // drop rounding residue once the last subject is removed
+                units = 0.0;
+            }
+        }
+
+        Aggregate merge(Aggregate other) {
+            weightedSum += other.weightedSum;
+            units += other.units;
+            subjects += other.subjects;
+            failing += other.failing;
+            belowHonorsFloor += other.belowHonorsFloor;
+            return this;
+        }
+
+        double getGWA() {
+            return GradeStatistics.weightedAverage(weightedSum, units);
+        }
+    }
+
+    /**
+     * Snapshot of a student's standing returned by the queries
+     */
+    public static class Standing {
+        private final String studentID;
+        private final double gwa;
+        private final double units;
+        private final int subjects;
+        private final int failingSubjects;
+
+        Standing(String studentID, Aggregate total) {
+            this.studentID = studentID;
+            this.gwa = total.getGWA();
+            this.units = total.units;
+            this.subjects = total.subjects;
+            this.failingSubjects = total.failing;
+        }
+
+        public String getStudentID() { return studentID; }
+        public double getGWA() { return gwa; }
+        public double getUnits() { return units; }
+        public int getSubjects() { return subjects; }
+        public int getFailingSubjects() { return failingSubjects; }
+
+        @Override
+        public String toString() {
+            return String.format("%s GWA %.2f (%s subjects, %.1f units)", studentID, gwa, subjects, units);
+        }
+    }
+}
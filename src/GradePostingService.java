@@ -0,0 +1,271 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Bulk grade submission for a whole class section
+ * Features:
+ * - Columnar grade sheets: one student ID column and one primitive column per grading period
+ * - Rows validated in parallel through DataValidator.validateGradeRecord; a sheet
+ *   with any invalid row is rejected as a whole
+ * - Existing rows located through a one-pass index and merged in memory, then
+ *   written with a single rewrite, or appended when every row is new
+ * - Change events after each posting so cached transcripts, aggregates and
+ *   grade lookups are refreshed
+ */
+public class GradePostingService {
+    private static final String GRADES_FILE = "gradeRecords.txt";
+    private static final String STATUS_ONGOING = "Ongoing";
+    private static final String STATUS_COMPLETED = "Completed";
+
+    private static final List<GradePostingListener> listeners = new CopyOnWriteArrayList<>();
+    private static final Object writeLock = new Object();
+
+    /**
+     * Receives the merged records after a sheet has been written
+     */
+    @FunctionalInterface
+    public interface GradePostingListener {
+        void gradesPosted(List<GradeRecord> postedRecords);
+    }
+
+    public static void addListener(GradePostingListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public static void removeListener(GradePostingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Validate and post a grade sheet - O(lines in file + rows)
+     * Submitted grades replace stored ones; NaN cells keep whatever is stored.
+     */
+    public static PostingResult post(GradeSheet sheet) {
+        PostingResult result = validate(sheet);
+        if (!result.isPosted()) {
+            return result;
+        }
+
+        List<GradeRecord> posted = new ArrayList<>(sheet.getSize());
+        synchronized (writeLock) {
+            try {
+                File file = new File(GRADES_FILE);
+                List<String> lines = FileIOManager.readAllLines(file);
+                Map<String, Integer> rowIndex = indexSection(lines, sheet);
+
+                List<String> appended = new ArrayList<>();
+                int updated = 0;
+                for (int i = 0; i < sheet.getSize(); i++) {
+                    Integer lineIndex = rowIndex.get(sheet.getStudentID(i));
+                    GradeRecord merged;
+                    if (lineIndex != null) {
+                        merged = merge(GradeRecord.fromCsvFormat(lines.get(lineIndex)), sheet, i);
+                        lines.set(lineIndex, merged.toCsvFormat());
+                        updated++;
+                    } else {
+                        merged = sheet.toRecord(i);
+                        appended.add(merged.toCsvFormat());
+                    }
+                    posted.add(merged);
+                }
+
+                if (updated == 0 && endsWithNewline(file)) {
+                    FileIOManager.appendLines(file, appended); // delta append
+                } else {
+                    lines.addAll(appended);
+                    FileIOManager.writeAllLines(file, lines);
+                }
+                result.updatedRows = updated;
+                result.appendedRows = appended.size();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error posting grades: " + e.getMessage());
+                result.errors.add("Unable to write grades: " + e.getMessage());
+                result.posted = false;
+                return result;
+            }
+        }
+
+        publish(posted);
+        return result;
+    }
+
+    /**
+     * Sheet-level column checks, then every row through validateGradeRecord in parallel
+     */
+    private static PostingResult validate(GradeSheet sheet) {
+        PostingResult result = new PostingResult();
+        if (sheet == null || sheet.getSize() == 0) {
+            result.errors.add("Grade sheet has no rows");
+            result.posted = false;
+            return result;
+        }
+        if (sheet.getSemester() == null || sheet.getSemester().trim().isEmpty()) {
+            result.errors.add("Semester cannot be null or empty");
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < sheet.getSize(); i++) {
+            if (!seen.add(sheet.getStudentID(i))) {
+                result.errors.add("Row " + (i + 1) + ": duplicate student ID " + sheet.getStudentID(i));
+            }
+        }
+
+        List<GradeRecord> records = new ArrayList<>(sheet.getSize());
+        for (int i = 0; i < sheet.getSize(); i++) {
+            records.add(sheet.toRecord(i));
+        }
+        List<DataValidator.ValidationResult> rowResults =
+            DataValidator.parallelBatchValidate(records, DataValidator::validateGradeRecord);
+        for (int i = 0; i < rowResults.size(); i++) {
+            String prefix = "Row " + (i + 1) + " (" + sheet.getStudentID(i) + "): ";
+            for (String error : rowResults.get(i).getErrors()) {
+                result.errors.add(prefix + error);
+            }
+            for (String warning : rowResults.get(i).getWarnings()) {
+                result.warnings.add(prefix + warning);
+            }
+        }
+
+        result.posted = result.errors.isEmpty();
+        return result;
+    }
+
+    /**
+     * Line index of each student's existing row for the sheet's subject and semester
+     */
+    private static Map<String, Integer> indexSection(List<String> lines, GradeSheet sheet) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String[] parts = lines.get(i).split(",");
+            if (parts.length >= 9 && parts[1].equals(sheet.getSubjectCode()) && parts[7].equals(sheet.getSemester())) {
+                index.put(parts[0], i);
+            }
+        }
+        return index;
+    }
+
+    private static GradeRecord merge(GradeRecord existing, GradeSheet sheet, int row) {
+        double finalGrade = pick(sheet.finalGrades.get(row), existing.getFinalValue());
+        return new GradeRecord(
+            existing.getStudentID(),
+            existing.getSubjectCode(),
+            existing.getSubjectName(),
+            pick(sheet.prelim.get(row), existing.getPrelimValue()),
+            pick(sheet.midterm.get(row), existing.getMidtermValue()),
+            pick(sheet.tentativeFinal.get(row), existing.getTentativeFinalValue()),
+            finalGrade,
+            existing.getSemester(),
+            Double.isNaN(finalGrade) ? existing.getStatus() : STATUS_COMPLETED
+        );
+    }
+
+    private static double pick(double submitted, double stored) {
+        return Double.isNaN(submitted) ? stored : submitted;
+    }
+
+    private static boolean endsWithNewline(File file) throws IOException {
+        if (!file.exists() || file.length() == 0) {
+            return true;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(file.length() - 1);
+            return raf.read() == '\n';
+        }
+    }
+
+    /**
+     * Refresh the portal's grade caches, then notify registered listeners
+     */
+    private static void publish(List<GradeRecord> posted) {
+        OptimizedDataManager.invalidateGradeCache();
+        GradeAggregator.postGrades(posted);
+        for (GradeRecord record : posted) {
+            TranscriptService.onGradePosted(record.getStudentID());
+        }
+
+        List<GradeRecord> view = Collections.unmodifiableList(posted);
+        for (GradePostingListener listener : listeners) {
+            try {
+                listener.gradesPosted(view);
+            } catch (RuntimeException e) {
+                System.err.println("Grade posting listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One section's grades in columns; NaN marks a grade not being submitted
+     */
+    public static class GradeSheet {
+        private final String subjectCode;
+        private final String subjectName;
+        private final String semester;
+        private final List<String> studentIDs = new ArrayList<>();
+        private final DoubleList prelim = new DoubleList();
+        private final DoubleList midterm = new DoubleList();
+        private final DoubleList tentativeFinal = new DoubleList();
+        private final DoubleList finalGrades = new DoubleList();
+
+        public GradeSheet(String subjectCode, String subjectName, String semester) {
+            this.subjectCode = subjectCode;
+            this.subjectName = subjectName;
+            this.semester = semester;
+        }
+
+        public GradeSheet addRow(String studentID, double prelimGrade, double midtermGrade,
+                                 double tentativeFinalGrade, double finalGrade) {
+            studentIDs.add(studentID);
+            prelim.add(prelimGrade);
+            midterm.add(midtermGrade);
+            tentativeFinal.add(tentativeFinalGrade);
+            finalGrades.add(finalGrade);
+            return this;
+        }
+
+        public String getSubjectCode() { return subjectCode; }
+        public String getSubjectName() { return subjectName; }
+        public String getSemester() { return semester; }
+        public int getSize() { return studentIDs.size(); }
+        public String getStudentID(int row) { return studentIDs.get(row); }
+
+        /**
+         * Row as a new grade record, used for validation and for students without a stored row
+         */
+        GradeRecord toRecord(int row) {
+            double finalGrade = finalGrades.get(row);
+            return new GradeRecord(studentIDs.get(row), subjectCode, subjectName,
+                prelim.get(row), midterm.get(row), tentativeFinal.get(row), finalGrade,
+                semester, Double.isNaN(finalGrade) ? STATUS_ONGOING : STATUS_COMPLETED);
+        }
+    }
+
+    /**
+     * Outcome of a posting: row counts on success, per-row messages otherwise
+     */
+    public static class PostingResult {
+        private boolean posted;
+        private int updatedRows;
+        private int appendedRows;
+        private final List<String> errors = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+
+        public boolean isPosted() { return posted; }
+        public int getUpdatedRows() { return updatedRows; }
+        public int getAppendedRows() { return appendedRows; }
+        public List<String> getErrors() { return Collections.unmodifiableList(errors); }
+        public List<String> getWarnings() { return Collections.unmodifiableList(warnings); }
+
+        @Override
+        public String toString() {
+            return posted
+                ? String.format("Posted: %d updated, %d appended", updatedRows, appendedRows)
+                : "Rejected: " + String.join("; ", errors);
+        }
+    }
+}
@@ -5,10 +5,11 @@ public class GradeRecord {
     private String studentID;
     private String subjectCode;
     private String subjectName;
-    private Double prelimGrade;
-    private Double midtermGrade;
-    private Double tentativeFinalGrade;
-    private Double finalGrade;
+    // Grades are stored unboxed; NaN means "not yet submitted"
+    private double prelimGrade;
+    private double midtermGrade;
+    private double tentativeFinalGrade;
+    private double finalGrade;
     private String semester;
     private String status; // "Ongoing", "Completed"
     
@@ -18,6 +19,21 @@ public class GradeRecord {
         this.studentID = studentID;
         this.subjectCode = subjectCode;
         this.subjectName = subjectName;
+        this.prelimGrade = toValue(prelimGrade);
+        this.midtermGrade = toValue(midtermGrade);
+        this.tentativeFinalGrade = toValue(tentativeFinalGrade);
+        this.finalGrade = toValue(finalGrade);
+        this.semester = semester;
+        this.status = status;
+    }
+    
+    // Constructor with unboxed grades (NaN for grades not yet submitted)
+    public GradeRecord(String studentID, String subjectCode, String subjectName, 
+                      double prelimGrade, double midtermGrade, double tentativeFinalGrade, 
+                      double finalGrade, String semester, String status) {
+        this.studentID = studentID;
+        this.subjectCode = subjectCode;
+        this.subjectName = subjectName;
         this.prelimGrade = prelimGrade;
         this.midtermGrade = midtermGrade;
         this.tentativeFinalGrade = tentativeFinalGrade;
@@ -30,52 +46,84 @@ public class GradeRecord {
     public String getStudentID() { return studentID; }
     public String getSubjectCode() { return subjectCode; }
     public String getSubjectName() { return subjectName; }
-    public Double getPrelimGrade() { return prelimGrade; }
-    public Double getMidtermGrade() { return midtermGrade; }
-    public Double getTentativeFinalGrade() { return tentativeFinalGrade; }
-    public Double getFinalGrade() { return finalGrade; }
+    public Double getPrelimGrade() { return toBoxed(prelimGrade); }
+    public Double getMidtermGrade() { return toBoxed(midtermGrade); }
+    public Double getTentativeFinalGrade() { return toBoxed(tentativeFinalGrade); }
+    public Double getFinalGrade() { return toBoxed(finalGrade); }
+    
+    // Primitive getters (NaN when not yet submitted)
+    public double getPrelimValue() { return prelimGrade; }
+    public double getMidtermValue() { return midtermGrade; }
+    public double getTentativeFinalValue() { return tentativeFinalGrade; }
+    public double getFinalValue() { return finalGrade; }
     public String getSemester() { return semester; }
     public String getStatus() { return status; }
     
     // Setters
-    public void setPrelimGrade(Double prelimGrade) { this.prelimGrade = prelimGrade; }
-    public void setMidtermGrade(Double midtermGrade) { this.midtermGrade = midtermGrade; }
-    public void setTentativeFinalGrade(Double tentativeFinalGrade) { this.tentativeFinalGrade = tentativeFinalGrade; }
-    public void setFinalGrade(Double finalGrade) { this.finalGrade = finalGrade; }
+    public void setPrelimGrade(Double prelimGrade) { this.prelimGrade = toValue(prelimGrade); }
+    public void setMidtermGrade(Double midtermGrade) { this.midtermGrade = toValue(midtermGrade); }
+    public void setTentativeFinalGrade(Double tentativeFinalGrade) { this.tentativeFinalGrade = toValue(tentativeFinalGrade); }
+    public void setFinalGrade(Double finalGrade) { this.finalGrade = toValue(finalGrade); }
     public void setStatus(String status) { this.status = status; }
     
     /**
      * Calculates the overall grade based on available grades
      */
     public Double calculateOverallGrade() {
-        if (finalGrade != null) {
+        return toBoxed(calculateOverallGradeValue());
+    }
+    
+    /**
+     * Calculates the overall grade without boxing; NaN when no grade is available
+     */
+    public double calculateOverallGradeValue() {
+        if (!Double.isNaN(finalGrade)) {
             return finalGrade;
         }
         
         int count = 0;
         double total = 0.0;
         
-        if (prelimGrade != null) {
+        if (!Double.isNaN(prelimGrade)) {
             total += prelimGrade;
             count++;
         }
-        if (midtermGrade != null) {
+        if (!Double.isNaN(midtermGrade)) {
             total += midtermGrade;
             count++;
         }
-        if (tentativeFinalGrade != null) {
+        if (!Double.isNaN(tentativeFinalGrade)) {
             total += tentativeFinalGrade;
             count++;
         }
         
-        return count > 0 ? total / count : null;
+        return count > 0 ? total / count : Double.NaN;
     }
     
     /**
      * Formats a grade for display
      */
-    private String formatGrade(Double grade) {
-        return grade != null ? String.format("%.2f", grade) : "-";
+    private String formatGrade(double grade) {
+        return !Double.isNaN(grade) ? String.format("%.2f", grade) : "-";
+    }
+    
+    /**
+     * Formats a stored grade for CSV storage (empty when not submitted)
+     */
+    private static String csvGrade(double grade) {
+        return !Double.isNaN(grade) ? String.valueOf(grade) : "";
+    }
+    
+    private static double parseGrade(String text) {
+        return text.isEmpty() ? Double.NaN : Double.parseDouble(text);
+    }
+    
+    private static double toValue(Double grade) {
+        return grade != null ? grade : Double.NaN;
+    }
+    
+    private static Double toBoxed(double grade) {
+        return !Double.isNaN(grade) ? grade : null;
     }
     
     /**
@@ -83,10 +131,10 @@ public class GradeRecord {
      */
     public String toCsvFormat() {
         return studentID + "," + subjectCode + "," + subjectName + "," + 
-               (prelimGrade != null ? prelimGrade : "") + "," +
-               (midtermGrade != null ? midtermGrade : "") + "," +
-               (tentativeFinalGrade != null ? tentativeFinalGrade : "") + "," +
-               (finalGrade != null ? finalGrade : "") + "," +
+               csvGrade(prelimGrade) + "," +
+               csvGrade(midtermGrade) + "," +
+               csvGrade(tentativeFinalGrade) + "," +
+               csvGrade(finalGrade) + "," +
                semester + "," + status;
     }
     
@@ -96,10 +144,10 @@ public class GradeRecord {
     public static GradeRecord fromCsvFormat(String csvLine) {
         String[] parts = csvLine.split(",");
         if (parts.length >= 9) {
-            Double prelimGrade = parts[3].isEmpty() ? null : Double.parseDouble(parts[3]);
-            Double midtermGrade = parts[4].isEmpty() ? null : Double.parseDouble(parts[4]);
-            Double tentativeFinalGrade = parts[5].isEmpty() ? null : Double.parseDouble(parts[5]);
-            Double finalGrade = parts[6].isEmpty() ? null : Double.parseDouble(parts[6]);
+            double prelimGrade = parseGrade(parts[3]);
+            double midtermGrade = parseGrade(parts[4]);
+            double tentativeFinalGrade = parseGrade(parts[5]);
+            double finalGrade = parseGrade(parts[6]);
             
             return new GradeRecord(
                 parts[0], // studentID
@@ -125,7 +173,7 @@ public class GradeRecord {
             formatGrade(prelimGrade),
             formatGrade(midtermGrade),
             formatGrade(tentativeFinalGrade),
-            formatGrade(finalGrade != null ? finalGrade : calculateOverallGrade())
+            formatGrade(calculateOverallGradeValue())
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+/**
+ * Grade statistics computed over primitive collections
+ * Features:
+ * - The one definition of which grade counts toward a GWA
+ * - General Weighted Average (GWA) from parallel grade/unit lists
+ *   (DoubleList grades, IntList units in tenths)
+ * - No boxing of grades or units on the computation path
+ *
+ * TranscriptService and GradeAggregator both count grades through here,
+ * so the transcript and the standing queries always agree.
+ */
+public class GradeStatistics {
+
+    /**
+     * Grade a record contributes to a GWA: its final grade, or NaN while
+     * the subject is still in progress - O(1)
+     */
+    public static double countedGrade(GradeRecord record) {
+        return record.getFinalValue();
+    }
+
+    /**
+     * Units are kept in tenths in IntLists, so 1.5-unit courses stay exact
+     */
+    public static final int UNIT_SCALE = 10;
+
+    /**
+     * Units in tenths for an IntList of units, e.g. 1.5 -> 15 - O(1)
+     */
+    public static int scaledUnits(double units) {
+        return (int) Math.round(units * UNIT_SCALE);
+    }
+
+    /**
+     * General Weighted Average: sum(grade * units) / sum(units) - O(n)
+     * Units may be in any fixed scale, e.g. tenths from scaledUnits(); the scale cancels out.
+     * Entries with a NaN grade or non-positive units are skipped.
+     * Returns NaN when no graded units are present.
+     */
+    public static double weightedAverage(DoubleList grades, IntList units) {
+        if (grades.getSize() != units.getSize()) {
+            throw new IllegalArgumentException("Grades and units must have the same size");
+        }
+
+        double weightedSum = 0.0;
+        long totalUnits = 0;
+        for (int i = 0; i < grades.getSize(); i++) {
+            double grade = grades.get(i);
+            int unit = units.get(i);
+            if (Double.isNaN(grade) || unit <= 0) {
+                continue;
+            }
+            weightedSum += grade * unit;
+            totalUnits += unit;
+        }
+        return totalUnits == 0 ? Double.NaN : weightedSum / totalUnits;
+    }
+
+    /**
+     * GWA from running sums of grade x units and units, or NaN without graded units - O(1)
+     * For callers that keep the sums up to date instead of rescanning their lists.
+     */
+    public static double weightedAverage(double weightedSum, double totalUnits) {
+        return totalUnits > 0 ? weightedSum / totalUnits : Double.NaN;
+    }
+}
@@ -0,0 +1,49 @@
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Current-term grades table backed by the student's GradeRecord list
+ * Features:
+ * - Class code, course number and units joined from the student's timetable
+ * - Rows identified by subject code and semester, so a posted grade repaints one row
+ */
+public class GradeTableModel extends ListTableModel<GradeRecord> {
+    private static final String[] COLUMNS = {"Class Code", "Course Number", "Units", "Prelim Grade",
+        "Midterm Grade", "Tentative Final Grade", "Final Grade", "Weights"};
+
+    // Normalized course number -> scheduled class
+    private final Map<String, CourseSchedule> classes = new HashMap<>();
+
+    public GradeTableModel(Timetable timetable, List<GradeRecord> grades) {
+        super(COLUMNS);
+        for (CourseSchedule course : timetable.getCourses()) {
+            classes.putIfAbsent(Curriculum.normalize(course.getCourseNumber()), course);
+        }
+        setItems(grades);
+    }
+
+    @Override
+    protected Object getColumnValue(GradeRecord record, int column) {
+        CourseSchedule course = classes.get(Curriculum.normalize(record.getSubjectCode()));
+        switch (column) {
+            case 0: return course != null ? course.getClassCode() : "";
+            case 1: return course != null ? course.getCourseNumber() : record.getSubjectCode();
+            case 2: return course != null ? String.valueOf(course.getUnits()) : "";
+            case 3: return formatGrade(record.getPrelimValue());
+            case 4: return formatGrade(record.getMidtermValue());
+            case 5: return formatGrade(record.getTentativeFinalValue());
+            case 6: return Double.isNaN(record.getFinalValue()) ? "Not Yet Submitted" : formatGrade(record.getFinalValue());
+            default: return "";
+        }
+    }
+
+    @Override
+    protected boolean isSameItem(GradeRecord a, GradeRecord b) {
+        return a.getSubjectCode().equals(b.getSubjectCode()) && a.getSemester().equals(b.getSemester());
+    }
+
+    private static String formatGrade(double grade) {
+        return Double.isNaN(grade) ? "" : String.format("%.2f", grade);
+    }
+}
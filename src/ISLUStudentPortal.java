@@ -32,6 +32,13 @@ public class ISLUStudentPortal extends JFrame {
     private JPanel mainCardHolder;
     private CardLayout mainCardLayout;
     private MyDoublyLinkedList<MenuItem> menu;
+    private final Map<String, CachedPanel> panelCache = new HashMap<>(); // Panels built once per menu item
+    private JLabel navigationLatencyLabel; // Debug overlay, enabled with -Dislu.debugNavigation=true
+    private GradePostingService.GradePostingListener gradePostingListener; // removed on dispose()
+    private PaymentStatusScheduler.PaymentStatusListener paymentStatusListener; // removed on dispose()
+    private WeeklyViewPanel classScheduleWeeklyView; // cached Class Schedule panel, kept in step with courseSchedules.txt
+    private JScrollPane classScheduleTableScroll;
+    private static final double DEFAULT_COURSE_UNITS = 3.0;
 
     // Student data
     private String studentID;
@@ -41,16 +48,28 @@ public class ISLUStudentPortal extends JFrame {
 
     public ISLUStudentPortal(String studentID) {
         this.studentID = studentID;
-        this.studentName = getStudentNameFromDatabase(studentID);
-        
-        // Initialize random amounts for each account
-        // Initialize account statement for the student
-        this.accountStatement = AccountStatementManager.getStatement(studentID);
+        this.studentName = studentID; // Shown until the name is loaded from the database
         
         initializeComponents();
         setupLayout(PortalUtils.createHomeSublist());
         loadAnnouncements();
         
+        // Load student name and account statement in the background
+        AsyncLoader.load(() -> getStudentNameFromDatabase(studentID), name -> {
+            studentName = name;
+            userNameLabel.setText(name);
+        }, null);
+        AsyncLoader.load(() -> AccountStatementManager.getStatement(studentID),
+            statement -> accountStatement = statement, null);
+
+        // Payment status changes are pushed by the scheduler; refresh only when one of ours moved
+        paymentStatusListener = (payment, from, to) -> SwingUtilities.invokeLater(() -> {
+            if (accountStatement != null && accountStatement.getPaymentHistory().contains(payment)) {
+                refreshStatementOfAccounts();
+            }
+        });
+        PaymentStatusScheduler.addListener(paymentStatusListener);
+
         // Start database monitoring
         startDatabaseMonitoring();
         
@@ -67,51 +86,39 @@ public class ISLUStudentPortal extends JFrame {
 
 
     /**
-     * Generates random grade between 76-99 using optimized data structures
+     * Credit units of a subject code for the transcript - O(1) for curriculum courses
+     * gradeRecords.txt has no units column, so units come from the curriculum,
+     * then from the student's timetable; codes are compared without spaces.
      */
-    private int generateRandomGrade() {
-        return 76 + (int) (Math.random() * 24); // 76 to 99
+    private double getCourseUnits(String subjectCode) {
+        Curriculum curriculum = Curriculum.load();
+        int index = curriculum.indexOf(subjectCode);
+        if (index >= 0) {
+            return curriculum.getUnits(index);
+        }
+        for (CourseSchedule course : Timetable.forStudent(studentID).getCourses()) {
+            if (Curriculum.normalize(course.getCourseNumber()).equals(Curriculum.normalize(subjectCode))) {
+                return course.getUnits();
+            }
+        }
+        return DEFAULT_COURSE_UNITS;
     }
 
     /**
-     * Generates transcript data with all semesters and random grades
+     * Detach from the static grade and payment services so a logged-out
+     * portal and its panels can be collected
      */
-    private Object[][] generateTranscriptData() {
-        java.util.List<Object[]> data = new java.util.ArrayList<>();
-        
-        // FIRST SEMESTER, 2024-2025
-        data.add(new Object[]{"FIRST SEMESTER, 2024-2025", "", "", ""});
-        data.add(new Object[]{"CFE 101", "GOD'S JOURNEY WITH HIS PEOPLE", generateRandomGrade(), 3});
-        data.add(new Object[]{"FIT HW", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (HEALTH AND WELLNESS)", generateRandomGrade(), 2});
-        data.add(new Object[]{"GART", "ART APPRECIATION", generateRandomGrade(), 3});
-        data.add(new Object[]{"GHIST", "READINGS IN PHILIPPINE HISTORY", generateRandomGrade(), 3});
-        data.add(new Object[]{"GSELF", "UNDERSTANDING THE SELF", generateRandomGrade(), 3});
-        data.add(new Object[]{"IT 111", "INTRODUCTION TO COMPUTING (LEC)", generateRandomGrade(), 2});
-        data.add(new Object[]{"IT 111L", "INTRODUCTION TO COMPUTING (LAB)", generateRandomGrade(), 1});
-        data.add(new Object[]{"IT 112", "COMPUTER PROGRAMMING 1 (LEC)", generateRandomGrade(), 2});
-        data.add(new Object[]{"IT 112L", "COMPUTER PROGRAMMING 1 (LAB)", generateRandomGrade(), 1});
-        data.add(new Object[]{"IT 113", "DISCRETE MATHEMATICS", generateRandomGrade(), 3});
-        
-        // SECOND SEMESTER, 2024-2025
-        data.add(new Object[]{"SECOND SEMESTER, 2024-2025", "", "", ""});
-        data.add(new Object[]{"CFE 102", "CHRISTIAN MORALITY IN OUR TIMES", generateRandomGrade(), 3});
-        data.add(new Object[]{"FIT CS", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (COMBATIVE SPORTS)", generateRandomGrade(), 2});
-        data.add(new Object[]{"GCWORLD", "THE CONTEMPORARY WORLD", generateRandomGrade(), 3});
-        data.add(new Object[]{"GMATH", "MATHEMATICS IN THE MODERN WORLD", generateRandomGrade(), 3});
-        data.add(new Object[]{"GPCOM", "PURPOSIVE COMMUNICATION", generateRandomGrade(), 3});
-        data.add(new Object[]{"IT 121", "INFORMATION SYSTEM FUNDAMENTALS", generateRandomGrade(), 3});
-        data.add(new Object[]{"IT 122", "COMPUTER PROGRAMMING 2", generateRandomGrade(), 2});
-        data.add(new Object[]{"IT 122L", "COMPUTER PROGRAMMING 2 (LAB)", generateRandomGrade(), 1});
-        data.add(new Object[]{"IT 123", "PLATFORM TECHNOLOGIES", generateRandomGrade(), 2});
-        data.add(new Object[]{"IT 123L", "PLATFORM TECHNOLOGIES (LAB)", generateRandomGrade(), 1});
-        
-        // SHORT TERM, 2025
-        data.add(new Object[]{"SHORT TERM, 2025", "", "", ""});
-        data.add(new Object[]{"GRIZAL", "THE LIFE AND WORKS OF RIZAL", generateRandomGrade(), 3});
-        data.add(new Object[]{"IT 131", "COMPUTER ARCHITECTURE", generateRandomGrade(), 2});
-        data.add(new Object[]{"IT 131L", "COMPUTER ARCHITECTURE (LAB)", generateRandomGrade(), 1});
-        
-        return data.toArray(new Object[data.size()][4]);
+    @Override
+    public void dispose() {
+        if (gradePostingListener != null) {
+            GradePostingService.removeListener(gradePostingListener);
+            gradePostingListener = null;
+        }
+        if (paymentStatusListener != null) {
+            PaymentStatusScheduler.removeListener(paymentStatusListener);
+            paymentStatusListener = null;
+        }
+        super.dispose();
     }
 
     private void initializeComponents() {
@@ -341,6 +348,20 @@ public class ISLUStudentPortal extends JFrame {
         contentPanel.add(statusPanel);
     }
 
+    /**
+     * Grade records of the current semester, in file order
+     */
+    private List<GradeRecord> getCurrentTermGrades() {
+        String currentTerm = semester.replace(",", "");
+        List<GradeRecord> grades = new ArrayList<>();
+        for (GradeRecord record : OptimizedDataManager.getGradeRecords(studentID)) {
+            if (record.getSemester().equals(currentTerm)) {
+                grades.add(record);
+            }
+        }
+        return grades;
+    }
+
     // Method for the "Grade" sub-panels
     private JPanel createGradesPanel(MySinglyLinkedList<String> subItems) {
         JPanel mainPanel = new JPanel(new BorderLayout());
@@ -358,15 +379,19 @@ public class ISLUStudentPortal extends JFrame {
 
         headerPanel.add(titleLabel, BorderLayout.WEST);
 
-        // Table with exact columns from image
-        String[] columnNames = {"Class Code", "Course Number", "Units", "Prelim Grade", "Midterm Grade", "Tentative Final Grade", "Final Grade", "Weights"};
+        // Table with exact columns from image, backed by the current term's grade records
+        GradeTableModel tableModel = new GradeTableModel(Timetable.forStudent(studentID), getCurrentTermGrades());
 
-        DefaultTableModel tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make all cells non-editable
+        // Posted grades repaint only the affected rows; a rebuilt panel replaces the old listener
+        if (gradePostingListener != null) {
+            GradePostingService.removeListener(gradePostingListener);
+        }
+        gradePostingListener = posted -> {
+            if (posted.stream().anyMatch(record -> record.getStudentID().equals(studentID))) {
+                SwingUtilities.invokeLater(() -> tableModel.setItems(getCurrentTermGrades()));
             }
         };
+        GradePostingService.addListener(gradePostingListener);
 
         JTable table = new JTable(tableModel);
         table.setFont(new Font("Arial", Font.PLAIN, 12));
@@ -378,18 +403,6 @@ public class ISLUStudentPortal extends JFrame {
         table.setGridColor(new Color(220, 220, 220));
         table.setFillsViewportHeight(false);
 
-        // Add the exact data from the image
-        tableModel.addRow(new Object[]{"7024", "NCTP-CWTS 1", "3", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9454", "GSTS", "3", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9465", "GEN1", "3", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9458", "LYE 103", "3", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9457", "IT 211", "3", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9458A", "IT 212", "2", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9458B", "IT 212L", "1", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9459A", "IT 213", "2", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9459B", "IT 213L", "1", "", "", "", "Not Yet Submitted", ""});
-        tableModel.addRow(new Object[]{"9547", "FIT OA", "1", "", "", "", "Not Yet Submitted", ""});
-
         JScrollPane scrollPane = new JScrollPane(table);
         scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 15));
         scrollPane.setBackground(Color.WHITE);
@@ -637,7 +650,10 @@ public class ISLUStudentPortal extends JFrame {
 
     // method for showing different contents
     private void showContent(MenuItem item) {
-// Clear current content
+        long navigationStart = System.nanoTime();
+        boolean reused = false;
+
+        // Clear current content
         contentPanel.removeAll();
         switch (item.getName()) {
             case "🏠 Home":
@@ -647,44 +663,178 @@ public class ISLUStudentPortal extends JFrame {
                 contentPanel.setBackground(Color.WHITE);
                 setupLayout(item.getSubItems());
                 break;
-            case "📚 Journal/Periodical":
-                contentPanel.add(createJournalPeriodicalPanel(item.getSubItems()));
+            case "👤 Personal Details":
+                showPersonalDetailsContent(item.getSubItems());
                 break;
+            default:
+                reused = panelCache.containsKey(item.getName());
+                Component panel = getCachedPanel(item);
+                if (panel != null) {
+                    contentPanel.add(panel);
+                } else {
+                    // Fallback for any other menu item with a sublist
+                    reused = false;
+                    showGenericContent(item.getName());
+                }
+        }
+        contentPanel.revalidate();
+        contentPanel.repaint();
+
+        recordNavigationLatency(item.getName(), navigationStart, reused);
+    }
+
+    /**
+     * Builds the content panel for a cacheable menu item, or returns null if the item has none
+     */
+    private Component buildContentPanel(MenuItem item) {
+        switch (item.getName()) {
+            case "📚 Journal/Periodical":
+                return createJournalPeriodicalPanel(item.getSubItems());
             case "📅 Schedule":
-                contentPanel.add(createClassChecklistPanel());
-                break;
+                return createClassChecklistPanel();
             case "📌 Attendance":
-                contentPanel.add(showAttendanceContent(item.getSubItems()));
-                break;
+                return showAttendanceContent(item.getSubItems());
             case "📊 Grades":
-                contentPanel.add(createGradesPanel(item.getSubItems()));
-                break;
-            case "👤 Personal Details":
-                showPersonalDetailsContent(item.getSubItems());
-                break;
+                return createGradesPanel(item.getSubItems());
             case "🧮 Statement of Accounts":
-                contentPanel.add(createStatementOfAccountsPanel(item.getSubItems()));
-                break;
+                return createStatementOfAccountsPanel(item.getSubItems());
             case "📋 Transcript of Records":
-                contentPanel.add(createTranscriptOfRecordsPanel(item.getSubItems()));
-                break;
+                return createTranscriptOfRecordsPanel(item.getSubItems());
             case "✅ Curriculum Checklist":
-                contentPanel.add(createCurriculumChecklistPanel(item.getSubItems()));
-                break;
+                return createCurriculumChecklistPanel(item.getSubItems());
             case "ℹ️ Downloadable/ About iSLU":
-                contentPanel.add(createAboutISLUPanel(item.getSubItems()));
-                break;
+                return createAboutISLUPanel(item.getSubItems());
             case "🏥 Medical Record":
-                contentPanel.add(createMedicalRecordPanel(item.getSubItems()));
-                break;
+                return createMedicalRecordPanel(item.getSubItems());
             default:
-                // Fallback for any other menu item with a sublist
-                showGenericContent(item.getName());
+                return null;
+        }
+    }
+
+    /**
+     * Returns the cached panel for a menu item, building it on first use.
+     * When the panel's data files changed since it was built, panels that can
+     * refresh their table models in place do so; the others are rebuilt.
+     */
+    private Component getCachedPanel(MenuItem item) {
+        String name = item.getName();
+        long dataStamp = getPanelDataStamp(name);
+        CachedPanel cached = panelCache.get(name);
+
+        if (cached != null) {
+            if (cached.dataStamp == dataStamp) {
+                return cached.panel;
+            }
+            if (cached.refresher != null) {
+                cached.refresher.run();
+                cached.dataStamp = dataStamp;
+                return cached.panel;
+            }
         }
-        contentPanel.revalidate();
-        contentPanel.repaint();
 
+        Component panel = buildContentPanel(item);
+        if (panel == null) {
+            panelCache.remove(name);
+            return null;
+        }
+        panelCache.put(name, new CachedPanel(panel, dataStamp, getPanelRefresher(name)));
+        return panel;
     }
+
+    /**
+     * Data files backing each menu item's panel; panels not listed only use static data
+     */
+    private static String[] getPanelDataFiles(String menuName) {
+        switch (menuName) {
+            case "📌 Attendance":
+                return new String[]{"attendanceRecords.txt"};
+            case "🧮 Statement of Accounts":
+                return new String[]{"accountStatements.txt", "paymentLogs.txt"};
+            case "🏥 Medical Record":
+                return new String[]{"MedicalRecords.txt"};
+            case "📋 Transcript of Records":
+                return new String[]{"gradeRecords.txt"};
+            case "✅ Curriculum Checklist":
+                return new String[]{"gradeRecords.txt", "curriculum.txt"};
+            default:
+                return new String[0];
+        }
+    }
+
+    /**
+     * Latest modification time of the panel's data files, used to detect stale panels
+     */
+    private static long getPanelDataStamp(String menuName) {
+        long stamp = 0;
+        for (String fileName : getPanelDataFiles(menuName)) {
+            File file = new File(fileName);
+            if (file.exists()) {
+                stamp = Math.max(stamp, file.lastModified());
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * In-place data refresh for panels whose tables and labels can be updated without rebuilding
+     */
+    private Runnable getPanelRefresher(String menuName) {
+        if ("🧮 Statement of Accounts".equals(menuName)) {
+            return this::refreshStatementOfAccounts;
+        }
+        return null;
+    }
+
+    /**
+     * Measures click-to-paint latency and shows it in the debug overlay when enabled
+     */
+    private void recordNavigationLatency(String menuName, long navigationStart, boolean reused) {
+        if (!Boolean.getBoolean("islu.debugNavigation")) {
+            return;
+        }
+
+        // Runs after the pending layout and repaint requests queued above
+        SwingUtilities.invokeLater(() -> {
+            double millis = (System.nanoTime() - navigationStart) / 1_000_000.0;
+            String text = String.format("%s: %.1f ms (%s)", menuName, millis, reused ? "cached" : "built");
+            System.out.println("DEBUG: Navigation " + text);
+            showNavigationLatencyOverlay(text);
+        });
+    }
+
+    private void showNavigationLatencyOverlay(String text) {
+        JLayeredPane layeredPane = getLayeredPane();
+        if (navigationLatencyLabel == null) {
+            navigationLatencyLabel = new JLabel();
+            navigationLatencyLabel.setOpaque(true);
+            navigationLatencyLabel.setBackground(new Color(0, 0, 0, 170));
+            navigationLatencyLabel.setForeground(Color.GREEN);
+            navigationLatencyLabel.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+            navigationLatencyLabel.setBorder(new EmptyBorder(4, 8, 4, 8));
+            layeredPane.add(navigationLatencyLabel, JLayeredPane.DRAG_LAYER);
+        }
+        navigationLatencyLabel.setText(text);
+        Dimension size = navigationLatencyLabel.getPreferredSize();
+        navigationLatencyLabel.setBounds(layeredPane.getWidth() - size.width - 10,
+            layeredPane.getHeight() - size.height - 10, size.width, size.height);
+        navigationLatencyLabel.repaint();
+    }
+
+    /**
+     * Content panel kept between navigations, with the data stamp it was built from
+     */
+    private static class CachedPanel {
+        private final Component panel;
+        private final Runnable refresher;
+        private long dataStamp;
+
+        CachedPanel(Component panel, long dataStamp, Runnable refresher) {
+            this.panel = panel;
+            this.dataStamp = dataStamp;
+            this.refresher = refresher;
+        }
+    }
+
     // Journal/Periodical Panel with Enhanced Search Functionality
     private JPanel createJournalPeriodicalPanel(MySinglyLinkedList<String> subItems) {
         JPanel mainPanel = new JPanel(new BorderLayout());
@@ -1238,9 +1388,15 @@ public class ISLUStudentPortal extends JFrame {
      *  - Current Load table (top)
      *  - Weekly View (bottom) auto-generated from the table (non-interactive)
      *
-     * The mock class data is provided by getMockClasses()
+     * Both render from the student's Timetable, loaded from courseSchedules.txt in the background
      */
     private JPanel createClassChecklistPanel() {
+        return AsyncLoader.createAsyncPanel("Loading class schedule...",
+            () -> Timetable.forStudent(studentID),
+            this::buildClassChecklistPanel);
+    }
+
+    private JPanel buildClassChecklistPanel(Timetable timetable) {
         JPanel wrapper = new JPanel(new BorderLayout(10, 10));
         wrapper.setBorder(new EmptyBorder(10, 10, 10, 10));
 
@@ -1249,18 +1405,20 @@ public class ISLUStudentPortal extends JFrame {
         title.setFont(new Font("Arial", Font.BOLD, 20));
         wrapper.add(title, BorderLayout.NORTH);
 
-        // Fetch mock classes (editable in one place)
-        List<ClassInfo> classes = getMockClasses();
-        JPanel tablePanel = createClassScheduleTable();
-
+        JPanel tablePanel = createClassScheduleTable(timetable);
+        JScrollPane tableScroll = new JScrollPane(tablePanel);
 
         // Weekly View panel (custom painter)
-        WeeklyViewPanel weeklyView = new WeeklyViewPanel(classes);
+        WeeklyViewPanel weeklyView = new WeeklyViewPanel(timetable);
+
+        // The panel is cached; refreshClassScheduleIfChanged() swaps in a reloaded timetable
+        classScheduleWeeklyView = weeklyView;
+        classScheduleTableScroll = tableScroll;
 
         // Combine table (top) and weekly view (below) in vertical layout with scroll
         JPanel combined = new JPanel();
         combined.setLayout(new BoxLayout(combined, BoxLayout.Y_AXIS));
-        combined.add(new JScrollPane(tablePanel));
+        combined.add(tableScroll);
         combined.add(Box.createRigidArea(new Dimension(0, 12)));
         combined.add(weeklyView);
 
@@ -1275,114 +1433,31 @@ public class ISLUStudentPortal extends JFrame {
         return wrapper;
     }
 
-    /**
-     * Mock class data center (edit this method to add/remove mock classes)
-     *
-     * Format per ClassInfo:
-     *   ClassInfo(classCode, courseNo, description, units, startTimeStr, endTimeStr, daysList, room, studentCount)
-     *
-     * Days are strings: "Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"
-     */
-    private List<ClassInfo> getMockClasses() {
-        List<ClassInfo> list = new ArrayList<>();
-
-        // ===== MOCK CLASS DATA (edit here) =====
-        // Note: times are in 12-hour format with AM/PM, days are standard names.
-        list.add(new ClassInfo("7024", "NSTP-CWTS 1",
-                "TFOUNDATIONS OF SERVICE", 3,
-                "1:30 PM", "2:30 PM",
-                Arrays.asList("Mon","Wed","Fri"), "D906"));
-
-        list.add(new ClassInfo("9454", "GSTS",
-                "SCIENCE, TECHNOLOGY, AND SOCIETY", 3,
-                "9:30 AM", "10:30 AM",
-                Arrays.asList("Tue","Thu","Sat"), "D504"));
-
-        list.add(new ClassInfo("9455", "GENVI",
-                "ENVIRONMENTAL SCIENCE", 3,
-                "9:30 AM", "10:30 AM",
-                Arrays.asList("Mon","Wed","Fri"), "D503"));
-
-        list.add(new ClassInfo("9456", "CFE 103",
-                "CATHOLIC FOUNDATION OF MISSION", 3,
-                "1:30 PM", "2:30 PM",
-                Arrays.asList("Tue","Thu","Sat"), "D503"));
-
-        list.add(new ClassInfo("9457", "IT 211",
-                "REQUIREMENTS ANALYSIS AND MODELING", 3,
-                "10:30 AM", "11:30 AM",
-                Arrays.asList("Mon","Wed","Fri"), "D511"));
-
-        list.add(new ClassInfo("9458A", "IT 212",
-                "DATA STRUCTURES (LEC)", 2,
-                "2:30 PM", "3:30 PM",
-                Arrays.asList("Tue","Fri"), "D513"));
-
-        list.add(new ClassInfo("9458B", "IT 212L",
-                "DATA STRUCTURES (LAB)", 1,
-                "4:00 PM", "5:30 PM",
-                Arrays.asList("Tue","Fri"), "D522"));
-
-        list.add(new ClassInfo("9459A", "IT 213",
-                "NETWORK FUNDAMENTALS (LEC)", 2,
-                "8:30 AM", "9:30 AM",
-                Arrays.asList("Tue","Fri"), "D513"));
-
-        list.add(new ClassInfo("9459B", "IT 213L",
-                "NETWORK FUNDAMENTALS (LAB)", 1,
-                "11:30 AM", "1:00 PM",
-                Arrays.asList("Tue","Fri"), "D528"));
-
-        list.add(new ClassInfo("9547", "FIT OA",
-                "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (OUTDOOR AND ADVENTURE ACTIVITIES)", 2,
-                "3:30 PM", "5:30 PM",
-                Arrays.asList("Thu"), "D221"));
-        // ===== MOCK CLASS DATA END =====
-
-        return list;
-    }
-
-    /**
-     * Helper class to store class information (small structured object)
-     */
-    private static class ClassInfo {
-        String classCode;
-        String courseNo;
-        String description;
-        int units;
-        String startTime; // "7:30 AM"
-        String endTime;   // "9:00 PM"
-        List<String> days; // e.g., ["Mon","Wed","Fri"]
-        String room;
-        int studentCount;
-
-        ClassInfo(String classCode, String courseNo, String description, int units,
-                  String startTime, String endTime, List<String> days, String room) {
-            this.classCode = classCode;
-            this.courseNo = courseNo;
-            this.description = description;
-            this.units = units;
-            this.startTime = startTime;
-            this.endTime = endTime;
-            this.days = days;
-            this.room = room;
-        }
-    }
-
     /**
      * Custom panel that paints the weekly grid and class blocks.
-     * Non-interactive, auto-generated from the list of ClassInfo.
+     * Non-interactive, auto-generated from the student's Timetable.
+     *
+     * The grid, day headers and time labels are rendered once into a cached
+     * image per size; class block geometry and wrapped text lines are laid out
+     * once per size or data change. paintComponent only copies the dirty clip
+     * region of the image and fills the blocks that intersect it.
      */
     private static class WeeklyViewPanel extends JPanel {
 
-        private final java.util.List<ClassInfo> classes;
-        private final SimpleDateFormat parseFormat = new SimpleDateFormat("h:mm a");
+        private static final Font HEADER_FONT = new Font("Arial", Font.BOLD, 12);
+        private static final Font TIME_FONT = new Font("Arial", Font.PLAIN, 11);
+        private static final Font BLOCK_FONT = new Font("Arial", Font.BOLD, 12);
+        private static final Color BLOCK_COLOR = new Color(38, 112, 201); // blue
+
+        private Timetable timetable;
         private final String[] dayNames = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
 
         // Grid parameters
         private final int startHour = 7;   // 7:00 AM
         private final int endHour = 21;    // 9:00 PM
         private final int slotMinutes = 30; // 30-minute increments
+        private final int rows = ((endHour - startHour) * 60) / slotMinutes;
+        private final String[] timeLabels = new String[rows];
 
         // Visual parameters
         private final int timeColWidth = 80;
@@ -1391,50 +1466,139 @@ public class ISLUStudentPortal extends JFrame {
         private final int leftPadding = 10;
         private final int rightPadding = 10;
 
-        WeeklyViewPanel(List<ClassInfo> classes) {
-            this.classes = classes;
+        // Render caches, rebuilt when size, display scale or data change
+        private java.awt.image.BufferedImage gridImage;
+        private double gridImageScale;
+        private java.util.List<ClassBlock> blocks;
+        private int layoutWidth = -1;
+
+        WeeklyViewPanel(Timetable timetable) {
+            this.timetable = timetable;
+            for (int r = 0; r < rows; r++) {
+                int minutesFromStart = r * slotMinutes;
+                timeLabels[r] = formatTo12Hour(startHour + minutesFromStart / 60, minutesFromStart % 60);
+            }
             setPreferredSize(new Dimension(900, computePreferredHeight()));
             setBackground(Color.WHITE);
+            setOpaque(true);
+        }
 
+        /**
+         * Replace the displayed timetable; block layout is recomputed on the next paint
+         */
+        void setTimetable(Timetable timetable) {
+            this.timetable = timetable;
+            blocks = null;
+            repaint();
+        }
+
+        Timetable getTimetable() {
+            return timetable;
         }
 
         private int computePreferredHeight() {
-            int rows = ((endHour - startHour) * 60) / slotMinutes;
             // header + rows * cellHeight + some bottom margin
             return headerHeight + rows * cellHeight + 40;
         }
 
+        private int gridX() {
+            return timeColWidth + leftPadding;
+        }
+
+        private int columnWidth(int width) {
+            int gridWidth = width - gridX() - rightPadding;
+            if (gridWidth < 100) gridWidth = 700; // fallback
+            return gridWidth / dayNames.length;
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
+            int width = getWidth();
+            int height = getHeight();
+            if (width <= 0 || height <= 0) {
+                super.paintComponent(g);
+                return;
+            }
 
             Graphics2D g2 = (Graphics2D) g.create();
+            double scale = g2.getTransform().getScaleX();
+            if (gridImage == null || layoutWidth != width
+                    || gridImage.getHeight() != (int) Math.ceil(height * scale) || gridImageScale != scale) {
+                gridImage = renderGrid(width, height, scale);
+                gridImageScale = scale;
+                blocks = null;
+            }
+            if (blocks == null || layoutWidth != width) {
+                blocks = layoutBlocks(width);
+                layoutWidth = width;
+            }
+
+            // Copy only the dirty region of the cached grid
+            Rectangle clip = g2.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, width, height);
+            }
+            clip = clip.intersection(new Rectangle(0, 0, width, height));
+            if (clip.isEmpty()) {
+                g2.dispose();
+                return;
+            }
+            int sx1 = (int) Math.floor(clip.x * scale);
+            int sy1 = (int) Math.floor(clip.y * scale);
+            int sx2 = Math.min(gridImage.getWidth(), (int) Math.ceil((clip.x + clip.width) * scale));
+            int sy2 = Math.min(gridImage.getHeight(), (int) Math.ceil((clip.y + clip.height) * scale));
+            g2.drawImage(gridImage, clip.x, clip.y, clip.x + clip.width, clip.y + clip.height,
+                sx1, sy1, sx2, sy2, null);
+
+            // Draw class blocks that intersect the clip
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setFont(BLOCK_FONT);
+            for (ClassBlock block : blocks) {
+                if (!block.bounds.intersects(clip)) continue;
+                g2.setColor(BLOCK_COLOR);
+                g2.fill(block.shape);
+                g2.setColor(Color.WHITE);
+                for (int i = 0; i < block.lines.length; i++) {
+                    g2.drawString(block.lines[i], block.lineX[i], block.lineY[i]);
+                }
+            }
 
-            int width = getWidth();
-            int height = getHeight();
+            g2.dispose();
+        }
 
-            // Compute grid metrics
-            int days = 7;
-            int gridX = timeColWidth + leftPadding;
+        /**
+         * Render background, day headers, time labels and grid lines into an image
+         */
+        private java.awt.image.BufferedImage renderGrid(int width, int height, double scale) {
+            java.awt.image.BufferedImage image = new java.awt.image.BufferedImage(
+                (int) Math.ceil(width * scale), (int) Math.ceil(height * scale),
+                java.awt.image.BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.scale(scale, scale);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, width, height);
+
+            int days = dayNames.length;
+            int gridX = gridX();
             int gridWidth = width - gridX - rightPadding;
             if (gridWidth < 100) gridWidth = 700; // fallback
             int colWidth = gridWidth / days;
 
-            int rows = ((endHour - startHour) * 60) / slotMinutes;
-
             // Draw day headers
             g2.setColor(new Color(245, 245, 245));
             g2.fillRect(gridX, 0, gridWidth, headerHeight);
 
             g2.setColor(Color.BLACK);
-            g2.setFont(new Font("Arial", Font.BOLD, 12));
+            g2.setFont(HEADER_FONT);
+            FontMetrics headerMetrics = g2.getFontMetrics();
             for (int d = 0; d < days; d++) {
                 int x = gridX + d * colWidth;
                 String day = dayNames[d];
-                FontMetrics fm = g2.getFontMetrics();
-                int fx = x + (colWidth - fm.stringWidth(day)) / 2;
-                int fy = (headerHeight + fm.getAscent()) / 2 - 2;
+                int fx = x + (colWidth - headerMetrics.stringWidth(day)) / 2;
+                int fy = (headerHeight + headerMetrics.getAscent()) / 2 - 2;
                 g2.drawString(day, fx, fy);
             }
 
@@ -1443,7 +1607,8 @@ public class ISLUStudentPortal extends JFrame {
             g2.drawLine(gridX - 6, 0, gridX - 6, headerHeight + rows * cellHeight + 2);
 
             // Draw time labels and horizontal grid lines
-            g2.setFont(new Font("Arial", Font.PLAIN, 11));
+            g2.setFont(TIME_FONT);
+            FontMetrics timeMetrics = g2.getFontMetrics();
             for (int r = 0; r <= rows; r++) {
                 int y = headerHeight + r * cellHeight;
                 // horizontal grid line
@@ -1451,21 +1616,10 @@ public class ISLUStudentPortal extends JFrame {
                 g2.drawLine(gridX, y, gridX + days * colWidth, y);
 
                 if (r < rows) {
-                    // time label for this row (every slotMinutes)
-                    int minutesFromStart = r * slotMinutes;
-                    int hour = startHour + (minutesFromStart / 60);
-                    int minute = minutesFromStart % 60;
-
-                    Calendar cal = Calendar.getInstance();
-                    cal.set(Calendar.HOUR_OF_DAY, hour);
-                    cal.set(Calendar.MINUTE, minute);
-                    String label = formatTo12Hour(cal.get(Calendar.HOUR_OF_DAY), minute);
-
                     g2.setColor(Color.DARK_GRAY);
-                    FontMetrics fm = g2.getFontMetrics();
                     int tx = leftPadding + 4;
-                    int ty = y + (cellHeight + fm.getAscent()) / 2 - 3;
-                    g2.drawString(label, tx, ty);
+                    int ty = y + (cellHeight + timeMetrics.getAscent()) / 2 - 3;
+                    g2.drawString(timeLabels[r], tx, ty);
                 }
             }
 
@@ -1476,43 +1630,61 @@ public class ISLUStudentPortal extends JFrame {
                 g2.drawLine(x, headerHeight, x, headerHeight + rows * cellHeight);
             }
 
-            // Draw each class as a rounded blue rectangle spanning appropriate rows and days
-            for (ClassInfo ci : classes) {
-                // for each day this class occurs on
-                for (String day : ci.days) {
-                    int dayIndex = dayNameToIndex(day);
-                    if (dayIndex < 0) continue; // skip unknown day labels
-
-                    int startMinutes = parseTimeToMinutes(ci.startTime);
-                    int endMinutes = parseTimeToMinutes(ci.endTime);
+            g2.dispose();
+            return image;
+        }
 
-                    int gridStart = Math.max(0, (startMinutes - startHour * 60) / slotMinutes);
-                    int gridEnd = Math.min(rows, (endMinutes - startHour * 60) / slotMinutes);
+        /**
+         * Compute a rounded rectangle and centered, wrapped text for every class occurrence
+         */
+        private java.util.List<ClassBlock> layoutBlocks(int width) {
+            java.util.List<ClassBlock> result = new ArrayList<>();
+            FontMetrics fm = getFontMetrics(BLOCK_FONT);
+            int gridX = gridX();
+            int colWidth = columnWidth(width);
+
+            for (CourseSchedule course : timetable.getCourses()) {
+                int startMinutes = course.getStartMinute();
+                int endMinutes = course.getEndMinute();
+
+                int gridStart = Math.max(0, (startMinutes - startHour * 60) / slotMinutes);
+                int gridEnd = Math.min(rows, (endMinutes - startHour * 60) / slotMinutes);
+                if (gridEnd <= 0 || gridStart >= rows) {
+                    continue; // out of visible range
+                }
+                String display = course.getCourseNumber() + " (" + course.getRoom() + ")";
 
-                    if (gridEnd <= 0 || gridStart >= rows) {
-                        continue; // out of visible range
-                    }
+                // for each day this class occurs on
+                for (int dayIndex = 0; dayIndex < Timetable.DAYS_PER_WEEK; dayIndex++) {
+                    if (!course.occursOn(dayIndex)) continue;
 
                     int x = gridX + dayIndex * colWidth + 6;
                     int y = headerHeight + gridStart * cellHeight + 4;
                     int w = colWidth - 12;
                     int h = Math.max(16, (gridEnd - gridStart) * cellHeight - 8);
 
-                    // Draw rounded rectangle
-                    RoundRectangle2D.Double rrect = new RoundRectangle2D.Double(x, y, w, h, 12, 12);
-                    g2.setColor(new Color(38, 112, 201)); // blue
-                    g2.fill(rrect);
-
-                    // Draw text centered
-                    String display = ci.courseNo + " (" + ci.room + ")";
-                    g2.setColor(Color.WHITE);
-                    Font font = new Font("Arial", Font.BOLD, 12);
-                    g2.setFont(font);
-                    drawStringInRect(g2, display, new Rectangle(x + 6, y + 6, w - 12, h - 12));
+                    ClassBlock block = new ClassBlock(new RoundRectangle2D.Double(x, y, w, h, 12, 12));
+                    layoutText(block, display, fm, new Rectangle(x + 6, y + 6, w - 12, h - 12));
+                    result.add(block);
                 }
             }
+            return result;
+        }
 
-            g2.dispose();
+        /**
+         * Class block geometry with its text lines and their baseline positions
+         */
+        private static class ClassBlock {
+            private final RoundRectangle2D shape;
+            private final Rectangle bounds;
+            private String[] lines;
+            private int[] lineX;
+            private int[] lineY;
+
+            ClassBlock(RoundRectangle2D shape) {
+                this.shape = shape;
+                this.bounds = shape.getBounds();
+            }
         }
 
         private String formatTo12Hour(int hour24, int minute) {
@@ -1522,86 +1694,12 @@ public class ISLUStudentPortal extends JFrame {
             return String.format("%d:%02d %s", hour, minute, ampm);
         }
 
-        private int dayNameToIndex(String day) {
-            // Accept common variants
-            String d = day.trim().toLowerCase();
-            switch (d) {
-                case "sun":
-                case "sunday":
-                    return 0;
-                case "mon":
-                case "monday":
-                    return 1;
-                case "tue":
-                case "tues":
-                case "tuesday":
-                    return 2;
-                case "wed":
-                case "wednesday":
-                    return 3;
-                case "thu":
-                case "thur":
-                case "thurs":
-                case "thursday":
-                    return 4;
-                case "fri":
-                case "friday":
-                    return 5;
-                case "sat":
-                case "saturday":
-                    return 6;
-                default:
-                    return -1;
-            }
-        }
-
-        private int parseTimeToMinutes(String timeStr) {
-            // Parse "h:mm a" with SimpleDateFormat
-            try {
-                Date d = parseFormat.parse(timeStr);
-                Calendar cal = Calendar.getInstance();
-                cal.setTime(d);
-                int hour = cal.get(Calendar.HOUR);
-                // NOTE: SimpleDateFormat parse gives HOUR in 12-hour clock; need AM/PM separately
-                // A safer approach: parse using a dedicated Calendar with parse, then get HOUR_OF_DAY
-                // We'll re-parse with another format to get HOUR_OF_DAY
-                SimpleDateFormat sdf24 = new SimpleDateFormat("H:mm");
-                String s24 = new SimpleDateFormat("H:mm").format(d);
-                String[] parts = s24.split(":");
-                int h = Integer.parseInt(parts[0]);
-                int m = Integer.parseInt(parts[1]);
-                return h * 60 + m;
-            } catch (ParseException e) {
-                // fallback: attempt manual parse
-                try {
-                    return manualParseTimeToMinutes(timeStr);
-                } catch (Exception ex) {
-                    return 0;
-                }
-            }
-        }
-
-        private int manualParseTimeToMinutes(String timeStr) {
-            // Expected "h:mm AM" or "hh:mm PM"
-            String s = timeStr.trim().toUpperCase();
-            boolean pm = s.endsWith("PM");
-            boolean am = s.endsWith("AM");
-            s = s.replace("AM", "").replace("PM", "").trim();
-            String[] parts = s.split(":");
-            int h = Integer.parseInt(parts[0]);
-            int m = (parts.length > 1) ? Integer.parseInt(parts[1]) : 0;
-            if (pm && h < 12) h += 12;
-            if (am && h == 12) h = 0;
-            return h * 60 + m;
-        }
-
-        private void drawStringInRect(Graphics2D g2, String text, Rectangle rect) {
-            FontMetrics fm = g2.getFontMetrics();
-            // If text too wide, try to wrap on space
+        private void layoutText(ClassBlock block, String text, FontMetrics fm, Rectangle rect) {
+            // If text fits, center it on one line
             if (fm.stringWidth(text) <= rect.width) {
-                int tx = rect.x + (rect.width - fm.stringWidth(text)) / 2;
-                int ty = rect.y + (rect.height + fm.getAscent()) / 2 - 2;
-                g2.drawString(text, tx, ty);
+                block.lines = new String[]{text};
+                block.lineX = new int[]{rect.x + (rect.width - fm.stringWidth(text)) / 2};
+                block.lineY = new int[]{rect.y + (rect.height + fm.getAscent()) / 2 - 2};
                 return;
             }
 
@@ -1628,11 +1726,12 @@ public class ISLUStudentPortal extends JFrame {
 
             int totalHeight = lines.size() * fm.getHeight();
             int startY = rect.y + (rect.height - totalHeight) / 2 + fm.getAscent() - 2;
+            block.lines = lines.toArray(new String[0]);
+            block.lineX = new int[lines.size()];
+            block.lineY = new int[lines.size()];
             for (int i = 0; i < lines.size(); i++) {
-                String line = lines.get(i);
-                int tx = rect.x + (rect.width - fm.stringWidth(line)) / 2;
-                int ty = startY + i * fm.getHeight();
-                g2.drawString(line, tx, ty);
+                block.lineX[i] = rect.x + (rect.width - fm.stringWidth(lines.get(i))) / 2;
+                block.lineY[i] = startY + i * fm.getHeight();
             }
         }
 
@@ -1647,6 +1746,7 @@ public class ISLUStudentPortal extends JFrame {
     }
     //method for Schedule Content
     private JPanel showScheduleContent(MySinglyLinkedList<String> subItems) {
+        Timetable timetable = Timetable.forStudent(studentID);
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(new Color(240, 240, 240));
         
@@ -1660,14 +1760,14 @@ public class ISLUStudentPortal extends JFrame {
         ));
         
         // CLASS SCHEDULE Section
-        JPanel classScheduleSection = createClassScheduleSection();
+        JPanel classScheduleSection = createClassScheduleSection(timetable);
         contentPanel.add(classScheduleSection);
         
         // Add minimal spacing between sections
         contentPanel.add(Box.createVerticalStrut(5));
         
         // WEEKLY VIEW Section
-        JPanel weeklyViewSection = createWeeklyViewSection();
+        JPanel weeklyViewSection = createWeeklyViewSection(timetable);
         contentPanel.add(weeklyViewSection);
         
         // Wrap in scroll pane for better usability
@@ -1681,7 +1781,7 @@ public class ISLUStudentPortal extends JFrame {
         return mainPanel;
     }
     
-    private JPanel createClassScheduleSection() {
+    private JPanel createClassScheduleSection(Timetable timetable) {
         JPanel section = new JPanel(new BorderLayout());
         section.setBackground(Color.WHITE);
         
@@ -1699,13 +1799,13 @@ public class ISLUStudentPortal extends JFrame {
         section.add(headerPanel, BorderLayout.NORTH);
         
         // Class Schedule Table
-        JPanel tablePanel = createClassScheduleTable();
+        JPanel tablePanel = createClassScheduleTable(timetable);
         section.add(tablePanel, BorderLayout.CENTER);
         
         return section;
     }
     
-    private JPanel createWeeklyViewSection() {
+    private JPanel createWeeklyViewSection(Timetable timetable) {
         JPanel section = new JPanel(new BorderLayout());
         section.setBackground(Color.WHITE);
         
@@ -1723,20 +1823,20 @@ public class ISLUStudentPortal extends JFrame {
         section.add(headerPanel, BorderLayout.NORTH);
         
         // Weekly View Table
-        JPanel tablePanel = createWeeklyViewTable();
+        JPanel tablePanel = createWeeklyViewTable(timetable);
         section.add(tablePanel, BorderLayout.CENTER);
         
         return section;
     }
     
-    private JPanel createClassScheduleTable() {
+    private JPanel createClassScheduleTable(Timetable timetable) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(Color.WHITE);
         panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
         
         // Get course data
-        List<CourseScheduleItem> courses = getSampleCourses();
-        int totalUnits = courses.stream().mapToInt(c -> c.units).sum();
+        List<CourseSchedule> courses = timetable.getCourses();
+        int totalUnits = timetable.getTotalUnits();
         
         // Create table with proper columns matching the image
         String[] columnNames = {"Class Code", "Course Number", "Course Description", "Units", "Schedule", "Days", "Room", "Module"};
@@ -1744,15 +1844,15 @@ public class ISLUStudentPortal extends JFrame {
         // Build table data
         Object[][] data = new Object[courses.size()][columnNames.length];
         for (int i = 0; i < courses.size(); i++) {
-            CourseScheduleItem course = courses.get(i);
-            data[i][0] = course.classCode;
-            data[i][1] = course.courseNumber;
-            data[i][2] = course.courseDescription;
-            data[i][3] = course.units;
-            data[i][4] = formatTime(course.startTime) + " - " + formatTime(course.endTime);
-            data[i][5] = course.days;
-            data[i][6] = course.room;
-            data[i][7] = getModuleFromRoom(course.room); // Extract module from room
+            CourseSchedule course = courses.get(i);
+            data[i][0] = course.getClassCode();
+            data[i][1] = course.getCourseNumber();
+            data[i][2] = course.getCourseDescription();
+            data[i][3] = course.getUnits();
+            data[i][4] = formatTime(course.getStartTime()) + " - " + formatTime(course.getEndTime());
+            data[i][5] = course.getDays();
+            data[i][6] = course.getRoom();
+            data[i][7] = getModuleFromRoom(course.getRoom()); // Extract module from room
         }
         
         DefaultTableModel model = new DefaultTableModel(data, columnNames) {
@@ -1809,17 +1909,16 @@ public class ISLUStudentPortal extends JFrame {
         return panel;
     }
     
-    private JPanel createWeeklyViewTable() {
+    private JPanel createWeeklyViewTable(Timetable timetable) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(Color.WHITE);
         panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
         
-        // Get course data
-        List<CourseScheduleItem> courses = getSampleCourses();
-        
         // Time slots (30-minute increments) based on min/max course times
-        LocalTime minStart = courses.stream().map(c -> c.startTime).min(LocalTime::compareTo).orElse(LocalTime.of(7, 0));
-        LocalTime maxEnd = courses.stream().map(c -> c.endTime).max(LocalTime::compareTo).orElse(LocalTime.of(18, 0));
+        LocalTime minStart = timetable.isEmpty() ? LocalTime.of(7, 0)
+            : LocalTime.of(timetable.getEarliestStart() / 60, timetable.getEarliestStart() % 60);
+        LocalTime maxEnd = timetable.isEmpty() ? LocalTime.of(18, 0)
+            : LocalTime.of(timetable.getLatestEnd() / 60, timetable.getLatestEnd() % 60);
         minStart = roundDownToHalfHour(minStart);
         maxEnd = roundUpToHalfHour(maxEnd);
         
@@ -1841,13 +1940,10 @@ public class ISLUStudentPortal extends JFrame {
         for (LocalTime slot = minStart; slot.isBefore(maxEnd); slot = slot.plusMinutes(60)) { // 1-hour increments for better visibility
             Object[] row = new Object[columnNames.length];
             row[0] = formatTime(slot);
-            row[1] = ""; // Sunday
-            row[2] = getWeeklyCourseLabelAtTime(courses, slot, "M");  // Monday
-            row[3] = getWeeklyCourseLabelAtTime(courses, slot, "T");  // Tuesday
-            row[4] = getWeeklyCourseLabelAtTime(courses, slot, "W");  // Wednesday
-            row[5] = getWeeklyCourseLabelAtTime(courses, slot, "TH"); // Thursday
-            row[6] = getWeeklyCourseLabelAtTime(courses, slot, "F");  // Friday
-            row[7] = getWeeklyCourseLabelAtTime(courses, slot, "S"); // Saturday
+            int minuteOfDay = slot.getHour() * 60 + slot.getMinute();
+            for (int day = Timetable.SUNDAY; day <= Timetable.SATURDAY; day++) {
+                row[day + 1] = getWeeklyCourseLabelAtTime(timetable, minuteOfDay, day);
+            }
             rows.add(row);
         }
         
@@ -1907,13 +2003,12 @@ public class ISLUStudentPortal extends JFrame {
         return panel;
     }
     
-    private String getWeeklyCourseLabelAtTime(List<CourseScheduleItem> courses, LocalTime slot, String day) {
-        for (CourseScheduleItem c : courses) {
-            if (c.occursOn(day) && !slot.isBefore(c.startTime) && slot.isBefore(c.endTime)) {
-                return "<html><center>" + c.courseNumber + "<br>(" + c.room + ")</center></html>";
-            }
+    private String getWeeklyCourseLabelAtTime(Timetable timetable, int minuteOfDay, int day) {
+        CourseSchedule c = timetable.courseAt(day, minuteOfDay);
+        if (c == null) {
+            return "";
         }
-        return "";
+        return "<html><center>" + c.getCourseNumber() + "<br>(" + c.getRoom() + ")</center></html>";
     }
     
     private String getModuleFromRoom(String room) {
@@ -1922,15 +2017,6 @@ public class ISLUStudentPortal extends JFrame {
         return room.substring(0, 1);
     }
 
-    private String courseLabelAtTime(List<CourseScheduleItem> courses, LocalTime slot, String day) {
-        for (CourseScheduleItem c : courses) {
-            if (c.occursOn(day) && !slot.isBefore(c.startTime) && slot.isBefore(c.endTime)) {
-                return c.courseNumber + " (" + c.room + ")";
-            }
-        }
-        return "";
-    }
-
     private static LocalTime roundDownToHalfHour(LocalTime time) {
         int minute = time.getMinute();
         return time.withMinute(minute < 30 ? 0 : 30).withSecond(0).withNano(0);
@@ -1958,88 +2044,6 @@ public class ISLUStudentPortal extends JFrame {
         return String.format("%d:%02d %s", displayHour, minute, ampm);
     }
 
-    // Lightweight course model aligned with provided fields
-    private static class CourseScheduleItem {
-        final String classCode;
-        final String courseNumber;
-        final String courseDescription;
-        final int units;
-        final LocalTime startTime;
-        final LocalTime endTime;
-        final String days;
-        final String room;
-        final Set<String> daySet;
-
-        CourseScheduleItem(String classCode, String courseNumber, String courseDescription,
-                            int units, LocalTime startTime, LocalTime endTime, String days, String room) {
-            this.classCode = classCode;
-            this.courseNumber = courseNumber;
-            this.courseDescription = courseDescription;
-            this.units = units;
-            this.startTime = startTime;
-            this.endTime = endTime;
-            this.days = days;
-            this.room = room;
-            this.daySet = parseDays(days);
-        }
-
-        boolean occursOn(String day) {
-            return daySet.contains(day);
-        }
-
-        private static Set<String> parseDays(String s) {
-            Set<String> set = new HashSet<>();
-            if (s == null) return set;
-            String str = s.trim().toUpperCase();
-            // Handle common multi-letter tokens first
-            if (str.contains("TH")) {
-                set.add("TH");
-                str = str.replace("TH", "");
-            }
-            for (int i = 0; i < str.length(); i++) {
-                char ch = str.charAt(i);
-                switch (ch) {
-                    case 'M': set.add("M"); break;
-                    case 'T': set.add("T"); break;
-                    case 'W': set.add("W"); break;
-                    case 'F': set.add("F"); break;
-                    case 'S': set.add("S"); break;
-                    default: break;
-                }
-            }
-            return set;
-        }
-    }
-
-    private List<CourseScheduleItem> sampleCourses;
-
-    private List<CourseScheduleItem> getSampleCourses() {
-        if (sampleCourses == null) {
-            sampleCourses = new ArrayList<>();
-            // Sample data matching the image provided
-            sampleCourses.add(new CourseScheduleItem("7024", "NSTP-CWTS 1", "FOUNDATIONS OF SERVICE", 3,
-                    LocalTime.of(13, 30), LocalTime.of(14, 30), "MWF", "D906"));
-            sampleCourses.add(new CourseScheduleItem("9454", "GSTS", "SCIENCE, TECHNOLOGY, AND SOCIETY", 3,
-                    LocalTime.of(9, 30), LocalTime.of(10, 30), "TThS", "D504"));
-            sampleCourses.add(new CourseScheduleItem("9455", "GENVI", "ENVIRONMENTAL SCIENCE", 3,
-                    LocalTime.of(9, 30), LocalTime.of(10, 30), "MWF", "D503"));
-            sampleCourses.add(new CourseScheduleItem("9456", "CFE 103", "CATHOLIC FOUNDATION OF MISSION", 3,
-                    LocalTime.of(13, 30), LocalTime.of(14, 30), "TThS", "D503"));
-            sampleCourses.add(new CourseScheduleItem("9457", "IT 211", "REQUIREMENTS ANALYSIS AND MODELING", 3,
-                    LocalTime.of(10, 30), LocalTime.of(11, 30), "MWF", "D511"));
-            sampleCourses.add(new CourseScheduleItem("9458A", "IT 212", "DATA STRUCTURES (LEC)", 2,
-                    LocalTime.of(14, 30), LocalTime.of(15, 30), "TF", "D513"));
-            sampleCourses.add(new CourseScheduleItem("9458B", "IT 212L", "DATA STRUCTURES (LAB)", 1,
-                    LocalTime.of(16, 0), LocalTime.of(17, 30), "TF", "D522"));
-            sampleCourses.add(new CourseScheduleItem("9459A", "IT 213", "NETWORK FUNDAMENTALS (LEC)", 2,
-                    LocalTime.of(8, 30), LocalTime.of(9, 30), "TF", "D513"));
-            sampleCourses.add(new CourseScheduleItem("9459B", "IT 213L", "NETWORK FUNDAMENTALS (LAB)", 1,
-                    LocalTime.of(11, 30), LocalTime.of(13, 0), "TF", "D528"));
-            sampleCourses.add(new CourseScheduleItem("9547", "FIT OA", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (OUTDOOR AND ADVENTURE ACTIVITIES)", 2,
-                    LocalTime.of(15, 30), LocalTime.of(17, 30), "TH", "D221"));
-        }
-        return sampleCourses;
-    }
     // method for attendance Content
     private Component showAttendanceContent(MySinglyLinkedList<String> subItems) {
         JPanel attendancePanel = new JPanel(new BorderLayout());
@@ -3675,31 +3679,16 @@ public class ISLUStudentPortal extends JFrame {
      * Gets the student's program information from the course schedule database
      */
     private String getStudentProgramFromDatabase(String studentID) {
-        try {
-            java.io.BufferedReader reader = new java.io.BufferedReader(new java.io.FileReader("courseSchedules.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.startsWith(studentID + ",")) {
-                    String[] parts = line.split(",");
-                    if (parts.length >= 3) {
-                        String courseNumber = parts[2];
-                        // Determine program based on course prefix
-                        if (courseNumber.startsWith("IT")) {
-                            reader.close();
-                            return "BSIT 2"; // IT courses indicate BSIT program
-                        } else if (courseNumber.startsWith("CS")) {
-                            reader.close();
-                            return "BSCS 2"; // CS courses indicate BSCS program
-                        } else if (courseNumber.startsWith("IS")) {
-                            reader.close();
-                            return "BSIS 2"; // IS courses indicate BSIS program
-                        }
-                    }
-                }
+        for (CourseSchedule course : Timetable.forStudent(studentID).getCourses()) {
+            String courseNumber = course.getCourseNumber();
+            // Determine program based on course prefix
+            if (courseNumber.startsWith("IT")) {
+                return "BSIT 2"; // IT courses indicate BSIT program
+            } else if (courseNumber.startsWith("CS")) {
+                return "BSCS 2"; // CS courses indicate BSCS program
+            } else if (courseNumber.startsWith("IS")) {
+                return "BSIS 2"; // IS courses indicate BSIS program
             }
-            reader.close();
-        } catch (java.io.IOException e) {
-            System.err.println("Error reading course schedules: " + e.getMessage());
         }
         return "BSIT 2"; // Default fallback
     }
@@ -3708,8 +3697,33 @@ public class ISLUStudentPortal extends JFrame {
      * Creates the Statement of Accounts panel matching the HTML/CSS design from images
      */
     private JPanel createStatementOfAccountsPanel(MySinglyLinkedList<String> subItems) {
-        // Initialize account statement for the current student
-        accountStatement = AccountStatementManager.getStatement(studentID);
+        return AsyncLoader.createAsyncPanel("Loading statement of accounts...", () -> {
+            // Blocking reads happen here, off the Event Dispatch Thread
+            AccountStatement statement = AccountStatementManager.getStatement(studentID);
+            StudentInfo studentInfo = DataManager.getStudentInfo(studentID);
+            String programInfo = getStudentProgramFromDatabase(studentID);
+            return new StatementPanelData(statement, studentInfo, programInfo);
+        }, data -> buildStatementOfAccountsPanel(subItems, data));
+    }
+
+    /**
+     * Data loaded in the background for the Statement of Accounts panel
+     */
+    private static class StatementPanelData {
+        private final AccountStatement statement;
+        private final StudentInfo studentInfo;
+        private final String programInfo;
+
+        StatementPanelData(AccountStatement statement, StudentInfo studentInfo, String programInfo) {
+            this.statement = statement;
+            this.studentInfo = studentInfo;
+            this.programInfo = programInfo;
+        }
+    }
+
+    private JPanel buildStatementOfAccountsPanel(MySinglyLinkedList<String> subItems, StatementPanelData data) {
+        // Bind the account statement for the current student
+        accountStatement = data.statement;
         
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(new Color(240, 240, 240));
@@ -3720,7 +3734,7 @@ public class ISLUStudentPortal extends JFrame {
         tablePanel.setBackground(new Color(240, 240, 240));
         
         // Left panel - Statement of Accounts (70% width)
-        JPanel leftPanel = createStatementLeftPanel(subItems);
+        JPanel leftPanel = createStatementLeftPanel(subItems, data);
         leftPanel.setPreferredSize(new Dimension(700, 0));
 
         // Right panel - Online Payment Channels (30% width)
@@ -3735,7 +3749,7 @@ public class ISLUStudentPortal extends JFrame {
         return mainPanel;
     }
 
-    private JPanel createStatementLeftPanel(MySinglyLinkedList<String> subItems) {
+    private JPanel createStatementLeftPanel(MySinglyLinkedList<String> subItems, StatementPanelData data) {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(Color.WHITE);
         panel.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200), 1));
@@ -3775,8 +3789,8 @@ public class ISLUStudentPortal extends JFrame {
         studentTextPanel.setBackground(Color.WHITE);
         
         // Student ID and Program - using real database data
-        StudentInfo studentInfo = DataManager.getStudentInfo(studentID);
-        String programInfo = getStudentProgramFromDatabase(studentID);
+        StudentInfo studentInfo = data.studentInfo;
+        String programInfo = data.programInfo;
         JLabel studentIDLabel = new JLabel(studentID + " | " + programInfo);
         studentIDLabel.setFont(new Font("Arial", Font.BOLD, 14));
         studentIDLabel.setForeground(new Color(10, 45, 90));
@@ -3879,40 +3893,9 @@ public class ISLUStudentPortal extends JFrame {
         panel.add(headerPanel, BorderLayout.NORTH);
 
         // Table matching HTML structure - Date, Description, Amount
-        String[] columnNames = {"Date", "Description", "Amount"};
-        
-        // Get dynamic data from account statement
-        List<FeeBreakdown> fees = accountStatement.getFeeBreakdowns();
-        List<PaymentTransaction> payments = accountStatement.getPaymentHistory();
-        
-        // Create data array with dynamic content
-        Object[][] data = new Object[fees.size() + payments.size() + 1][3];
-        int row = 0;
-        
-        // Add beginning balance
-        data[row++] = new Object[]{"", "BEGINNING BALANCE", "0.00"};
-        
-        // Add payment transactions (negative amounts in parentheses)
-        for (PaymentTransaction payment : payments) {
-            String dateStr = payment.getDate().split(" ")[0]; // Get date part only
-            String amountStr = payment.getAmount().replace("P ", "").replace(",", "");
-            data[row++] = new Object[]{dateStr, "PAYMENT RECEIVED (" + payment.getReference() + ")", "(" + amountStr + ")"};
-        }
-        
-        // Add fee breakdowns
-        for (FeeBreakdown fee : fees) {
-            String dateStr = fee.getDatePosted() != null ? 
-                fee.getDatePosted().format(java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy")) : "";
-            String amountStr = String.format("%,.2f", fee.getAmount());
-            data[row++] = new Object[]{dateStr, fee.getDescription(), amountStr};
-        }
-
-        feeBreakdownTableModel = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Rows are the statement's payments and fees: beginning balance, payments, then fees
+        feeBreakdownTableModel = new FeeBreakdownTableModel(
+            accountStatement.getPaymentHistory(), accountStatement.getFeeBreakdowns());
         
         JTable table = new JTable(feeBreakdownTableModel);
         table.setRowHeight(25);
@@ -3985,23 +3968,8 @@ public class ISLUStudentPortal extends JFrame {
         // Update payment statuses
         accountStatement.updatePaymentStatuses();
         
-        // Table with status
-        String[] columnNames = {"Date", "Channel", "Reference", "Amount", "Status"};
-        
-        // Get payment history from account statement
-        List<PaymentTransaction> payments = accountStatement.getPaymentHistory();
-        Object[][] data = new Object[payments.size()][5];
-        
-        for (int i = 0; i < payments.size(); i++) {
-            data[i] = payments.get(i).toTableRow();
-        }
-
-        paymentTableModel = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Table with status, backed by the statement's payment history
+        paymentTableModel = new PaymentTableModel(accountStatement.getPaymentHistory());
         
         JTable table = new JTable(paymentTableModel);
         table.setRowHeight(25);
@@ -4062,18 +4030,23 @@ public class ISLUStudentPortal extends JFrame {
         
         contentPanel.add(headerPanel, BorderLayout.NORTH);
 
-        // Create transcript table with all semesters
-        String[] columnNames = {"Course Number", "Descriptive Title", "Grade", "Units"};
-        
-        // Generate random grades (76-99)
-        Object[][] transcriptData = generateTranscriptData();
-        
-        DefaultTableModel transcriptModel = new DefaultTableModel(transcriptData, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make all cells non-editable
-            }
-        };
+        // Transcript is read from gradeRecords.txt off the EDT
+        contentPanel.add(AsyncLoader.createAsyncPanel("Loading transcript...",
+            () -> TranscriptService.getTranscript(studentID, this::getCourseUnits),
+            this::buildTranscriptTablePanel), BorderLayout.CENTER);
+
+        mainPanel.add(contentPanel, BorderLayout.CENTER);
+        return mainPanel;
+    }
+
+    /**
+     * Transcript table with all completed semesters and the cumulative GWA footer
+     */
+    private JPanel buildTranscriptTablePanel(TranscriptService.Transcript transcript) {
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.setBackground(Color.WHITE);
+
+        TranscriptTableModel transcriptModel = new TranscriptTableModel(transcript);
 
         JTable transcriptTable = new JTable(transcriptModel);
         transcriptTable.setRowHeight(30);
@@ -4126,10 +4099,16 @@ public class ISLUStudentPortal extends JFrame {
 
         JScrollPane scrollPane = new JScrollPane(transcriptTable);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
-        contentPanel.add(scrollPane, BorderLayout.CENTER);
+        tablePanel.add(scrollPane, BorderLayout.CENTER);
 
-        mainPanel.add(contentPanel, BorderLayout.CENTER);
-        return mainPanel;
+        // General Weighted Average footer
+        double gwa = transcript.getGWA();
+        JLabel gwaLabel = new JLabel(Double.isNaN(gwa) ? "General Weighted Average: -" :
+            String.format("General Weighted Average: %.2f (%s units)", gwa, TranscriptTableModel.formatUnits(transcript.getTotalUnits())));
+        gwaLabel.setFont(new Font("Arial", Font.BOLD, 13));
+        gwaLabel.setBorder(BorderFactory.createEmptyBorder(10, 0, 0, 0));
+        tablePanel.add(gwaLabel, BorderLayout.SOUTH);
+        return tablePanel;
     }
 
     private JPanel createPaymentChannelsPanel(MySinglyLinkedList<String> subItems) {
@@ -4219,13 +4198,15 @@ public class ISLUStudentPortal extends JFrame {
     private JLabel prelimStatusLabel; // Reference to update the PRELIM STATUS display
     private JLabel midtermStatusLabel; // Reference to update the MIDTERM STATUS display
     private JLabel finalsStatusLabel; // Reference to update the FINALS STATUS display
-    private DefaultTableModel paymentTableModel; // Reference to payment transactions table model
-    private DefaultTableModel feeBreakdownTableModel; // Reference to fee breakdown table model
+    private PaymentTableModel paymentTableModel; // Reference to payment transactions table model
+    private FeeBreakdownTableModel feeBreakdownTableModel; // Reference to fee breakdown table model
 
     /**
      * Shows onsite payment dialog for cashier payment
      */
     private void showOnsitePaymentDialog(String channelName) {
+        // One reference per dialog, so a repeated click records the payment once
+        String dialogReference = IdempotentPaymentProcessor.newReference(channelName);
         JDialog paymentDialog = new JDialog(this, "Onsite Payment - " + channelName, true);
         paymentDialog.setSize(450, 350);
         paymentDialog.setLocationRelativeTo(this);
@@ -4343,7 +4324,7 @@ public class ISLUStudentPortal extends JFrame {
                 }
                 
                 // Process onsite payment
-                String reference = orNumber.isEmpty() ? "ONSITE-" + System.currentTimeMillis() : orNumber;
+                String reference = orNumber.isEmpty() ? dialogReference : orNumber;
                 if (processOnsitePayment(amount, channelName, reference)) {
                     paymentDialog.dispose();
                 }
@@ -4371,8 +4352,9 @@ public class ISLUStudentPortal extends JFrame {
      * Process onsite payment
      */
     private boolean processOnsitePayment(double amount, String channelName, String reference) {
-        // Process payment using AccountStatementManager
-        AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
+        // Process payment once per reference; a resubmission returns the recorded result
+        boolean alreadyRecorded = IdempotentPaymentProcessor.isSubmitted(studentID, reference);
+        AccountStatement.PaymentResult result = IdempotentPaymentProcessor.submit(
             studentID, amount, channelName, reference
         );
         
@@ -4381,7 +4363,9 @@ public class ISLUStudentPortal extends JFrame {
             accountStatement = AccountStatementManager.getStatement(studentID);
             
             // Add payment to table
-            addPaymentToTable(result.transaction);
+            if (!alreadyRecorded) {
+                addPaymentToTable(result.transaction);
+            }
             
             // Show success message
             String message = "Onsite Payment Recorded Successfully!\n\n" +
@@ -4422,6 +4406,7 @@ public class ISLUStudentPortal extends JFrame {
             dialogTitle = "Payment through " + channelName;
         }
         
+        String dialogReference = IdempotentPaymentProcessor.newReference(channelName);
         JDialog paymentDialog = new JDialog(this, dialogTitle, true);
         paymentDialog.setSize(500, 400);
         paymentDialog.setLocationRelativeTo(this);
@@ -4556,9 +4541,9 @@ public class ISLUStudentPortal extends JFrame {
                     return;
                 }
                 
-                // Process payment using AccountStatementManager
-                AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
-                    studentID, amount, channelName, "PAY-" + System.currentTimeMillis());
+                // Process payment once per dialog reference
+                AccountStatement.PaymentResult result = IdempotentPaymentProcessor.submit(
+                    studentID, amount, channelName, dialogReference);
                 
                 if (result.success) {
                     JOptionPane.showMessageDialog(paymentDialog, result.message, "Payment Successful", JOptionPane.INFORMATION_MESSAGE);
@@ -4644,7 +4629,7 @@ public class ISLUStudentPortal extends JFrame {
         String reference = generatePaymentReference(channelName);
         
         // Process payment using AccountStatementManager
-        AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
+        AccountStatement.PaymentResult result = IdempotentPaymentProcessor.submit(
             studentID, amount, channelName, reference
         );
         
@@ -4706,11 +4691,7 @@ public class ISLUStudentPortal extends JFrame {
      * Generates a unique payment reference number
      */
     private String generatePaymentReference(String channelName) {
-        java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("yyyyMMdd");
-        String date = dateFormat.format(new java.util.Date());
-        String channelCode = channelName.substring(0, Math.min(3, channelName.length())).toUpperCase();
-        int random = (int)(Math.random() * 10000);
-        return String.format("%s-%s-%04d", date, channelCode, random);
+        return IdempotentPaymentProcessor.newReference(channelName);
     }
 
     /**
@@ -4744,8 +4725,8 @@ public class ISLUStudentPortal extends JFrame {
      */
     private void addPaymentToTable(PaymentTransaction transaction) {
         if (paymentTableModel != null) {
-            // Add new row to table
-            paymentTableModel.addRow(transaction.toTableRow());
+            // Append one row; the rest of the table is untouched
+            paymentTableModel.addItem(transaction);
         }
     }
 
@@ -4782,8 +4763,7 @@ public class ISLUStudentPortal extends JFrame {
                 new Color(0, 150, 0) : new Color(200, 0, 0);
             
             // Check for processing payments
-            boolean hasProcessing = accountStatement.getPaymentHistory().stream()
-                .anyMatch(p -> p.getStatus() != null && p.getStatus().isInProgress());
+            boolean hasProcessing = accountStatement.hasPaymentsInProgress();
             if (hasProcessing) {
                 statusText = "PRELIM STATUS: PAYMENT PROCESSING. Please wait for confirmation.";
                 statusColor = new Color(255, 140, 0); // Orange for processing
@@ -4799,8 +4779,7 @@ public class ISLUStudentPortal extends JFrame {
                 new Color(0, 150, 0) : new Color(200, 0, 0);
             
             // Check for processing payments
-            boolean hasProcessing = accountStatement.getPaymentHistory().stream()
-                .anyMatch(p -> p.getStatus() != null && p.getStatus().isInProgress());
+            boolean hasProcessing = accountStatement.hasPaymentsInProgress();
             if (hasProcessing) {
                 midtermStatusColor = new Color(255, 140, 0); // Orange for processing
             }
@@ -4815,8 +4794,7 @@ public class ISLUStudentPortal extends JFrame {
                 new Color(0, 150, 0) : new Color(200, 0, 0);
             
             // Check for processing payments
-            boolean hasProcessing = accountStatement.getPaymentHistory().stream()
-                .anyMatch(p -> p.getStatus() != null && p.getStatus().isInProgress());
+            boolean hasProcessing = accountStatement.hasPaymentsInProgress();
             if (hasProcessing) {
                 finalsStatusColor = new Color(255, 140, 0); // Orange for processing
             }
@@ -4837,48 +4815,17 @@ public class ISLUStudentPortal extends JFrame {
     }
     
     /**
-     * Updates the fee breakdown table with current data
+     * Updates the fee breakdown table with current data; only changed rows are repainted
      */
     private void updateFeeBreakdownTable() {
-        // Clear existing rows
-        while (feeBreakdownTableModel.getRowCount() > 0) {
-            feeBreakdownTableModel.removeRow(0);
-        }
-        
-        // Add header row
-        feeBreakdownTableModel.addRow(new Object[]{"", "ASSESSMENT DETAILS", ""});
-        
-        // Add fee items
-        for (FeeBreakdown fee : accountStatement.getFeeBreakdowns()) {
-            feeBreakdownTableModel.addRow(fee.toTableRow());
-        }
-        
-        // Add total row
-        feeBreakdownTableModel.addRow(new Object[]{
-            "", "TOTAL ASSESSMENT", 
-            String.format("P %,.2f", accountStatement.getTotalAmount())
-        });
-        
-        // Add balance row
-        feeBreakdownTableModel.addRow(new Object[]{
-            "", "CURRENT BALANCE", 
-            String.format("P %,.2f", accountStatement.getBalance())
-        });
+        feeBreakdownTableModel.setStatement(accountStatement.getPaymentHistory(), accountStatement.getFeeBreakdowns());
     }
     
     /**
-     * Updates the payment history table with current data
+     * Updates the payment history table with current data; a new payment inserts one row
      */
     private void updatePaymentHistoryTable() {
-        // Clear existing rows
-        while (paymentTableModel.getRowCount() > 0) {
-            paymentTableModel.removeRow(0);
-        }
-        
-        // Add payment history
-        for (PaymentTransaction payment : accountStatement.getPaymentHistory()) {
-            paymentTableModel.addRow(payment.toTableRow());
-        }
+        paymentTableModel.setItems(accountStatement.getPaymentHistory());
     }
 
     // Custom Document classes for input formatting
@@ -5491,11 +5438,24 @@ public class ISLUStudentPortal extends JFrame {
         headerPanel.add(headerContent, BorderLayout.WEST);
         contentPanel.add(headerPanel, BorderLayout.NORTH);
 
-        // Create curriculum table
+        // Checklist is evaluated from the student's grade records off the EDT
+        contentPanel.add(AsyncLoader.createAsyncPanel("Loading curriculum checklist...",
+            () -> CurriculumEngine.evaluate(studentID),
+            this::buildCurriculumTablePanel), BorderLayout.CENTER);
+
+        mainPanel.add(contentPanel, BorderLayout.CENTER);
+        return mainPanel;
+    }
+
+    /**
+     * Curriculum table with completed courses checked and a progress summary footer
+     */
+    private JPanel buildCurriculumTablePanel(CurriculumEngine.Progress progress) {
+        JPanel tablePanel = new JPanel(new BorderLayout());
+        tablePanel.setBackground(Color.WHITE);
+
         String[] columnNames = {"", "Course Number", "Course Description", "Units"};
-        
-        // Generate curriculum data matching the image
-        Object[][] curriculumData = generateCurriculumData();
+        Object[][] curriculumData = buildCurriculumRows(progress);
         
         DefaultTableModel curriculumModel = new DefaultTableModel(curriculumData, columnNames) {
             @Override
@@ -5555,130 +5515,35 @@ public class ISLUStudentPortal extends JFrame {
 
         JScrollPane scrollPane = new JScrollPane(curriculumTable);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
-        contentPanel.add(scrollPane, BorderLayout.CENTER);
+        tablePanel.add(scrollPane, BorderLayout.CENTER);
 
-        mainPanel.add(contentPanel, BorderLayout.CENTER);
-        return mainPanel;
+        // Progress summary footer
+        List<String> eligible = progress.getEligibleCodes();
+        JLabel summaryLabel = new JLabel(String.format(
+            "<html>Completed units: %s of %s &nbsp;&nbsp; Remaining units: %s<br>Eligible next term: %s</html>",
+            TranscriptTableModel.formatUnits(progress.getCompletedUnits()), TranscriptTableModel.formatUnits(progress.getCurriculum().getTotalUnits()),
+            TranscriptTableModel.formatUnits(progress.getRemainingUnits()), eligible.isEmpty() ? "-" : String.join(", ", eligible)));
+        summaryLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
+        tablePanel.add(summaryLabel, BorderLayout.SOUTH);
+        return tablePanel;
     }
 
     /**
-     * Generates curriculum data matching the BSIT curriculum from the image
+     * Checklist rows: a header row per term, then its courses checked when completed
      */
-    private Object[][] generateCurriculumData() {
+    private Object[][] buildCurriculumRows(CurriculumEngine.Progress progress) {
+        Curriculum curriculum = progress.getCurriculum();
         java.util.List<Object[]> data = new java.util.ArrayList<>();
-        
-        // First Year, First Semester
-        data.add(new Object[]{null, "", "First Year, First Semester", ""});
-        data.add(new Object[]{true, "CFE 101", "GOD'S JOURNEY WITH HIS PEOPLE", "3"});
-        data.add(new Object[]{true, "FIT HW", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (HEALTH AND WELLNESS)", "2"});
-        data.add(new Object[]{true, "GART", "ART APPRECIATION", "3"});
-        data.add(new Object[]{true, "GHIST", "READINGS IN PHILIPPINE HISTORY", "3"});
-        data.add(new Object[]{true, "GSELF", "UNDERSTANDING THE SELF", "3"});
-        data.add(new Object[]{true, "IT 111", "INTRODUCTION TO COMPUTING (LEC)", "2"});
-        data.add(new Object[]{true, "IT 111L", "INTRODUCTION TO COMPUTING (LAB)", "1"});
-        data.add(new Object[]{true, "IT 112", "COMPUTER PROGRAMMING 1 (LEC)", "2"});
-        data.add(new Object[]{true, "IT 112L", "COMPUTER PROGRAMMING 1 (LAB)", "1"});
-        data.add(new Object[]{true, "IT 113", "DISCRETE MATHEMATICS", "3"});
-        
-        // First Year, Second Semester
-        data.add(new Object[]{null, "", "First Year, Second Semester", ""});
-        data.add(new Object[]{true, "CFE 102", "CHRISTIAN MORALITY IN OUR TIMES", "3"});
-        data.add(new Object[]{true, "FIT CS", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (COMBATIVE SPORTS)", "2"});
-        data.add(new Object[]{true, "GCWORLD", "THE CONTEMPORARY WORLD", "3"});
-        data.add(new Object[]{true, "GMATH", "MATHEMATICS IN THE MODERN WORLD", "3"});
-        data.add(new Object[]{true, "GPCOM", "PURPOSIVE COMMUNICATION", "3"});
-        data.add(new Object[]{true, "IT 121", "INFORMATION SYSTEM FUNDAMENTALS", "3"});
-        data.add(new Object[]{true, "IT 122", "COMPUTER PROGRAMMING 2", "2"});
-        data.add(new Object[]{true, "IT 122L", "COMPUTER PROGRAMMING 2 (LAB)", "1"});
-        data.add(new Object[]{true, "IT 123", "PLATFORM TECHNOLOGIES", "2"});
-        data.add(new Object[]{true, "IT 123L", "PLATFORM TECHNOLOGIES (LAB)", "1"});
-        
-        // First Year, Short Term
-        data.add(new Object[]{null, "", "First Year, Short Term", ""});
-        data.add(new Object[]{true, "GRIZAL", "THE LIFE AND WORKS OF RIZAL", "3"});
-        data.add(new Object[]{true, "IT 131", "COMPUTER ARCHITECTURE", "2"});
-        data.add(new Object[]{true, "IT 131L", "COMPUTER ARCHITECTURE (LAB)", "1"});
-        
-        // Second Year, First Semester
-        data.add(new Object[]{null, "", "Second Year, First Semester", ""});
-        data.add(new Object[]{false, "CFE 103", "CATHOLIC FOUNDATION OF MISSION", "3"});
-        data.add(new Object[]{false, "FIT OA", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (OUTDOOR AND ADVENTURE ACTIVITIES)", "2"});
-        data.add(new Object[]{false, "GENVI", "ENVIRONMENTAL SCIENCE", "3"});
-        data.add(new Object[]{false, "GSTS", "SCIENCE, TECHNOLOGY, AND SOCIETY", "3"});
-        data.add(new Object[]{false, "IT 211", "REQUIREMENTS ANALYSIS AND MODELING", "3"});
-        data.add(new Object[]{false, "IT 212", "DATA STRUCTURES (LEC)", "2"});
-        data.add(new Object[]{false, "IT 212L", "DATA STRUCTURES (LAB)", "1"});
-        data.add(new Object[]{false, "IT 213", "NETWORK FUNDAMENTALS (LEC)", "2"});
-        data.add(new Object[]{false, "IT 213L", "NETWORK FUNDAMENTALS (LAB)", "1"});
-        data.add(new Object[]{false, "NSTP-CWTS 1", "FOUNDATIONS OF SERVICE", "3"});
-        
-        // Second Year, Second Semester
-        data.add(new Object[]{null, "", "Second Year, Second Semester", ""});
-        data.add(new Object[]{false, "CFE 104", "CICM MISSIONARY IDENTITY", "3"});
-        data.add(new Object[]{false, "FIT AQ", "PHYSICAL ACTIVITY TOWARDS HEALTH AND FITNESS (AQUATICS)", "2"});
-        data.add(new Object[]{false, "GENTREP", "THE ENTREPRENEURIAL MIND", "3"});
-        data.add(new Object[]{false, "GRVA", "READING VISUAL ART", "3"});
-        data.add(new Object[]{false, "IT 221", "INFORMATION MANAGEMENT (LEC)", "2"});
-        data.add(new Object[]{false, "IT 221L", "INFORMATION MANAGEMENT (LAB)", "1"});
-        data.add(new Object[]{false, "IT 222", "INTEGRATIVE TECHNOLOGIES (LEC)", "2"});
-        data.add(new Object[]{false, "IT 222L", "INTEGRATIVE TECHNOLOGIES (LAB)", "1"});
-        data.add(new Object[]{false, "IT 223", "HUMAN COMPUTER INTERACTION", "3"});
-        data.add(new Object[]{false, "NSTP-CWTS 2", "SOCIAL AWARENESS AND EMPOWERMENT FOR SERVICE", "3"});
-        
-        // Second Year, Short Term
-        data.add(new Object[]{null, "", "Second Year, Short Term", ""});
-        data.add(new Object[]{false, "CS 314", "SOCIAL AND PERSONAL DEVELOPMENT IN THE ICT WORKPLACE", "3"});
-        data.add(new Object[]{false, "CS 315", "TECHNOLOGY-ASSISTED PRESENTATION AND COMMUNICATION", "3"});
-        data.add(new Object[]{false, "GETHICS", "ETHICS", "3"});
-        
-        // Third Year, First Semester
-        data.add(new Object[]{null, "", "Third Year, First Semester", ""});
-        data.add(new Object[]{false, "CFE 105A", "CICM IN ACTION: JUSTICE, PEACE, INTEGRITY OF CREATION, INDIGENOUS PEOPLES & INTERRELIGIOUS DIALOGUE", "1.5"});
-        data.add(new Object[]{false, "IT 311", "APPLICATIONS DEVELOPMENT (LEC)", "2"});
-        data.add(new Object[]{false, "IT 311L", "APPLICATIONS DEVELOPMENT (LAB)", "1"});
-        data.add(new Object[]{false, "IT 312", "WEB TECHNOLOGIES (LEC)", "2"});
-        data.add(new Object[]{false, "IT 312L", "WEB TECHNOLOGIES (LAB)", "1"});
-        data.add(new Object[]{false, "IT 313", "SOFTWARE ENGINEERING", "3"});
-        data.add(new Object[]{false, "IT 314", "SOCIAL AND PROFESSIONAL ISSUES IN INFORMATION TECHNOLOGY", "3"});
-        data.add(new Object[]{false, "IT 315", "TECHNOPRENEURSHIP", "3"});
-        data.add(new Object[]{false, "ITE 15", "IT SECURITY MANAGEMENT (Elective)", "3"});
-        data.add(new Object[]{false, "ITE 23", "ELECTRONIC COMMERCE (Elective)", "3"});
-        data.add(new Object[]{false, "ITE 30", "INFORMATION TECHNOLOGY CERTIFICATION REVIEW (Elective)", "3"});
-        
-        // Third Year, Second Semester
-        data.add(new Object[]{null, "", "Third Year, Second Semester", ""});
-        data.add(new Object[]{false, "CFE 105B", "CICM IN ACTION: ENVIRONMENTAL PLANNING & MANAGEMENT, AND DISASTER RISK REDUCTION MANAGEMENT", "1.5"});
-        data.add(new Object[]{false, "IT 321", "IT PROJECT 1", "3"});
-        data.add(new Object[]{false, "IT 322", "DATA ANALYTICS (LEC)", "2"});
-        data.add(new Object[]{false, "IT 322L", "DATA ANALYTICS (LAB)", "1"});
-        data.add(new Object[]{false, "IT 323", "SYSTEM ADMINISTRATION AND MAINTENANCE (LEC)", "2"});
-        data.add(new Object[]{false, "IT 323L", "SYSTEM ADMINISTRATION AND MAINTENANCE (LAB)", "1"});
-        data.add(new Object[]{false, "IT 324", "SYSTEM INTEGRATION AND ARCHITECTURE", "3"});
-        data.add(new Object[]{false, "IT 325", "FIELD TRIPS AND SEMINARS", "3"});
-        data.add(new Object[]{false, "ITE 16", "CURRENT TRENDS 1 (Elective)", "3"});
-        data.add(new Object[]{false, "ITE 27", "CURRENT TRENDS 2 (Elective)", "3"});
-        data.add(new Object[]{false, "ITE 29", "SPECIAL TOPICS 2 (Elective)", "3"});
-        
-        // Third Year, Short Term
-        data.add(new Object[]{null, "", "Third Year, Short Term", ""});
-        data.add(new Object[]{false, "IT 331", "INFORMATION ASSURANCE AND SECURITY", "3"});
-        data.add(new Object[]{false, "ITE 17", "DATA MINING (LEC)", "2"});
-        data.add(new Object[]{false, "ITE 17L", "DATA MINING (LAB)", "1"});
-        
-        // Fourth Year, First Semester
-        data.add(new Object[]{null, "", "Fourth Year, First Semester", ""});
-        data.add(new Object[]{false, "CFE 106A", "EMBRACING THE CICM MISSION", "1.5"});
-        data.add(new Object[]{false, "FOR LANG 1", "FOREIGN LANGUAGE 1", "3"});
-        data.add(new Object[]{false, "IT 411", "IT PROJECT 2", "3"});
-        data.add(new Object[]{false, "IT 412", "IT RESOURCE MANAGEMENT", "3"});
-        data.add(new Object[]{false, "ITE 14", "UX CONCEPTS AND DESIGN (Elective)", "3"});
-        data.add(new Object[]{false, "ITE 28", "SPECIAL TOPICS 1 (Elective)", "3"});
-        
-        // Fourth Year, Second Semester
-        data.add(new Object[]{null, "", "Fourth Year, Second Semester", ""});
-        data.add(new Object[]{false, "CFE 106B", "EMBRACING THE CICM MISSION", "1.5"});
-        data.add(new Object[]{false, "IT 421", "PRACTICUM", "9"});
-        
+        int term = -1;
+        for (int i = 0; i < curriculum.size(); i++) {
+            if (curriculum.getTerm(i) != term) {
+                term = curriculum.getTerm(i);
+                data.add(new Object[]{null, "", curriculum.getTermLabels().get(term), ""});
+            }
+            data.add(new Object[]{progress.isCompleted(i), curriculum.getCode(i),
+                curriculum.getDescription(i), TranscriptTableModel.formatUnits(curriculum.getUnits(i)).toString()});
+        }
         return data.toArray(new Object[data.size()][4]);
     }
     
@@ -5806,8 +5671,11 @@ public class ISLUStudentPortal extends JFrame {
         // Get initial database modification time
         updateDatabaseModificationTime();
         
-        // Create timer to check for database changes every 5 seconds
-        databaseCheckTimer = new Timer(5000, e -> checkDatabaseChanges());
+        // Create timer to check for database and schedule changes every 5 seconds
+        databaseCheckTimer = new Timer(5000, e -> {
+            checkDatabaseChanges();
+            refreshClassScheduleIfChanged();
+        });
         databaseCheckTimer.start();
     }
     
@@ -5854,6 +5722,23 @@ public class ISLUStudentPortal extends JFrame {
         }
     }
 
+    /**
+     * Shows a reloaded timetable in the cached Class Schedule panel once courseSchedules.txt changes
+     * Timetable.forStudent returns the same instance until the file changes, so an
+     * unchanged schedule costs one file stat in the background and no repaint.
+     */
+    private void refreshClassScheduleIfChanged() {
+        if (classScheduleWeeklyView == null) {
+            return; // panel not built yet; it loads the current timetable when opened
+        }
+        AsyncLoader.load(() -> Timetable.forStudent(studentID), latest -> {
+            if (classScheduleWeeklyView != null && latest != classScheduleWeeklyView.getTimetable()) {
+                classScheduleWeeklyView.setTimetable(latest);
+                classScheduleTableScroll.setViewportView(createClassScheduleTable(latest));
+            }
+        }, null);
+    }
+
     /**
      * Parses profile data string from Database.txt into ProfileData object
      */
@@ -5917,7 +5802,13 @@ public class ISLUStudentPortal extends JFrame {
     
     private JPanel createMedicalRecordPanel(MySinglyLinkedList<String> subItems) {
         // Always reload medical record from database when creating panel
-        currentMedicalRecord = DataManager.getMedicalRecord(studentID);
+        return AsyncLoader.createAsyncPanel("Loading medical record...",
+            () -> DataManager.getMedicalRecord(studentID),
+            this::buildMedicalRecordPanel);
+    }
+
+    private JPanel buildMedicalRecordPanel(MedicalRecord record) {
+        currentMedicalRecord = record;
         
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(new Color(240, 240, 240));
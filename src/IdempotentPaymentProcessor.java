@@ -0,0 +1,204 @@
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idempotent front for AccountStatementManager.processPayment
+ * Features:
+ * - Time-ordered payment references: millisecond clock plus a sequence,
+ *   strictly increasing within the process, so two references never collide
+ * - Hash index of submitted (student, reference) pairs: a repeated submission,
+ *   e.g. a double-clicked payment dialog, gets the original PaymentResult
+ *   back in O(1) without touching the statement
+ * - Bounded retention: references are kept for RETENTION and at most
+ *   MAX_RETAINED of them, oldest dropped first
+ * - Payments already on loaded statements are indexed at startup by their
+ *   recorded date, so a resubmission after a restart is still caught within
+ *   the retention window
+ * - A submission claims its reference before the payment is processed, outside
+ *   the index, so duplicates wait on the claim instead of on a map bin
+ *
+ * Failed submissions are not indexed; correcting the input and retrying with
+ * the same reference processes the payment.
+ */
+public class IdempotentPaymentProcessor {
+    public static final Duration RETENTION = Duration.ofHours(24);
+    public static final int MAX_RETAINED = 50_000;
+    private static final int SEQUENCE_BITS = 10; // references per millisecond before borrowing the next one
+    private static final DateTimeFormatter REFERENCE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final AtomicLong lastReferenceID = new AtomicLong();
+    private static final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<Submission> retention = new ConcurrentLinkedQueue<>(); // oldest first
+    private static final AtomicInteger retained = new AtomicInteger();
+
+    static {
+        indexSavedPayments();
+    }
+
+    /**
+     * New payment reference, e.g. 20251019-UNI-HZ3K1TQ8W0 - O(1)
+     * The last part is the reference ID in base 36, so references of a day sort in issue order.
+     */
+    public static String newReference(String channelName) {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long id = lastReferenceID.updateAndGet(last -> Math.max(last + 1, now));
+
+        String date = LocalDateTime.ofInstant(Instant.ofEpochMilli(id >> SEQUENCE_BITS), ZoneId.systemDefault())
+            .format(REFERENCE_DATE);
+        String letters = channelName == null ? "" : channelName.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+        String channelCode = letters.isEmpty() ? "PAY" : letters.substring(0, Math.min(3, letters.length()));
+        return date + "-" + channelCode + "-" + Long.toString(id, 36).toUpperCase();
+    }
+
+    /**
+     * Process a payment once per student and reference
+     * A reference seen within the retention window returns the original result - O(1).
+     */
+    public static AccountStatement.PaymentResult submit(String studentID, double amount,
+                                                        String channel, String reference) {
+        if (studentID == null || reference == null || reference.trim().isEmpty()) {
+            throw new IllegalArgumentException("Student ID and payment reference are required");
+        }
+        String key = key(studentID, reference);
+        Submission existing = submissions.get(key);
+        if (existing != null) {
+            return existing.result.join();
+        }
+
+        // Claim the reference first; concurrent submissions of it wait on the claim's result
+        Submission claim = new Submission(key, new CompletableFuture<>(), System.currentTimeMillis());
+        existing = submissions.putIfAbsent(key, claim);
+        if (existing != null) {
+            return existing.result.join();
+        }
+
+        AccountStatement.PaymentResult result;
+        try {
+            result = AccountStatementManager.processPayment(studentID, amount, channel, reference);
+        } catch (RuntimeException e) {
+            submissions.remove(key, claim);
+            claim.result.completeExceptionally(e);
+            throw e;
+        }
+        if (result.success) {
+            retain(claim);
+        } else {
+            submissions.remove(key, claim); // failures are returned, not kept
+        }
+        claim.result.complete(result);
+        evictExpired();
+        return result;
+    }
+
+    /**
+     * Whether a payment with this reference was already processed for the student - O(1)
+     */
+    public static boolean isSubmitted(String studentID, String reference) {
+        Submission submission = submissions.get(key(studentID, reference));
+        return submission != null && submission.result.isDone() && !submission.result.isCompletedExceptionally()
+            && submission.result.join().success;
+    }
+
+    /**
+     * Number of references currently held in the index
+     */
+    public static int getRetainedCount() {
+        return submissions.size();
+    }
+
+    private static String key(String studentID, String reference) {
+        return studentID + '|' + reference.trim();
+    }
+
+    private static void retain(Submission submission) {
+        retention.add(submission);
+        retained.incrementAndGet();
+    }
+
+    /**
+     * Drop references past the retention window or over the size limit, oldest first - O(1) amortized
+     */
+    private static void evictExpired() {
+        long cutoff = System.currentTimeMillis() - RETENTION.toMillis();
+        Submission oldest;
+        while ((oldest = retention.peek()) != null
+                && (oldest.submittedAt < cutoff || retained.get() > MAX_RETAINED)) {
+            Submission removed = retention.poll();
+            if (removed != null) {
+                retained.decrementAndGet();
+                submissions.remove(removed.key, removed);
+            }
+        }
+    }
+
+    /**
+     * Index recent payments on the loaded statements, oldest first - O(payments)
+     */
+    private static void indexSavedPayments() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(RETENTION);
+        List<Submission> recent = new ArrayList<>();
+        for (AccountStatement statement : AccountStatementManager.getAllStatements()) {
+            for (PaymentTransaction payment : statement.getPaymentHistory()) {
+                LocalDateTime paidAt = paymentTime(payment);
+                if (paidAt == null || paidAt.isBefore(cutoff)) {
+                    continue;
+                }
+                AccountStatement.PaymentResult result = new AccountStatement.PaymentResult();
+                result.success = true;
+                result.message = "Payment " + payment.getReference() + " was already recorded.";
+                result.transaction = payment;
+                result.newBalance = statement.getBalance();
+                result.newOverpayment = statement.getOverpayment();
+                long submittedAt = paidAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                recent.add(new Submission(key(statement.getStudentID(), payment.getReference()),
+                    CompletableFuture.completedFuture(result), submittedAt));
+            }
+        }
+        recent.sort((a, b) -> Long.compare(a.submittedAt, b.submittedAt));
+        for (Submission submission : recent) {
+            if (submissions.putIfAbsent(submission.key, submission) == null) {
+                retain(submission);
+            }
+        }
+        evictExpired();
+    }
+
+    /**
+     * When a saved payment was made, from its recorded date, or null if the date cannot be read
+     * The timestamp of a loaded payment is the load time, so it is not used here.
+     */
+    private static LocalDateTime paymentTime(PaymentTransaction payment) {
+        try {
+            return LocalDateTime.parse(payment.getDate(), PaymentTransaction.DATE_FORMAT);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One claimed reference; result completes once the payment has been processed
+     */
+    private static class Submission {
+        final String key;
+        final CompletableFuture<AccountStatement.PaymentResult> result;
+        final long submittedAt;
+
+        Submission(String key, CompletableFuture<AccountStatement.PaymentResult> result, long submittedAt) {
+            this.key = key;
+            this.result = result;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
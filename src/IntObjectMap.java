@@ -0,0 +1,233 @@
+import java.util.Arrays;
+
+/**
+ * Hash map from primitive int keys (such as numeric student IDs) to objects
+ * Features:
+ * - Open addressing with linear probing over parallel int[]/Object[] arrays
+ * - No boxing of keys and no per-entry node allocation
+ * - O(1) average get/put/remove, backward-shift deletion without tombstones
+ * - Resizes at 50% load to keep probe sequences short
+ */
+public class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values; // null marks an empty slot
+    private int size;
+    private int mask;
+
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntObjectMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 1) * 2);
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Get the value for key, or null if absent - O(1) average
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = findSlot(key);
+        return (V) values[slot];
+    }
+
+    /**
+     * Get the value for key, or defaultValue if absent - O(1) average
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Check if key is present - O(1) average
+     */
+    public boolean containsKey(int key) {
+        return values[findSlot(key)] != null;
+    }
+
+    /**
+     * Associate value with key and return the previous value, if any - O(1) average
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot store null value");
+        }
+
+        int slot = findSlot(key);
+        V previous = (V) values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (previous == null) {
+            size++;
+            if (size * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Return the value for key, creating it with the factory when absent - O(1) average
+     */
+    public V computeIfAbsent(int key, java.util.function.IntFunction<V> factory) {
+        V value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove key and return its value, if any - O(1) average
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = findSlot(key);
+        V previous = (V) values[slot];
+        if (previous == null) {
+            return null;
+        }
+
+        // Backward-shift following entries so probe chains stay unbroken
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Visit every entry - O(capacity)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<V> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Copy all keys into a new array - O(capacity)
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get map size - O(1)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Check if map is empty - O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries, keeping capacity - O(capacity)
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Slot holding key, or the empty slot where it would be inserted
+     */
+    private int findSlot(int key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new int[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spread sequential IDs across the table (Fibonacci hashing)
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(n, 2);
+    }
+
+    /**
+     * Parse a numeric student ID such as "2250493", or -1 if it is not numeric
+     */
+    public static int parseKey(String studentID) {
+        if (studentID == null || studentID.isEmpty() || studentID.length() > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < studentID.length(); i++) {
+            char c = studentID.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Callback for forEach over primitive keys
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+}
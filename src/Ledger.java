@@ -0,0 +1,312 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Double-entry ledger behind every statement charge and payment
+ * Features:
+ * - Each fee and payment is one balanced entry: a debit and a credit of the same amount
+ *   Fee: debit AR:<studentID>, credit REVENUE:<FeeType> (sides swap for discounts)
+ *   Payment: debit CASH:<channel>, credit AR:<studentID>
+ *   Removals and refunds post the reverse entry, so nothing is ever edited
+ * - Account balances kept as running totals - O(1) per posting
+ * - Listeners receive each entry as it is posted; UserBalanceDatabase builds its
+ *   balance views from them
+ * - Journal appended to ledger.txt, one line per entry; statements replayed at
+ *   startup rebuild the ledger in memory without appending again
+ */
+public class Ledger {
+    private static final String JOURNAL_FILE = "ledger.txt";
+    private static final String[] HEADER = {
+        "=== GENERAL LEDGER ===",
+        "Format: EntryID,DateTime,Kind,DebitAccount,CreditAccount,Amount,Memo"
+    };
+    private static final DateTimeFormatter ENTRY_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm:ss a");
+
+    public static final String RECEIVABLE = "AR:";
+    public static final String REVENUE = "REVENUE:";
+    public static final String CASH = "CASH:";
+
+    /**
+     * What an entry records; reversals keep the kind of the entry they undo
+     */
+    public enum Kind { FEE, PAYMENT }
+
+    private static final List<Entry> journal = new ArrayList<>();
+    private static final Map<String, double[]> accounts = new HashMap<>(); // account -> {debits, credits}
+    private static final List<LedgerListener> listeners = new CopyOnWriteArrayList<>();
+    private static long nextEntryID = 1;
+    private static int replayDepth;
+    private static BufferedWriter journalWriter;
+
+    /**
+     * Receives every posted entry, on the posting thread, in posting order
+     */
+    @FunctionalInterface
+    public interface LedgerListener {
+        void posted(Entry entry);
+
+        /**
+         * The in-memory ledger was dropped, e.g. before statements are reloaded
+         */
+        default void cleared() {
+        }
+    }
+
+    public static void addListener(LedgerListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public static void removeListener(LedgerListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Charge a fee to a student, or reverse the charge when it is removed - O(1)
+     */
+    public static void postFee(String studentID, FeeBreakdown fee, boolean reversal) {
+        double amount = reversal ? -fee.getAmount() : fee.getAmount();
+        post(Kind.FEE, studentID, RECEIVABLE + studentID, REVENUE + fee.getType().name(), amount, fee.getCode());
+    }
+
+    /**
+     * Record a payment against a student, or reverse it on refund - O(1)
+     */
+    public static void postPayment(String studentID, PaymentTransaction payment, boolean reversal) {
+        double amount = reversal ? -payment.getAmountValue() : payment.getAmountValue();
+        post(Kind.PAYMENT, studentID, CASH + payment.getChannel(), RECEIVABLE + studentID, amount, payment.getReference());
+    }
+
+    /**
+     * Post a balanced entry; a negative amount posts the sides swapped - O(1) plus one appended line
+     */
+    private static synchronized void post(Kind kind, String studentID, String debit, String credit,
+                                          double amount, String memo) {
+        if (studentID == null || studentID.isEmpty()) {
+            throw new IllegalArgumentException("Ledger entries need a student ID");
+        }
+        if (amount == 0) {
+            return;
+        }
+        if (replayDepth == 0 && journalWriter == null) {
+            openJournal();
+        }
+        Entry entry = amount > 0
+            ? new Entry(nextEntryID++, LocalDateTime.now(), kind, studentID, debit, credit, amount, memo)
+            : new Entry(nextEntryID++, LocalDateTime.now(), kind, studentID, credit, debit, -amount, memo);
+
+        journal.add(entry);
+        accounts.computeIfAbsent(entry.debit, a -> new double[2])[0] += entry.amount;
+        accounts.computeIfAbsent(entry.credit, a -> new double[2])[1] += entry.amount;
+        if (replayDepth == 0) {
+            append(entry);
+        }
+        for (LedgerListener listener : listeners) {
+            listener.posted(entry);
+        }
+    }
+
+    /**
+     * Postings made between beginReplay() and endReplay() rebuild the in-memory
+     * ledger from saved statements and are not appended to the journal again
+     */
+    static synchronized void beginReplay() {
+        replayDepth++;
+    }
+
+    static synchronized void endReplay() {
+        replayDepth = Math.max(0, replayDepth - 1);
+    }
+
+    /**
+     * Whether ledger.txt exists; statements saved before it have never been journaled
+     */
+    static boolean hasJournal() {
+        return new File(JOURNAL_FILE).exists();
+    }
+
+    /**
+     * Drop the in-memory ledger before statements are reloaded; the journal file is kept
+     */
+    static synchronized void clear() {
+        journal.clear();
+        accounts.clear();
+        for (LedgerListener listener : listeners) {
+            listener.cleared();
+        }
+    }
+
+    /**
+     * Debits minus credits of an account - O(1)
+     */
+    public static synchronized double getBalance(String account) {
+        double[] totals = accounts.get(account);
+        return totals == null ? 0.0 : totals[0] - totals[1];
+    }
+
+    /**
+     * Amount a student owes: the balance of their receivable account - O(1)
+     */
+    public static double getReceivable(String studentID) {
+        return getBalance(RECEIVABLE + studentID);
+    }
+
+    /**
+     * Whether total debits equal total credits across all accounts - O(accounts)
+     */
+    public static synchronized boolean isBalanced() {
+        double difference = 0.0;
+        for (double[] totals : accounts.values()) {
+            difference += totals[0] - totals[1];
+        }
+        return Math.abs(difference) < 0.005;
+    }
+
+    /**
+     * Snapshot of the journal in posting order - O(n)
+     */
+    public static synchronized List<Entry> getEntries() {
+        return new ArrayList<>(journal);
+    }
+
+    public static synchronized int getEntryCount() {
+        return journal.size();
+    }
+
+    /**
+     * Add a listener after handing it every entry already posted, under the
+     * ledger lock so no entry is missed or seen twice - O(n)
+     */
+    public static synchronized void subscribe(LedgerListener listener) {
+        replayTo(listener);
+        addListener(listener);
+    }
+
+    /**
+     * Hand every entry posted so far to a listener, e.g. to rebuild a view - O(n)
+     */
+    static synchronized void replayTo(LedgerListener listener) {
+        for (Entry entry : journal) {
+            listener.posted(entry);
+        }
+    }
+
+    /**
+     * Open ledger.txt for appending; entry IDs continue after the last one already in it
+     */
+    private static void openJournal() {
+        try {
+            File file = new File(JOURNAL_FILE);
+            boolean created = !file.exists();
+            if (!created) {
+                nextEntryID = Math.max(nextEntryID, lastEntryID(file) + 1);
+            }
+            journalWriter = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (created) {
+                for (String line : HEADER) {
+                    journalWriter.write(line);
+                    journalWriter.newLine();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error opening ledger journal: " + e.getMessage());
+            journalWriter = null;
+        }
+    }
+
+    private static void append(Entry entry) {
+        if (journalWriter == null) {
+            return;
+        }
+        try {
+            journalWriter.write(entry.toCsv());
+            journalWriter.newLine();
+            journalWriter.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing ledger journal: " + e.getMessage());
+        }
+    }
+
+    private static long lastEntryID(File file) throws IOException {
+        long last = 0;
+        try (java.util.stream.Stream<String> lines = Files.lines(file.toPath(), StandardCharsets.UTF_8)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                int comma = line.indexOf(',');
+                if (comma > 0 && Character.isDigit(line.charAt(0))) {
+                    try {
+                        last = Math.max(last, Long.parseLong(line.substring(0, comma)));
+                    } catch (NumberFormatException e) {
+                        // not an entry line
+                    }
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * One balanced posting: amount moves from the credit account to the debit account
+     */
+    public static class Entry {
+        private final long entryID;
+        private final LocalDateTime postedAt;
+        private final Kind kind;
+        private final String studentID;
+        private final String debit;
+        private final String credit;
+        private final double amount;
+        private final String memo;
+
+        Entry(long entryID, LocalDateTime postedAt, Kind kind, String studentID,
+              String debit, String credit, double amount, String memo) {
+            this.entryID = entryID;
+            this.postedAt = postedAt;
+            this.kind = kind;
+            this.studentID = studentID;
+            this.debit = debit;
+            this.credit = credit;
+            this.amount = amount;
+            this.memo = memo == null ? "" : memo;
+        }
+
+        public long getEntryID() { return entryID; }
+        public LocalDateTime getPostedAt() { return postedAt; }
+        public Kind getKind() { return kind; }
+        public String getStudentID() { return studentID; }
+        public String getDebit() { return debit; }
+        public String getCredit() { return credit; }
+        public double getAmount() { return amount; }
+        public String getMemo() { return memo; }
+
+        /**
+         * Change this entry makes to the student's receivable: positive when it is debited
+         */
+        public double getReceivableChange() {
+            String receivable = RECEIVABLE + studentID;
+            if (debit.equals(receivable)) return amount;
+            if (credit.equals(receivable)) return -amount;
+            return 0.0;
+        }
+
+        String toCsv() {
+            return String.format("%d,%s,%s,%s,%s,%.2f,%s",
+                entryID, postedAt.format(ENTRY_DATE), kind, debit, credit, amount, memo);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("#%d %s Dr %s Cr %s P %,.2f %s", entryID, kind, debit, credit, amount, memo);
+        }
+    }
+}
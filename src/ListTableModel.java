@@ -0,0 +1,141 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only table model backed directly by a list of domain objects
+ * Features:
+ * - Cell values read from the row objects on demand; no Object[][] copy of the table
+ * - setItems() diffs against the rows already shown and fires only the
+ *   rows inserted, updated or deleted instead of a full table refresh
+ * - Subclasses supply the columns, a cell accessor and an identity check
+ */
+public abstract class ListTableModel<T> extends AbstractTableModel {
+    private final String[] columnNames;
+    private final List<T> items = new ArrayList<>();
+    // Cell values as last shown, used to detect rows whose object changed in place
+    private final List<Object[]> shown = new ArrayList<>();
+
+    protected ListTableModel(String[] columnNames) {
+        this.columnNames = columnNames.clone();
+    }
+
+    /**
+     * Cell value of a row object
+     */
+    protected abstract Object getColumnValue(T item, int column);
+
+    /**
+     * Whether two objects represent the same row, e.g. the same payment reference
+     */
+    protected abstract boolean isSameItem(T a, T b);
+
+    @Override
+    public int getRowCount() {
+        return items.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return getColumnValue(items.get(row), column);
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    public T getItem(int row) {
+        return items.get(row);
+    }
+
+    /**
+     * Append one row - fires a single row insertion
+     */
+    public void addItem(T item) {
+        items.add(item);
+        shown.add(snapshot(item));
+        fireTableRowsInserted(items.size() - 1, items.size() - 1);
+    }
+
+    /**
+     * Replace the rows with a new list - O(n)
+     * Rows are matched from both ends with isSameItem; matched rows whose cells
+     * changed fire an update, and the unmatched middle is deleted and inserted.
+     */
+    public void setItems(List<T> latest) {
+        int oldSize = items.size();
+        int newSize = latest.size();
+
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && isSameItem(items.get(prefix), latest.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && isSameItem(items.get(oldSize - 1 - suffix), latest.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        // Matched rows: take the new objects and report only those whose cells changed
+        List<Integer> changedRows = new ArrayList<>();
+        for (int i = 0; i < prefix; i++) {
+            refreshRow(i, latest.get(i), changedRows);
+        }
+        for (int i = 0; i < suffix; i++) {
+            refreshRow(oldSize - 1 - i, latest.get(newSize - 1 - i), changedRows);
+        }
+
+        int removed = oldSize - prefix - suffix;
+        int added = newSize - prefix - suffix;
+        if (removed > 0) {
+            items.subList(prefix, prefix + removed).clear();
+            shown.subList(prefix, prefix + removed).clear();
+            fireTableRowsDeleted(prefix, prefix + removed - 1);
+        }
+        if (added > 0) {
+            List<T> inserted = latest.subList(prefix, prefix + added);
+            items.addAll(prefix, inserted);
+            List<Object[]> snapshots = new ArrayList<>(added);
+            for (T item : inserted) {
+                snapshots.add(snapshot(item));
+            }
+            shown.addAll(prefix, snapshots);
+            fireTableRowsInserted(prefix, prefix + added - 1);
+        }
+
+        for (int row : changedRows) {
+            // Rows in the matched suffix moved by the size change
+            int index = row < prefix ? row : row - removed + added;
+            fireTableRowsUpdated(index, index);
+        }
+    }
+
+    private void refreshRow(int row, T item, List<Integer> changedRows) {
+        items.set(row, item);
+        Object[] cells = snapshot(item);
+        if (!Arrays.equals(cells, shown.get(row))) {
+            shown.set(row, cells);
+            changedRows.add(row);
+        }
+    }
+
+    private Object[] snapshot(T item) {
+        Object[] cells = new Object[columnNames.length];
+        for (int column = 0; column < cells.length; column++) {
+            cells[column] = getColumnValue(item, column);
+        }
+        return cells;
+    }
+}
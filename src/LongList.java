@@ -0,0 +1,200 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Growable list of primitive longs
+ * Features:
+ * - Backed by a long[] so centavo amounts and timestamps are never boxed
+ * - O(1) amortized append, O(1) get/set
+ * - Running aggregates (sum, average, min, max) computed without allocation
+ */
+public class LongList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + initialCapacity);
+        }
+        this.elements = new long[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Add value to the end of the list - O(1) amortized
+     */
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Add all values of another list - O(m)
+     */
+    public void addAll(LongList other) {
+        if (size + other.size > elements.length) {
+            grow(size + other.size);
+        }
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Get value at index - O(1)
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Set value at index - O(1)
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    /**
+     * Remove last value - O(1)
+     */
+    public long removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elements[--size];
+    }
+
+    /**
+     * Find index of first occurrence of value - O(n)
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains value - O(n)
+     */
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Sum of all values - O(n)
+     */
+    public long sum() {
+        long total = 0L;
+        for (int i = 0; i < size; i++) {
+            total += elements[i];
+        }
+        return total;
+    }
+
+    /**
+     * Average of all values, or NaN when empty - O(n)
+     */
+    public double average() {
+        return size == 0 ? Double.NaN : (double) sum() / size;
+    }
+
+    /**
+     * Smallest value - O(n)
+     */
+    public long min() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        long min = elements[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, elements[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Largest value - O(n)
+     */
+    public long max() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        long max = elements[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, elements[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Sort values in ascending order - O(n log n)
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Get list size - O(1)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Check if list is empty - O(1)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the list, keeping its capacity - O(1)
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copy values into a new array - O(n)
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -224,10 +224,11 @@ public class OptimizedDataManager {
                         String studentID = parts[0].trim();
                         if (isValidStudentID(studentID)) {
                             try {
-                                Double prelimGrade = parts[3].isEmpty() ? null : Double.parseDouble(parts[3]);
-                                Double midtermGrade = parts[4].isEmpty() ? null : Double.parseDouble(parts[4]);
-                                Double tentativeFinalGrade = parts[5].isEmpty() ? null : Double.parseDouble(parts[5]);
-                                Double finalGrade = parts[6].isEmpty() ? null : Double.parseDouble(parts[6]);
+                                // Parsed unboxed; NaN marks a grade not yet submitted
+                                double prelimGrade = parts[3].isEmpty() ? Double.NaN : Double.parseDouble(parts[3]);
+                                double midtermGrade = parts[4].isEmpty() ? Double.NaN : Double.parseDouble(parts[4]);
+                                double tentativeFinalGrade = parts[5].isEmpty() ? Double.NaN : Double.parseDouble(parts[5]);
+                                double finalGrade = parts[6].isEmpty() ? Double.NaN : Double.parseDouble(parts[6]);
                                 
                                 GradeRecord record = new GradeRecord(
                                     studentID,
@@ -661,6 +662,14 @@ public class OptimizedDataManager {
         paymentCacheInitialized = false;
     }
     
+    /**
+     * Drop cached grade records so the next lookup rereads gradeRecords.txt
+     */
+    public static synchronized void invalidateGradeCache() {
+        gradeCache.clear();
+        gradeCacheInitialized = false;
+    }
+    
     /**
      * Get cache statistics for monitoring
      */
@@ -0,0 +1,516 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Reconciles the three records of student payments
+ * Features:
+ * - paymentLogs.txt (every payment logged), accountStatements.txt (fees and
+ *   payments per statement) and DueBalance.txt (balance summary) are each read
+ *   once as a stream and reduced to per-student totals
+ * - Totals are sorted with bounded memory: at most runLimit students are held
+ *   per source before a sorted run is spilled to a temp file; runs are merged
+ *   k ways and the three sorted streams merge-joined by student ID
+ * - Discrepancies counted by type; the first MAX_KEPT are kept for display
+ * - Optional repair, treating the statements as authoritative: DueBalance.txt
+ *   is rewritten in student order in the same pass and missing log amounts are
+ *   appended to paymentLogs.txt as adjustment lines; students whose log holds
+ *   more than their statement are reported, not repaired
+ */
+public class PaymentReconciler {
+    public static final int DEFAULT_RUN_LIMIT = 100_000;
+    public static final int MAX_KEPT = 1_000;
+    private static final double TOLERANCE = 0.005;
+    private static final String ADJUSTMENT_CHANNEL = "Reconciliation";
+    private static final String ADJUSTMENT_REFERENCE = "Statement adjustment";
+    private static final DateTimeFormatter LOG_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+
+    /**
+     * Kinds of drift between the three files
+     */
+    public enum DiscrepancyType {
+        MISSING_IN_LOG("Statement payments not in paymentLogs.txt"),
+        MISSING_STATEMENT("Logged payments without a statement"),
+        MISSING_BALANCE("Statement without a DueBalance.txt entry"),
+        LOG_AMOUNT_MISMATCH("Logged total differs from statement payments"),
+        PAID_AMOUNT_MISMATCH("DueBalance paid amount differs from statement payments"),
+        BALANCE_MISMATCH("DueBalance remaining balance differs from statement balance");
+
+        private final String description;
+
+        DiscrepancyType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() { return description; }
+    }
+
+    /**
+     * Reconcile the portal's data files
+     * DueBalance.txt is compared as it is on disk; it is the file being audited,
+     * so it is not re-exported from the ledger first.
+     */
+    public static ReconciliationReport reconcile(boolean repair) throws IOException {
+        return reconcile(new File("paymentLogs.txt"), new File("accountStatements.txt"),
+            new File("DueBalance.txt"), repair, DEFAULT_RUN_LIMIT);
+    }
+
+    /**
+     * Reconcile the given files - O(n log n) time, O(runLimit) memory per source
+     */
+    public static ReconciliationReport reconcile(File paymentLogs, File statements, File balances,
+                                                 boolean repair, int runLimit) throws IOException {
+        if (runLimit <= 0) {
+            throw new IllegalArgumentException("Run limit must be positive");
+        }
+        long start = System.nanoTime();
+        ReconciliationReport report = new ReconciliationReport();
+
+        try (SortedTotals logTotals = readPaymentLogs(paymentLogs, runLimit);
+             SortedTotals statementTotals = readStatements(statements, runLimit);
+             SortedTotals balanceTotals = readBalances(balances, runLimit)) {
+
+            File repairedBalances = new File(balances.getAbsolutePath() + ".reconcile");
+            List<String> adjustments = new ArrayList<>();
+            try (BufferedWriter balanceWriter = repair ? openBalanceFile(repairedBalances) : null) {
+                Totals log = logTotals.next();
+                Totals statement = statementTotals.next();
+                Totals balance = balanceTotals.next();
+
+                while (log != null || statement != null || balance != null) {
+                    String id = minKey(log, statement, balance);
+                    Totals logRow = log != null && log.studentID.equals(id) ? log : null;
+                    Totals statementRow = statement != null && statement.studentID.equals(id) ? statement : null;
+                    Totals balanceRow = balance != null && balance.studentID.equals(id) ? balance : null;
+
+                    compare(id, logRow, statementRow, balanceRow, report, balanceWriter, adjustments);
+                    report.studentsChecked++;
+
+                    if (adjustments.size() >= 1_000) {
+                        FileIOManager.appendLines(paymentLogs, adjustments);
+                        adjustments.clear();
+                    }
+                    if (logRow != null) log = logTotals.next();
+                    if (statementRow != null) statement = statementTotals.next();
+                    if (balanceRow != null) balance = balanceTotals.next();
+                }
+            }
+
+            if (repair) {
+                if (!adjustments.isEmpty()) {
+                    FileIOManager.appendLines(paymentLogs, adjustments);
+                }
+                Files.move(repairedBalances.toPath(), balances.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            report.runsSpilled = logTotals.runs + statementTotals.runs + balanceTotals.runs;
+        }
+
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private static String minKey(Totals... rows) {
+        String min = null;
+        for (Totals row : rows) {
+            if (row != null && (min == null || row.studentID.compareTo(min) < 0)) {
+                min = row.studentID;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Compare one student's totals; with a writer, also emit the student's repaired DueBalance line
+     */
+    private static void compare(String id, Totals log, Totals statement, Totals balance,
+                                ReconciliationReport report, BufferedWriter balanceWriter,
+                                List<String> adjustments) throws IOException {
+        double logged = log == null ? 0.0 : log.values[0];
+        boolean repaired = false;
+
+        if (statement == null) {
+            if (log != null) {
+                report.add(new Discrepancy(DiscrepancyType.MISSING_STATEMENT, id, 0.0, logged));
+            }
+            if (balanceWriter != null && balance != null) {
+                writeBalance(balanceWriter, id, balance.values[0], balance.values[1], balance.values[2]);
+            }
+            return;
+        }
+
+        double fees = statement.values[0];
+        double paid = statement.values[1];
+        double remaining = Math.max(0, fees - paid);
+
+        if (log == null && paid > TOLERANCE) {
+            report.add(new Discrepancy(DiscrepancyType.MISSING_IN_LOG, id, paid, 0.0));
+        } else if (log != null && Math.abs(logged - paid) > TOLERANCE) {
+            report.add(new Discrepancy(DiscrepancyType.LOG_AMOUNT_MISMATCH, id, paid, logged));
+        }
+        // Repairs only follow the statement when it covers everything logged;
+        // a log holding more than the statement needs manual review
+        boolean repair = balanceWriter != null && paid - logged > -TOLERANCE;
+        if (repair && paid - logged > TOLERANCE) {
+            adjustments.add(String.format("%s,%s,%s,P %,.2f,%s", LocalDateTime.now().format(LOG_DATE),
+                ADJUSTMENT_CHANNEL, ADJUSTMENT_REFERENCE, paid - logged, id));
+            repaired = true;
+        }
+
+        double amountDue = remaining;
+        if (balance == null) {
+            report.add(new Discrepancy(DiscrepancyType.MISSING_BALANCE, id, remaining, 0.0));
+            repaired |= repair;
+        } else {
+            amountDue = Math.min(balance.values[0], remaining);
+            if (Math.abs(balance.values[2] - paid) > TOLERANCE) {
+                report.add(new Discrepancy(DiscrepancyType.PAID_AMOUNT_MISMATCH, id, paid, balance.values[2]));
+                repaired |= repair;
+            }
+            // DueBalance.txt stores whole pesos
+            if (Math.abs(balance.values[1] - Math.round(remaining)) > 0.5) {
+                report.add(new Discrepancy(DiscrepancyType.BALANCE_MISMATCH, id, remaining, balance.values[1]));
+                repaired |= repair;
+            }
+        }
+
+        if (repair) {
+            writeBalance(balanceWriter, id, amountDue, remaining, paid);
+        } else if (balanceWriter != null && balance != null) {
+            writeBalance(balanceWriter, id, balance.values[0], balance.values[1], balance.values[2]);
+        }
+        if (repaired) {
+            report.repairs++;
+        }
+    }
+
+    private static BufferedWriter openBalanceFile(File file) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+        writer.write("=== USER BALANCE DATABASE ===\n");
+        writer.write("Format: StudentID,AmountDue,RemainingBalance,PaidAmount\n");
+        writer.write("Description: Records all user balances and amount due for each account\n\n");
+        return writer;
+    }
+
+    private static void writeBalance(BufferedWriter writer, String id, double amountDue,
+                                     double remaining, double paid) throws IOException {
+        writer.write(String.format("%s,%.0f,%.0f,%.2f%n", id, amountDue, remaining, paid));
+    }
+
+    /**
+     * paymentLogs.txt: DateTime,Channel,Reference,Amount,StudentID - amount "P 2,237.08" contains commas
+     */
+    private static SortedTotals readPaymentLogs(File file, int runLimit) throws IOException {
+        ExternalTotals totals = new ExternalTotals(1, runLimit);
+        forEachDataLine(file, line -> {
+            String[] parts = line.split(",");
+            if (parts.length < 5) return;
+            String id = parts[parts.length - 1].trim();
+            // The amount starts at the last "P " token before the ID; the reference may hold commas too
+            int first = parts.length - 2;
+            while (first > 3 && !parts[first].trim().startsWith("P")) {
+                first--;
+            }
+            StringBuilder amount = new StringBuilder();
+            for (int i = first; i < parts.length - 1; i++) {
+                amount.append(parts[i]);
+            }
+            totals.add(id, parseAmount(amount.toString()));
+        });
+        return totals.finish();
+    }
+
+    /**
+     * accountStatements.txt blocks: STUDENT:id,... then FEE: and PAYMENT: lines
+     * Refunded, cancelled and failed payments do not count as paid.
+     */
+    private static SortedTotals readStatements(File file, int runLimit) throws IOException {
+        ExternalTotals totals = new ExternalTotals(2, runLimit);
+        String[] current = {null};
+        forEachDataLine(file, line -> {
+            if (line.startsWith("STUDENT:")) {
+                current[0] = line.substring(8).split(",")[0].trim();
+                totals.add(current[0], 0.0, 0.0); // statements without payments still count
+            } else if (line.startsWith("FEE:") && current[0] != null) {
+                FeeBreakdown fee = FeeBreakdown.fromCSV(line.substring(4));
+                if (fee != null) {
+                    totals.add(current[0], fee.getAmount(), 0.0);
+                }
+            } else if (line.startsWith("PAYMENT:") && current[0] != null) {
+                String[] parts = line.substring(8).split(",");
+                if (parts.length < 3) return;
+                String status = parts.length > 4 ? parts[4].trim() : "";
+                if (!status.equals("REFUNDED") && !status.equals("CANCELLED") && !status.equals("FAILED")) {
+                    totals.add(current[0], 0.0, parseAmount(parts[2]));
+                }
+            }
+        });
+        return totals.finish();
+    }
+
+    /**
+     * DueBalance.txt: StudentID,AmountDue,RemainingBalance,PaidAmount
+     */
+    private static SortedTotals readBalances(File file, int runLimit) throws IOException {
+        ExternalTotals totals = new ExternalTotals(3, runLimit);
+        forEachDataLine(file, line -> {
+            String[] parts = line.split(",");
+            if (parts.length < 4) return;
+            totals.add(parts[0].trim(), parseAmount(parts[1]), parseAmount(parts[2]), parseAmount(parts[3]));
+        });
+        return totals.finish();
+    }
+
+    private interface LineHandler {
+        void handle(String line) throws IOException;
+    }
+
+    private static void forEachDataLine(File file, LineHandler handler) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:")
+                        || line.startsWith("Description:") || line.startsWith("Note:") || line.startsWith("#")) {
+                    continue;
+                }
+                handler.handle(line);
+            }
+        }
+    }
+
+    private static double parseAmount(String text) {
+        try {
+            return Double.parseDouble(text.replace("P", "").replace(",", "").trim());
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * Sums per student; every runLimit students the sums are spilled as a sorted run
+     */
+    private static class ExternalTotals {
+        private final int width;
+        private final int runLimit;
+        private final TreeMap<String, double[]> pending = new TreeMap<>();
+        private final List<File> runs = new ArrayList<>();
+
+        ExternalTotals(int width, int runLimit) {
+            this.width = width;
+            this.runLimit = runLimit;
+        }
+
+        void add(String studentID, double... values) throws IOException {
+            double[] sums = pending.computeIfAbsent(studentID, id -> new double[width]);
+            for (int i = 0; i < width; i++) {
+                sums[i] += values[i];
+            }
+            if (pending.size() >= runLimit) {
+                spill();
+            }
+        }
+
+        private void spill() throws IOException {
+            File run = File.createTempFile("reconcile-run", ".txt");
+            run.deleteOnExit();
+            try (BufferedWriter writer = Files.newBufferedWriter(run.toPath(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, double[]> entry : pending.entrySet()) {
+                    writer.write(entry.getKey());
+                    for (double value : entry.getValue()) {
+                        writer.write('\t');
+                        writer.write(Double.toString(value));
+                    }
+                    writer.newLine();
+                }
+            }
+            runs.add(run);
+            pending.clear();
+        }
+
+        SortedTotals finish() throws IOException {
+            if (runs.isEmpty()) {
+                return new SortedTotals(pending, Collections.emptyList(), width);
+            }
+            if (!pending.isEmpty()) {
+                spill();
+            }
+            return new SortedTotals(null, runs, width);
+        }
+    }
+
+    /**
+     * Per-student totals in student ID order, from memory or a k-way merge of runs
+     */
+    private static class SortedTotals implements Closeable {
+        private final Iterator<Map.Entry<String, double[]>> inMemory;
+        private final PriorityQueue<RunReader> heads = new PriorityQueue<>(
+            Comparator.comparing((RunReader reader) -> reader.current.studentID));
+        private final List<RunReader> readers = new ArrayList<>();
+        private final List<File> files;
+        final int runs;
+
+        SortedTotals(TreeMap<String, double[]> sorted, List<File> files, int width) throws IOException {
+            this.inMemory = sorted == null ? null : sorted.entrySet().iterator();
+            this.files = files;
+            this.runs = files.size();
+            for (File file : files) {
+                RunReader reader = new RunReader(file, width);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heads.add(reader);
+                }
+            }
+        }
+
+        /**
+         * Next student's totals, runs combined, or null at the end
+         */
+        Totals next() throws IOException {
+            if (inMemory != null) {
+                if (!inMemory.hasNext()) return null;
+                Map.Entry<String, double[]> entry = inMemory.next();
+                return new Totals(entry.getKey(), entry.getValue());
+            }
+            RunReader first = heads.poll();
+            if (first == null) return null;
+            Totals merged = first.current;
+            if (first.advance()) heads.add(first);
+            while (!heads.isEmpty() && heads.peek().current.studentID.equals(merged.studentID)) {
+                RunReader same = heads.poll();
+                for (int i = 0; i < merged.values.length; i++) {
+                    merged.values[i] += same.current.values[i];
+                }
+                if (same.advance()) heads.add(same);
+            }
+            return merged;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (RunReader reader : readers) {
+                reader.reader.close();
+            }
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    private static class RunReader {
+        final BufferedReader reader;
+        final int width;
+        Totals current;
+
+        RunReader(File file, int width) throws IOException {
+            this.reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+            this.width = width;
+        }
+
+        boolean advance() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                current = null;
+                return false;
+            }
+            String[] parts = line.split("\t");
+            double[] values = new double[width];
+            for (int i = 0; i < width; i++) {
+                values[i] = Double.parseDouble(parts[i + 1]);
+            }
+            current = new Totals(parts[0], values);
+            return true;
+        }
+    }
+
+    private static class Totals {
+        final String studentID;
+        final double[] values;
+
+        Totals(String studentID, double[] values) {
+            this.studentID = studentID;
+            this.values = values;
+        }
+    }
+
+    /**
+     * One difference found for a student: what the statements say against the other file
+     */
+    public static class Discrepancy {
+        private final DiscrepancyType type;
+        private final String studentID;
+        private final double expected;
+        private final double actual;
+
+        Discrepancy(DiscrepancyType type, String studentID, double expected, double actual) {
+            this.type = type;
+            this.studentID = studentID;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        public DiscrepancyType getType() { return type; }
+        public String getStudentID() { return studentID; }
+        public double getExpected() { return expected; }
+        public double getActual() { return actual; }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: expected P %,.2f, found P %,.2f", studentID, type, expected, actual);
+        }
+    }
+
+    /**
+     * Counts by type, the first MAX_KEPT discrepancies and run statistics
+     */
+    public static class ReconciliationReport {
+        private final Map<DiscrepancyType, Integer> counts = new EnumMap<>(DiscrepancyType.class);
+        private final List<Discrepancy> discrepancies = new ArrayList<>();
+        private int studentsChecked;
+        private int repairs;
+        private int runsSpilled;
+        private long elapsedNanos;
+
+        void add(Discrepancy discrepancy) {
+            counts.merge(discrepancy.getType(), 1, Integer::sum);
+            if (discrepancies.size() < MAX_KEPT) {
+                discrepancies.add(discrepancy);
+            }
+        }
+
+        public int getStudentsChecked() { return studentsChecked; }
+        public int getRepairs() { return repairs; }
+        public int getRunsSpilled() { return runsSpilled; }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+        public int getCount(DiscrepancyType type) { return counts.getOrDefault(type, 0); }
+        public List<Discrepancy> getDiscrepancies() { return Collections.unmodifiableList(discrepancies); }
+
+        public int getDiscrepancyCount() {
+            int total = 0;
+            for (int count : counts.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        public boolean isReconciled() {
+            return counts.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(
+                "%d students checked, %d discrepancies, %d repaired, %d runs spilled, %.1f ms",
+                studentsChecked, getDiscrepancyCount(), repairs, runsSpilled, getElapsedMillis()));
+            for (Map.Entry<DiscrepancyType, Integer> entry : counts.entrySet()) {
+                text.append(String.format("%n  %s: %d", entry.getKey().getDescription(), entry.getValue()));
+            }
+            return text.toString();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 /**
  * Enum representing different payment statuses
+ * Allowed transitions form a state machine:
+ * PENDING -> PROCESSING -> FOR_POSTING -> POSTED/COMPLETED -> REFUNDED,
+ * with FAILED or CANCELLED possible until the payment is posted.
  */
 public enum PaymentStatus {
     PENDING("Pending", "Payment awaiting processing"),
@@ -45,4 +48,48 @@ public enum PaymentStatus {
     public boolean isInProgress() {
         return this == PENDING || this == PROCESSING || this == FOR_POSTING;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Check if no further transition is possible
+     */
+    public boolean isFinal() {
+        return this == FAILED || this == CANCELLED || this == REFUNDED;
+    }
+    
+    /**
+     * Check if a payment may move from this status to the given one
+     */
+    public boolean canTransitionTo(PaymentStatus target) {
+        switch (this) {
+            case PENDING:
+                return target == PROCESSING || target == FOR_POSTING || target == FAILED || target == CANCELLED;
+            case PROCESSING:
+                return target == FOR_POSTING || target == FAILED || target == CANCELLED;
+            case FOR_POSTING:
+                return target == POSTED || target == COMPLETED || target == FAILED || target == CANCELLED;
+            case POSTED:
+                return target == COMPLETED || target == REFUNDED;
+            case COMPLETED:
+                return target == REFUNDED;
+            default:
+                return false; // FAILED, CANCELLED and REFUNDED are final
+        }
+    }
+    
+    /**
+     * Status a payment moves to on its own once its processing time passes, or null
+     * Onsite payments wait in FOR_POSTING for the cashier; online payments complete automatically.
+     */
+    public PaymentStatus automaticNext(boolean onsite) {
+        switch (this) {
+            case PENDING:
+                return onsite ? FOR_POSTING : PROCESSING;
+            case PROCESSING:
+                return FOR_POSTING;
+            case FOR_POSTING:
+                return onsite ? null : COMPLETED;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timed payment status transitions
+ * Features:
+ * - Each payment's next transition is scheduled once on a single timer thread
+ *   instead of every payment being re-checked on each refresh
+ * - Online: PROCESSING, FOR_POSTING after 2 minutes, COMPLETED after 5 minutes
+ * - Onsite: FOR_POSTING until a cashier posts it through CashierPostingQueue
+ * - Transitions checked against PaymentStatus.canTransitionTo and pushed to listeners
+ * - The per-payment callback is stored on the PaymentTransaction, and only a
+ *   pending timed transition references the payment, so settled payments and
+ *   the statements behind them are not kept alive by the scheduler
+ */
+public class PaymentStatusScheduler {
+    public static final long PROCESSING_MINUTES = 2; // online payment leaves PROCESSING
+    public static final long POSTING_MINUTES = 5;    // online payment leaves FOR_POSTING
+
+    private static final List<PaymentStatusListener> listeners = new CopyOnWriteArrayList<>();
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "payment-status-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Receives every status change; called on the timer thread or the caller of transition()
+     */
+    @FunctionalInterface
+    public interface PaymentStatusListener {
+        void statusChanged(PaymentTransaction payment, PaymentStatus from, PaymentStatus to);
+    }
+
+    public static void addListener(PaymentStatusListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public static void removeListener(PaymentStatusListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Schedule the payment's automatic transitions - O(log n) per transition
+     * Time already elapsed since the payment was made counts, so overdue payments move at once.
+     * onChange runs after each of this payment's transitions, timed or manual, before the listeners.
+     */
+    public static void track(PaymentTransaction payment, PaymentStatusListener onChange) {
+        if (payment == null || onChange == null) {
+            throw new IllegalArgumentException("Payment and change callback cannot be null");
+        }
+        payment.setStatusOwner(onChange); // held by the payment, so nothing here outlives its statement
+        scheduleNext(payment);
+    }
+
+    private static void scheduleNext(PaymentTransaction payment) {
+        PaymentStatus current = payment.getStatus();
+        PaymentStatus next = current == null ? null : current.automaticNext(payment.isOnsite());
+        if (next == null) {
+            return;
+        }
+
+        long dueMinutes = next == PaymentStatus.FOR_POSTING || next == PaymentStatus.PROCESSING
+            ? PROCESSING_MINUTES : POSTING_MINUTES;
+        long delay = Duration.between(LocalDateTime.now(), payment.getTimestamp().plusMinutes(dueMinutes)).toMillis();
+        timer.schedule(() -> {
+            if (apply(payment, current, next)) {
+                scheduleNext(payment);
+            }
+        }, Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Move a payment now, e.g. when the cashier posts it - O(listeners)
+     * Returns false if the state machine does not allow the move.
+     */
+    public static boolean transition(PaymentTransaction payment, PaymentStatus target) {
+        if (payment == null || target == null) {
+            throw new IllegalArgumentException("Payment and target status cannot be null");
+        }
+        return apply(payment, payment.getStatus(), target);
+    }
+
+    private static boolean apply(PaymentTransaction payment, PaymentStatus from, PaymentStatus to) {
+        if (!payment.transition(from, to)) {
+            return false;
+        }
+        PaymentStatusListener onChange = payment.getStatusOwner();
+        if (to.isFinal()) {
+            payment.setStatusOwner(null);
+        }
+        if (onChange != null) {
+            onChange.statusChanged(payment, from, to);
+        }
+        for (PaymentStatusListener listener : listeners) {
+            try {
+                listener.statusChanged(payment, from, to);
+            } catch (RuntimeException e) {
+                System.err.println("Payment status listener failed: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+import java.util.List;
+
+/**
+ * Payment history table backed by the statement's PaymentTransaction list
+ * Features:
+ * - Rows identified by payment reference, so a new payment inserts one row
+ * - Status changes on existing payments repaint only their rows
+ */
+public class PaymentTableModel extends ListTableModel<PaymentTransaction> {
+    private static final String[] COLUMNS = {"Date", "Channel", "Reference", "Amount", "Status"};
+
+    public PaymentTableModel(List<PaymentTransaction> payments) {
+        super(COLUMNS);
+        setItems(payments);
+    }
+
+    @Override
+    protected Object getColumnValue(PaymentTransaction payment, int column) {
+        switch (column) {
+            case 0: return payment.getDate();
+            case 1: return payment.getChannel();
+            case 2: return payment.getReference();
+            case 3: return payment.getAmount();
+            default: return payment.getStatus() != null ? payment.getStatus().getDisplayName() : "";
+        }
+    }
+
+    @Override
+    protected boolean isSameItem(PaymentTransaction a, PaymentTransaction b) {
+        return a.getReference().equals(b.getReference()) && a.getDate().equals(b.getDate());
+    }
+}
@@ -1,93 +1,118 @@
-/**
- * Data class to hold payment transaction information
- */
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
-public class PaymentTransaction {
-    private String date;
-    private String channel;
-    private String reference;
-    private String amount;
-    private LocalDateTime timestamp;
-    private PaymentStatus status;
-    private String paymentType; // ONLINE or ONSITE
-    private String remarks;
-    
-    public PaymentTransaction(String date, String channel, String reference, String amount) {
-        this.date = date;
-        this.channel = channel;
-        this.reference = reference;
-        this.amount = amount;
-        this.timestamp = LocalDateTime.now();
-        this.status = PaymentStatus.PROCESSING;
-        this.paymentType = "ONLINE";
-        this.remarks = "";
-    }
-    
-    // Constructor with status
-    public PaymentTransaction(String date, String channel, String reference, String amount, PaymentStatus status) {
-        this(date, channel, reference, amount);
-        this.status = status;
-    }
-    
-    // Constructor that uses current date/time
-    public PaymentTransaction(String channel, String reference, String amount) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
-        this.date = LocalDateTime.now().format(formatter);
-        this.channel = channel;
-        this.reference = reference;
-        this.amount = amount;
-        this.timestamp = LocalDateTime.now();
-        this.status = PaymentStatus.PROCESSING;
-        this.paymentType = channel.toLowerCase().contains("cashier") || channel.toLowerCase().contains("onsite") ? "ONSITE" : "ONLINE";
-        this.remarks = "";
-    }
-    
-    // Getters
-    public String getDate() { return date; }
-    public String getChannel() { return channel; }
-    public String getReference() { return reference; }
-    public String getAmount() { return amount; }
-    
-    public LocalDateTime getTimestamp() { return timestamp; }
-    public PaymentStatus getStatus() { return status; }
-    public void setStatus(PaymentStatus status) { this.status = status; }
-    public String getPaymentType() { return paymentType; }
-    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
-    public String getRemarks() { return remarks; }
-    public void setRemarks(String remarks) { this.remarks = remarks; }
-    
-    public Object[] toTableRow() {
-        return new Object[]{date, channel, reference, amount, status.getDisplayName()};
-    }
-    
-    public Object[] toTableRowWithoutStatus() {
-        return new Object[]{date, channel, reference, amount};
-    }
-    
-    /**
-     * Updates status based on time elapsed (simulating processing)
-     */
-    public void updateStatusBasedOnTime() {
-        long minutesElapsed = java.time.Duration.between(timestamp, LocalDateTime.now()).toMinutes();
-        
-        if (paymentType.equals("ONSITE")) {
-            // Onsite payments need cashier posting
-            if (minutesElapsed < 5) {
-                status = PaymentStatus.FOR_POSTING;
-            } else {
-                status = PaymentStatus.POSTED;
-            }
-        } else {
-            // Online payments process automatically
-            if (minutesElapsed < 2) {
-                status = PaymentStatus.PROCESSING;
-            } else if (minutesElapsed < 5) {
-                status = PaymentStatus.FOR_POSTING;
-            } else {
-                status = PaymentStatus.COMPLETED;
-            }
-        }
-    }
-}
\ No newline at end of file
+/**
+ * Data class to hold payment transaction information
+ */
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class PaymentTransaction {
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+
+    private String date;
+    private String channel;
+    private String reference;
+    private String amount;
+    private double amountValue; // amount parsed once, e.g. 1234.5 for "P 1,234.50"
+    private LocalDateTime timestamp;
+    private volatile PaymentStatus status; // moved by PaymentStatusScheduler's timer thread
+    private volatile PaymentStatusScheduler.PaymentStatusListener statusOwner; // e.g. the owning statement, set by track()
+    private String paymentType; // ONLINE or ONSITE
+    private String remarks;
+    
+    public PaymentTransaction(String date, String channel, String reference, String amount) {
+        this.date = date;
+        this.channel = channel;
+        this.reference = reference;
+        this.amount = amount;
+        this.amountValue = parseAmount(amount);
+        this.timestamp = LocalDateTime.now();
+        this.status = PaymentStatus.PROCESSING;
+        this.paymentType = "ONLINE";
+        this.remarks = "";
+    }
+    
+    // Constructor with status
+    public PaymentTransaction(String date, String channel, String reference, String amount, PaymentStatus status) {
+        this(date, channel, reference, amount);
+        this.status = status;
+    }
+    
+    // Constructor that uses current date/time
+    public PaymentTransaction(String channel, String reference, String amount) {
+        this.date = LocalDateTime.now().format(DATE_FORMAT);
+        this.channel = channel;
+        this.reference = reference;
+        this.amount = amount;
+        this.amountValue = parseAmount(amount);
+        this.timestamp = LocalDateTime.now();
+        this.status = PaymentStatus.PROCESSING;
+        this.paymentType = channel.toLowerCase().contains("cashier") || channel.toLowerCase().contains("onsite") ? "ONSITE" : "ONLINE";
+        this.remarks = "";
+    }
+    
+    // Getters
+    public String getDate() { return date; }
+    public String getChannel() { return channel; }
+    public String getReference() { return reference; }
+    public String getAmount() { return amount; }
+    public double getAmountValue() { return amountValue; }
+    
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public PaymentStatus getStatus() { return status; }
+    public void setStatus(PaymentStatus status) { this.status = status; }
+    public String getPaymentType() { return paymentType; }
+    public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
+    public String getRemarks() { return remarks; }
+    
+    /**
+     * Restores the date saved with the payment when statements are loaded from file
+     * The timestamp follows the saved date when it can be read, and stays at the load time otherwise.
+     */
+    void restoreDate(String savedDate) {
+        if (savedDate == null || savedDate.isEmpty()) {
+            return;
+        }
+        this.date = savedDate;
+        try {
+            this.timestamp = LocalDateTime.parse(savedDate, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            System.err.println("Unreadable payment date " + savedDate + " for " + reference);
+        }
+    }
+    public void setRemarks(String remarks) { this.remarks = remarks; }
+    
+    public Object[] toTableRow() {
+        return new Object[]{date, channel, reference, amount, status.getDisplayName()};
+    }
+    
+    public Object[] toTableRowWithoutStatus() {
+        return new Object[]{date, channel, reference, amount};
+    }
+    
+    private static double parseAmount(String amount) {
+        try {
+            return Double.parseDouble(amount.replace("P", "").replace(",", "").trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            return 0.0;
+        }
+    }
+    
+    public boolean isOnsite() { return "ONSITE".equals(paymentType); }
+    
+    // Callback PaymentStatusScheduler runs on each of this payment's transitions; kept here
+    // rather than in a scheduler-wide map so it is collected together with its statement
+    PaymentStatusScheduler.PaymentStatusListener getStatusOwner() { return statusOwner; }
+    void setStatusOwner(PaymentStatusScheduler.PaymentStatusListener statusOwner) { this.statusOwner = statusOwner; }
+    
+    /**
+     * Move to the target status if the payment is still in the expected one and the
+     * state machine allows it; returns false otherwise, e.g. when a cashier already posted it
+     */
+    public synchronized boolean transition(PaymentStatus expected, PaymentStatus target) {
+        if (status != expected || expected == null || !expected.canTransitionTo(target)) {
+            return false;
+        }
+        status = target;
+        return true;
+    }
+}
@@ -0,0 +1,240 @@
+import java.util.*;
+
+/**
+ * Detects overlapping classes in course schedules
+ * Features:
+ * - Three conflict kinds: a student in two classes, a room hosting two sections,
+ *   an instructor teaching two sections at the same time
+ * - Batch scan: per (kind, key, semester, day) sweep line over start-sorted
+ *   intervals with a min-heap of end times - O(n log n + k) for k conflicts
+ * - Incremental mode: addSchedule() reports only the conflicts a new row introduces,
+ *   using a start-ordered interval index per bucket - O(log n + k) per row
+ * - Sections shared by many students are indexed once for room/instructor checks
+ *
+ * Times are half-open intervals [start, end), so back-to-back classes do not conflict.
+ */
+public class ScheduleConflictDetector {
+
+    public enum ConflictType {
+        STUDENT, ROOM, INSTRUCTOR
+    }
+
+    private static final String[] DAY_NAMES = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+
+    // Incremental interval index, one bucket per kind/semester/key/day
+    private final Map<String, IntervalBucket> buckets = new HashMap<>();
+    private final List<Conflict> conflicts = new ArrayList<>();
+
+    /**
+     * Add a schedule row and return the conflicts it introduces - O(log n + k)
+     */
+    public List<Conflict> addSchedule(CourseSchedule schedule) {
+        List<Conflict> found = new ArrayList<>();
+        if (isEmptyInterval(schedule)) {
+            return found;
+        }
+        for (ConflictType type : ConflictType.values()) {
+            String key = keyFor(type, schedule);
+            if (key == null) continue;
+
+            for (int day = 0; day < DAY_NAMES.length; day++) {
+                if (!schedule.occursOn(day)) continue;
+
+                IntervalBucket bucket = buckets.computeIfAbsent(bucketKey(type, key, schedule, day),
+                    k -> new IntervalBucket());
+                // Room and instructor checks look at sections, not enrollments
+                if (type != ConflictType.STUDENT && !bucket.sections.add(schedule.getClassCode())) {
+                    continue;
+                }
+                for (CourseSchedule other : bucket.overlapping(schedule.getStartMinute(), schedule.getEndMinute())) {
+                    if (!other.getClassCode().equals(schedule.getClassCode())) {
+                        found.add(new Conflict(type, key, day, other, schedule));
+                    }
+                }
+                bucket.add(schedule);
+            }
+        }
+        conflicts.addAll(found);
+        return found;
+    }
+
+    /**
+     * Add many rows, returning the conflicts they introduce - O(n log n + k)
+     */
+    public List<Conflict> addAll(Collection<CourseSchedule> schedules) {
+        List<Conflict> found = new ArrayList<>();
+        for (CourseSchedule schedule : schedules) {
+            found.addAll(addSchedule(schedule));
+        }
+        return found;
+    }
+
+    /**
+     * All conflicts reported so far
+     */
+    public List<Conflict> getConflicts() {
+        return Collections.unmodifiableList(conflicts);
+    }
+
+    /**
+     * Scan a whole schedule with a sweep line per bucket - O(n log n + k)
+     */
+    public static List<Conflict> detectAll(Collection<CourseSchedule> schedules) {
+        List<Conflict> result = new ArrayList<>();
+        for (ConflictType type : ConflictType.values()) {
+            Map<String, List<CourseSchedule>> grouped = new HashMap<>();
+            Map<String, Set<String>> sections = new HashMap<>();
+            Map<String, String> bucketOwner = new HashMap<>();
+
+            for (CourseSchedule schedule : schedules) {
+                String key = keyFor(type, schedule);
+                if (key == null || isEmptyInterval(schedule)) continue;
+                for (int day = 0; day < DAY_NAMES.length; day++) {
+                    if (!schedule.occursOn(day)) continue;
+                    String bucketKey = bucketKey(type, key, schedule, day);
+                    if (type != ConflictType.STUDENT
+                            && !sections.computeIfAbsent(bucketKey, k -> new HashSet<>()).add(schedule.getClassCode())) {
+                        continue;
+                    }
+                    grouped.computeIfAbsent(bucketKey, k -> new ArrayList<>()).add(schedule);
+                    bucketOwner.putIfAbsent(bucketKey, key);
+                }
+            }
+
+            for (Map.Entry<String, List<CourseSchedule>> entry : grouped.entrySet()) {
+                List<CourseSchedule> intervals = entry.getValue();
+                if (intervals.size() < 2) continue;
+                int day = entry.getKey().charAt(entry.getKey().length() - 1) - '0';
+                sweep(type, bucketOwner.get(entry.getKey()), day, intervals, result);
+            }
+        }
+        result.sort(CONFLICT_ORDER);
+        return result;
+    }
+
+    /**
+     * Scan courseSchedules.txt for conflicts
+     */
+    public static List<Conflict> scanScheduleFile() {
+        return detectAll(Timetable.loadAllSchedules());
+    }
+
+    /**
+     * Sweep intervals of one bucket in start order, keeping active intervals in a heap by end
+     */
+    private static void sweep(ConflictType type, String key, int day, List<CourseSchedule> intervals,
+                              List<Conflict> result) {
+        intervals.sort(Comparator.comparingInt(CourseSchedule::getStartMinute));
+        PriorityQueue<CourseSchedule> active = new PriorityQueue<>(
+            Comparator.comparingInt(CourseSchedule::getEndMinute));
+
+        for (CourseSchedule current : intervals) {
+            while (!active.isEmpty() && active.peek().getEndMinute() <= current.getStartMinute()) {
+                active.poll();
+            }
+            for (CourseSchedule other : active) {
+                if (!other.getClassCode().equals(current.getClassCode())) {
+                    result.add(new Conflict(type, key, day, other, current));
+                }
+            }
+            active.add(current);
+        }
+    }
+
+    /**
+     * Key a row is checked under for the given conflict kind, or null if the field is blank
+     */
+    private static String keyFor(ConflictType type, CourseSchedule schedule) {
+        String key;
+        switch (type) {
+            case STUDENT: key = schedule.getStudentID(); break;
+            case ROOM: key = schedule.getRoom(); break;
+            default: key = schedule.getInstructor(); break;
+        }
+        return key == null || key.trim().isEmpty() ? null : key.trim();
+    }
+
+    private static boolean isEmptyInterval(CourseSchedule schedule) {
+        return schedule.getEndMinute() <= schedule.getStartMinute();
+    }
+
+    private static String bucketKey(ConflictType type, String key, CourseSchedule schedule, int day) {
+        // Day is the last character; detectAll relies on that
+        return type.ordinal() + "|" + schedule.getSemester() + "|" + key + "|" + day;
+    }
+
+    private static final Comparator<Conflict> CONFLICT_ORDER = Comparator
+        .comparing(Conflict::getType)
+        .thenComparing(Conflict::getKey)
+        .thenComparingInt(Conflict::getDay)
+        .thenComparingInt(Conflict::getOverlapStart);
+
+    /**
+     * Intervals of one bucket ordered by start minute
+     * Any interval overlapping [start, end) must begin after start - longest,
+     * so a query only visits that range of the index.
+     */
+    private static class IntervalBucket {
+        private final TreeMap<Integer, List<CourseSchedule>> byStart = new TreeMap<>();
+        private final Set<String> sections = new HashSet<>();
+        private int longest = 0;
+
+        void add(CourseSchedule schedule) {
+            byStart.computeIfAbsent(schedule.getStartMinute(), k -> new ArrayList<>()).add(schedule);
+            longest = Math.max(longest, schedule.getEndMinute() - schedule.getStartMinute());
+        }
+
+        List<CourseSchedule> overlapping(int start, int end) {
+            List<CourseSchedule> result = new ArrayList<>();
+            for (List<CourseSchedule> group : byStart.subMap(start - longest, false, end, false).values()) {
+                for (CourseSchedule schedule : group) {
+                    if (schedule.getEndMinute() > start) {
+                        result.add(schedule);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Two schedule rows that overlap on a day under the same student, room or instructor
+     */
+    public static class Conflict {
+        private final ConflictType type;
+        private final String key;
+        private final int day;
+        private final CourseSchedule first;
+        private final CourseSchedule second;
+
+        Conflict(ConflictType type, String key, int day, CourseSchedule first, CourseSchedule second) {
+            this.type = type;
+            this.key = key;
+            this.day = day;
+            this.first = first;
+            this.second = second;
+        }
+
+        public ConflictType getType() { return type; }
+        public String getKey() { return key; }
+        public int getDay() { return day; }
+        public CourseSchedule getFirst() { return first; }
+        public CourseSchedule getSecond() { return second; }
+
+        public int getOverlapStart() {
+            return Math.max(first.getStartMinute(), second.getStartMinute());
+        }
+
+        public int getOverlapEnd() {
+            return Math.min(first.getEndMinute(), second.getEndMinute());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s conflict for %s on %s %02d:%02d-%02d:%02d: %s %s and %s %s",
+                type, key, DAY_NAMES[day],
+                getOverlapStart() / 60, getOverlapStart() % 60, getOverlapEnd() / 60, getOverlapEnd() % 60,
+                first.getClassCode(), first.getCourseNumber(), second.getClassCode(), second.getCourseNumber());
+        }
+    }
+}
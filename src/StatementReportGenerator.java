@@ -0,0 +1,241 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Statement of account reports, one student or the whole term at once
+ * Features:
+ * - Text built by appending into a per-thread StringBuilder with a per-thread
+ *   DecimalFormat instead of one String.format per line
+ * - Term-wide runs rendered in parallel across cores on the common fork-join pool
+ * - Output streamed to one combined file in student order, chunk by chunk,
+ *   or written as one file per student
+ * - Each run reports statements rendered, characters written and statements per second
+ * - Each statement is rendered under its own lock, so payments can continue during a run
+ */
+public class StatementReportGenerator {
+    private static final String RULE = "-------------------------------------------\n";
+    private static final int CHUNK_SIZE = 256; // statements rendered per combined-file write
+    private static final DateTimeFormatter REPORT_DATE = DateTimeFormatter.ofPattern("MMMM dd, yyyy");
+    private static final DateTimeFormatter FEE_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+
+    private static final ThreadLocal<Renderer> RENDERER = ThreadLocal.withInitial(Renderer::new);
+
+    /**
+     * Report for one statement, without an exam period section
+     */
+    public static String render(AccountStatement statement) {
+        return RENDERER.get().render(statement, null, LocalDate.now());
+    }
+
+    /**
+     * Report for one statement with the amount due for an exam period
+     */
+    public static String render(AccountStatement statement, AccountStatement.ExamPeriod period) {
+        return RENDERER.get().render(statement, period, LocalDate.now());
+    }
+
+    /**
+     * Render every statement into one file, in list order - O(n / cores)
+     * Statements are rendered CHUNK_SIZE at a time in parallel and written in
+     * order, so memory holds one chunk of text rather than the whole term.
+     */
+    public static ReportRun writeCombined(List<AccountStatement> statements,
+                                          AccountStatement.ExamPeriod period, File output) throws IOException {
+        long start = System.nanoTime();
+        LocalDate asOf = LocalDate.now();
+        ReportRun run = new ReportRun();
+
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+            String[] chunk = new String[Math.min(CHUNK_SIZE, Math.max(1, statements.size()))];
+            for (int from = 0; from < statements.size(); from += CHUNK_SIZE) {
+                int offset = from;
+                int count = Math.min(CHUNK_SIZE, statements.size() - from);
+                IntStream.range(0, count).parallel().forEach(i ->
+                    chunk[i] = RENDERER.get().render(statements.get(offset + i), period, asOf));
+                for (int i = 0; i < count; i++) {
+                    writer.write(chunk[i]);
+                    writer.write('\n');
+                    run.characters += chunk[i].length() + 1;
+                }
+                run.statements += count;
+            }
+        }
+        run.elapsedNanos = System.nanoTime() - start;
+        return run;
+    }
+
+    /**
+     * Render every statement to its own file, SOA_<studentID>.txt, in parallel - O(n / cores)
+     */
+    public static ReportRun writePerStudent(List<AccountStatement> statements,
+                                            AccountStatement.ExamPeriod period, File directory) throws IOException {
+        long start = System.nanoTime();
+        LocalDate asOf = LocalDate.now();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create report directory " + directory);
+        }
+
+        long characters;
+        try {
+            characters = statements.parallelStream().mapToLong(statement -> {
+                String report = RENDERER.get().render(statement, period, asOf);
+                File file = new File(directory, "SOA_" + statement.getStudentID() + ".txt");
+                try {
+                    Files.write(file.toPath(), report.getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return report.length();
+            }).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        ReportRun run = new ReportRun();
+        run.statements = statements.size();
+        run.characters = characters;
+        run.elapsedNanos = System.nanoTime() - start;
+        return run;
+    }
+
+    /**
+     * Every statement held by AccountStatementManager into one file
+     */
+    public static ReportRun writeTermReport(AccountStatement.ExamPeriod period, File output) throws IOException {
+        return writeCombined(AccountStatementManager.getAllStatements(), period, output);
+    }
+
+    /**
+     * Per-thread buffer and number format, reused for every statement the thread renders
+     */
+    private static class Renderer {
+        private final StringBuilder text = new StringBuilder(4096);
+        private final DecimalFormat money = new DecimalFormat("#,##0.00");
+
+        Renderer() {
+            money.setRoundingMode(RoundingMode.HALF_UP); // same rounding as String.format
+        }
+
+        String render(AccountStatement statement, AccountStatement.ExamPeriod period, LocalDate asOf) {
+            // Fees and payments are live lists; hold the statement as payments and saves do
+            synchronized (statement) {
+                return renderLocked(statement, period, asOf);
+            }
+        }
+
+        private String renderLocked(AccountStatement statement, AccountStatement.ExamPeriod period, LocalDate asOf) {
+            StringBuilder report = text;
+            report.setLength(0);
+            String currentDate = asOf.format(REPORT_DATE);
+
+            report.append("STATEMENT OF ACCOUNT\n");
+            report.append("===========================================\n");
+            report.append("Student ID: ").append(statement.getStudentID()).append('\n');
+            report.append("Semester: ").append(statement.getSemester()).append(' ').append(statement.getAcademicYear()).append('\n');
+            report.append("Date Generated: ").append(currentDate).append('\n');
+            report.append("As of: ").append(currentDate).append("\n\n");
+
+            report.append("FEES BREAKDOWN:\n");
+            report.append(RULE);
+            for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                report.append(fee.getCode()).append(" | ");
+                if (fee.getDatePosted() != null) {
+                    report.append(fee.getDatePosted().format(FEE_DATE));
+                }
+                report.append(" | ").append(fee.getDescription()).append(" | ");
+                if (fee.getAmount() >= 0) {
+                    peso(fee.getAmount());
+                } else {
+                    report.append('(');
+                    peso(Math.abs(fee.getAmount()));
+                    report.append(')');
+                }
+                report.append('\n');
+            }
+
+            report.append('\n').append(RULE);
+            line("Total Tuition: ", statement.getTotalTuition());
+            line("Total Fees: ", statement.getTotalFees());
+            line("TOTAL AMOUNT: ", statement.getTotalAmount());
+            line("Amount Paid: ", statement.getAmountPaid());
+            line("BALANCE: ", statement.getBalance());
+            if (statement.getOverpayment() > 0) {
+                line("Overpayment: ", statement.getOverpayment());
+            }
+            if (period != null) {
+                line("AMOUNT DUE FOR " + period.name() + " EXAMS: ", statement.getExamPeriodDue(period));
+            }
+
+            report.append("\nEXAM PAYMENT STATUS:\n");
+            report.append(RULE);
+            report.append("Prelim Exams: ").append(statement.isPrelimPaid() ? "✓ PAID" : "✗ UNPAID").append('\n');
+            report.append("Midterm Exams: ").append(statement.isMidtermPaid() ? "✓ PAID" : "✗ UNPAID").append('\n');
+            report.append("Finals Exams: ").append(statement.isFinalsPaid() ? "✓ PAID" : "✗ UNPAID").append('\n');
+
+            if (!statement.getPaymentHistory().isEmpty()) {
+                report.append("\nPAYMENT HISTORY:\n");
+                report.append(RULE);
+                for (PaymentTransaction payment : statement.getPaymentHistory()) {
+                    report.append(payment.getDate()).append(" | ")
+                          .append(payment.getChannel()).append(" | ")
+                          .append(payment.getReference()).append(" | ")
+                          .append(payment.getAmount()).append('\n');
+                }
+            }
+
+            String result = report.toString();
+            if (report.capacity() > 65536) {
+                report.setLength(0);
+                report.trimToSize(); // don't keep an unusually large buffer per thread
+            }
+            return result;
+        }
+
+        private void line(String label, double amount) {
+            text.append(label);
+            peso(amount);
+            text.append('\n');
+        }
+
+        private void peso(double amount) {
+            text.append("P ").append(money.format(amount));
+        }
+    }
+
+    /**
+     * Size and speed of one report run
+     */
+    public static class ReportRun {
+        private int statements;
+        private long characters;
+        private long elapsedNanos;
+
+        public int getStatements() { return statements; }
+        public long getCharacters() { return characters; }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+
+        public double getStatementsPerSecond() {
+            return elapsedNanos > 0 ? statements * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d statements (%,d chars) in %.1f ms, %.0f statements/s",
+                statements, characters, getElapsedMillis(), getStatementsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Per-student map keyed by numeric student ID
+ * Features:
+ * - IDs such as "2250493" are stored under their int value in an IntObjectMap,
+ *   so lookups for enrolled students neither box nor hash strings
+ * - IDs that are not plain numbers (letters, leading zeros, more than 9 digits)
+ *   fall back to a HashMap, so every ID round-trips exactly
+ * - O(1) average get/put/remove
+ *
+ * Not thread-safe; callers guard it the way they would a HashMap.
+ */
+public class StudentMap<V> {
+    private final IntObjectMap<V> numeric;
+    private final Map<String, V> other = new HashMap<>();
+
+    public StudentMap() {
+        this.numeric = new IntObjectMap<>();
+    }
+
+    public StudentMap(int expectedSize) {
+        this.numeric = new IntObjectMap<>(expectedSize);
+    }
+
+    /**
+     * Get the value for a student, or null if absent - O(1) average
+     */
+    public V get(String studentID) {
+        int key = keyOf(studentID);
+        return key >= 0 ? numeric.get(key) : other.get(studentID);
+    }
+
+    /**
+     * Associate a value with a student and return the previous value, if any - O(1) average
+     */
+    public V put(String studentID, V value) {
+        if (studentID == null || value == null) {
+            throw new IllegalArgumentException("Student ID and value cannot be null");
+        }
+        int key = keyOf(studentID);
+        return key >= 0 ? numeric.put(key, value) : other.put(studentID, value);
+    }
+
+    /**
+     * Associate a value with a student unless one is present; returns the present value or null - O(1) average
+     */
+    public V putIfAbsent(String studentID, V value) {
+        V present = get(studentID);
+        if (present != null) {
+            return present;
+        }
+        put(studentID, value);
+        return null;
+    }
+
+    /**
+     * Return the value for a student, creating it with the factory when absent - O(1) average
+     */
+    public V computeIfAbsent(String studentID, Function<String, V> factory) {
+        V value = get(studentID);
+        if (value == null) {
+            value = factory.apply(studentID);
+            put(studentID, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove a student and return the value, if any - O(1) average
+     */
+    public V remove(String studentID) {
+        int key = keyOf(studentID);
+        return key >= 0 ? numeric.remove(key) : other.remove(studentID);
+    }
+
+    /**
+     * Visit every student and value, numeric IDs first - O(capacity)
+     */
+    public void forEach(BiConsumer<String, V> consumer) {
+        numeric.forEach((key, value) -> consumer.accept(Integer.toString(key), value));
+        other.forEach(consumer);
+    }
+
+    /**
+     * Get map size - O(1)
+     */
+    public int getSize() {
+        return numeric.getSize() + other.size();
+    }
+
+    /**
+     * Check if map is empty - O(1)
+     */
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    /**
+     * Remove all entries - O(capacity)
+     */
+    public void clear() {
+        numeric.clear();
+        other.clear();
+    }
+
+    /**
+     * Copy of a String-keyed map - O(n)
+     */
+    public static <V> StudentMap<V> copyOf(Map<String, V> map) {
+        StudentMap<V> copy = new StudentMap<>(map.size());
+        map.forEach(copy::put);
+        return copy;
+    }
+
+    /**
+     * Int key of an ID whose decimal form is exactly the ID, or -1
+     * "0042" stays a string key, so it never collides with "42".
+     */
+    private static int keyOf(String studentID) {
+        int key = IntObjectMap.parseKey(studentID);
+        return key >= 0 && (studentID.length() == 1 || studentID.charAt(0) != '0') ? key : -1;
+    }
+}
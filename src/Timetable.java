@@ -0,0 +1,233 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compiled, immutable class timetable for one student
+ * Features:
+ * - Built once from courseSchedules.txt and shared by every schedule view
+ * - Meeting days kept as a 7-bit mask per course (bit 0 = Sunday ... bit 6 = Saturday)
+ * - Per-day interval index: courses sorted by start minute with prefix-max end minutes
+ * - O(log n) lookup of the class in session at a given day and time
+ * - Reloaded only when courseSchedules.txt changes on disk
+ */
+public final class Timetable {
+    public static final int SUNDAY = 0;
+    public static final int MONDAY = 1;
+    public static final int TUESDAY = 2;
+    public static final int WEDNESDAY = 3;
+    public static final int THURSDAY = 4;
+    public static final int FRIDAY = 5;
+    public static final int SATURDAY = 6;
+    public static final int DAYS_PER_WEEK = 7;
+
+    private static final String SCHEDULES_FILE = "courseSchedules.txt";
+    private static final Timetable EMPTY = new Timetable(Collections.emptyList());
+
+    // Timetables of every student in the schedule file, replaced as a whole on reload
+    private static volatile Map<String, Timetable> timetables = Collections.emptyMap();
+    private static long loadedModified = -1;
+
+    private final List<CourseSchedule> courses;
+    private final CourseSchedule[][] dayCourses;
+    private final int[][] dayStarts;
+    private final int[][] dayMaxEnds;
+    private final int earliestStart;
+    private final int latestEnd;
+    private final int totalUnits;
+
+    private Timetable(List<CourseSchedule> courseList) {
+        List<CourseSchedule> sorted = new ArrayList<>(courseList);
+        sorted.sort(Comparator.comparingInt(CourseSchedule::getStartMinute)
+            .thenComparing(CourseSchedule::getClassCode));
+        this.courses = Collections.unmodifiableList(sorted);
+
+        this.dayCourses = new CourseSchedule[DAYS_PER_WEEK][];
+        this.dayStarts = new int[DAYS_PER_WEEK][];
+        this.dayMaxEnds = new int[DAYS_PER_WEEK][];
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            List<CourseSchedule> onDay = new ArrayList<>();
+            for (CourseSchedule course : sorted) {
+                if (course.occursOn(day)) {
+                    onDay.add(course);
+                }
+            }
+
+            CourseSchedule[] index = onDay.toArray(new CourseSchedule[0]);
+            int[] starts = new int[index.length];
+            int[] maxEnds = new int[index.length];
+            int maxEnd = Integer.MIN_VALUE;
+            for (int i = 0; i < index.length; i++) {
+                starts[i] = index[i].getStartMinute();
+                maxEnd = Math.max(maxEnd, index[i].getEndMinute());
+                maxEnds[i] = maxEnd;
+            }
+            dayCourses[day] = index;
+            dayStarts[day] = starts;
+            dayMaxEnds[day] = maxEnds;
+        }
+
+        int earliest = Integer.MAX_VALUE;
+        int latest = Integer.MIN_VALUE;
+        int units = 0;
+        for (CourseSchedule course : sorted) {
+            earliest = Math.min(earliest, course.getStartMinute());
+            latest = Math.max(latest, course.getEndMinute());
+            units += course.getUnits();
+        }
+        this.earliestStart = sorted.isEmpty() ? -1 : earliest;
+        this.latestEnd = sorted.isEmpty() ? -1 : latest;
+        this.totalUnits = units;
+    }
+
+    /**
+     * Timetable for a student, or an empty one if the student has no schedule rows
+     * Loads courseSchedules.txt on first use and again only after it changes.
+     */
+    public static Timetable forStudent(String studentID) {
+        reloadIfChanged();
+        return timetables.getOrDefault(studentID, EMPTY);
+    }
+
+    /**
+     * Build a timetable from already parsed rows
+     */
+    public static Timetable of(List<CourseSchedule> courses) {
+        return courses.isEmpty() ? EMPTY : new Timetable(courses);
+    }
+
+    /**
+     * All schedule rows in courseSchedules.txt, skipping headers and malformed lines
+     */
+    public static List<CourseSchedule> loadAllSchedules() {
+        try {
+            return FileIOManager.readAndProcess(new File(SCHEDULES_FILE), (line, lineNumber) -> {
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:")) {
+                    return null;
+                }
+                try {
+                    return CourseSchedule.fromCsvFormat(line);
+                } catch (RuntimeException e) {
+                    System.err.println("Skipping malformed schedule line " + (lineNumber + 1) + ": " + line);
+                    return null;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Error reading course schedules: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private static synchronized void reloadIfChanged() {
+        File file = new File(SCHEDULES_FILE);
+        long modified = file.exists() ? file.lastModified() : 0;
+        if (modified == loadedModified) {
+            return;
+        }
+
+        Map<String, List<CourseSchedule>> grouped = new HashMap<>();
+        for (CourseSchedule course : loadAllSchedules()) {
+            grouped.computeIfAbsent(course.getStudentID(), id -> new ArrayList<>()).add(course);
+        }
+        Map<String, Timetable> compiled = new HashMap<>();
+        for (Map.Entry<String, List<CourseSchedule>> entry : grouped.entrySet()) {
+            compiled.put(entry.getKey(), new Timetable(entry.getValue()));
+        }
+        timetables = compiled;
+        loadedModified = modified;
+    }
+
+    /**
+     * Class in session on the given day at the given minute of the day, or null - O(log n)
+     * Classes are treated as half-open intervals [start, end).
+     */
+    public CourseSchedule courseAt(int day, int minuteOfDay) {
+        int[] starts = dayStarts[day];
+        int[] maxEnds = dayMaxEnds[day];
+        CourseSchedule[] index = dayCourses[day];
+
+        // Last course starting at or before the minute
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= minuteOfDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Walk back only while some earlier course can still reach this minute
+        for (int i = low - 1; i >= 0 && maxEnds[i] > minuteOfDay; i--) {
+            if (index[i].getEndMinute() > minuteOfDay) {
+                return index[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Courses meeting on a day, ordered by start time
+     */
+    public List<CourseSchedule> coursesOn(int day) {
+        return Collections.unmodifiableList(Arrays.asList(dayCourses[day]));
+    }
+
+    /**
+     * All courses ordered by start time, then class code
+     */
+    public List<CourseSchedule> getCourses() {
+        return courses;
+    }
+
+    public int getTotalUnits() { return totalUnits; }
+    public boolean isEmpty() { return courses.isEmpty(); }
+
+    /**
+     * Earliest start minute of any course, or -1 when empty
+     */
+    public int getEarliestStart() { return earliestStart; }
+
+    /**
+     * Latest end minute of any course, or -1 when empty
+     */
+    public int getLatestEnd() { return latestEnd; }
+
+    /**
+     * Parse day codes such as "MWF", "TThS", "TF", "TH" or "SuS" into a day bitmask
+     * "TH"/"Th" is Thursday, "S" is Saturday and "Su" is Sunday.
+     */
+    public static int parseDayMask(String days) {
+        int mask = 0;
+        if (days == null) return mask;
+        String s = days.trim().toUpperCase();
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            char next = i + 1 < s.length() ? s.charAt(i + 1) : ' ';
+            switch (ch) {
+                case 'M': mask |= 1 << MONDAY; break;
+                case 'W': mask |= 1 << WEDNESDAY; break;
+                case 'F': mask |= 1 << FRIDAY; break;
+                case 'T':
+                    if (next == 'H') {
+                        mask |= 1 << THURSDAY;
+                        i++;
+                    } else {
+                        mask |= 1 << TUESDAY;
+                    }
+                    break;
+                case 'S':
+                    if (next == 'U') {
+                        mask |= 1 << SUNDAY;
+                        i++;
+                    } else {
+                        mask |= 1 << SATURDAY;
+                    }
+                    break;
+                default: break;
+            }
+        }
+        return mask;
+    }
+}
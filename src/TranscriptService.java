@@ -0,0 +1,262 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Transcript of Records built from gradeRecords.txt
+ * Features:
+ * - Streams only the requested student's lines (prefix match before parsing)
+ * - Groups completed subjects by semester in chronological order
+ * - Per-term and cumulative GWA over primitive grade/unit lists (GradeStatistics)
+ * - Materialized transcripts cached per student (StudentMap, keyed by
+ *   numeric student ID) until a grade is posted
+ *   for that student or gradeRecords.txt changes on disk
+ */
+public class TranscriptService {
+    private static final String GRADES_FILE = "gradeRecords.txt";
+    private static final Pattern TERM_YEAR = Pattern.compile("(\\d{4})(-\\d{4})?");
+
+    private static final StudentMap<Transcript> transcripts = new StudentMap<>(); // guarded by itself
+    private static final AtomicLong invalidations = new AtomicLong(); // bumped whenever cached transcripts are dropped
+    private static long cachedModified = -1;
+
+    /**
+     * Get the transcript for a student, building it on first use - O(1) when cached
+     * unitsResolver maps a subject code to its credit units; gradeRecords.txt has no units column.
+     * The file is read outside the cache lock, so other students' lookups never wait on it.
+     */
+    public static Transcript getTranscript(String studentID, ToDoubleFunction<String> unitsResolver) {
+        invalidateIfFileChanged();
+        Transcript cached;
+        synchronized (transcripts) {
+            cached = transcripts.get(studentID);
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        Transcript built = buildTranscript(studentID, unitsResolver);
+        if (invalidations.get() != generation) {
+            return built; // a grade was posted while reading; don't cache what may predate it
+        }
+        synchronized (transcripts) {
+            Transcript raced = transcripts.putIfAbsent(studentID, built);
+            return raced != null ? raced : built;
+        }
+    }
+
+    /**
+     * Drop a student's cached transcript after a grade has been posted
+     */
+    public static void onGradePosted(String studentID) {
+        invalidations.incrementAndGet();
+        synchronized (transcripts) {
+            transcripts.remove(studentID);
+        }
+    }
+
+    /**
+     * Drop all cached transcripts
+     */
+    public static void clearCache() {
+        invalidations.incrementAndGet();
+        synchronized (transcripts) {
+            transcripts.clear();
+        }
+    }
+
+    private static synchronized void invalidateIfFileChanged() {
+        File file = new File(GRADES_FILE);
+        long modified = file.exists() ? file.lastModified() : 0;
+        if (modified != cachedModified) {
+            clearCache();
+            cachedModified = modified;
+        }
+    }
+
+    /**
+     * Stream the student's records and accumulate terms - O(lines in file)
+     */
+    private static Transcript buildTranscript(String studentID, ToDoubleFunction<String> unitsResolver) {
+        Transcript transcript = new Transcript(studentID);
+        String prefix = studentID + ",";
+        try {
+            FileIOManager.readAndProcess(new File(GRADES_FILE), (line, lineNumber) -> {
+                if (!line.startsWith(prefix)) {
+                    return null; // skip other students without parsing
+                }
+                try {
+                    GradeRecord record = GradeRecord.fromCsvFormat(line);
+                    if (record != null) {
+                        transcript.addRecord(record, unitsResolver.applyAsDouble(record.getSubjectCode()));
+                    }
+                } catch (NumberFormatException e) {
+                    System.err.println("Skipping malformed grade line " + (lineNumber + 1) + ": " + line);
+                }
+                return null; // records are accumulated, not collected
+            });
+        } catch (IOException e) {
+            System.err.println("Error reading grade records: " + e.getMessage());
+        }
+        transcript.finish();
+        return transcript;
+    }
+
+    /**
+     * Chronological sort key for labels such as "FIRST SEMESTER 2024-2025" or "SHORT TERM 2025"
+     */
+    static int termSortKey(String semester) {
+        String upper = semester.toUpperCase();
+        int year = 0;
+        Matcher matcher = TERM_YEAR.matcher(upper);
+        boolean singleYear = false;
+        if (matcher.find()) {
+            year = Integer.parseInt(matcher.group(1));
+            singleYear = matcher.group(2) == null;
+        }
+
+        int order;
+        if (upper.startsWith("FIRST")) {
+            order = 1;
+        } else if (upper.startsWith("SECOND")) {
+            order = 2;
+        } else {
+            order = 3; // short term / summer follows the second semester
+            if (singleYear) year--; // "SHORT TERM 2025" belongs to academic year 2024-2025
+        }
+        return year * 10 + order;
+    }
+
+    /**
+     * A student's completed subjects grouped by term, with running GWAs
+     */
+    public static class Transcript {
+        private final String studentID;
+        private final Map<String, Term> termsBySemester = new LinkedHashMap<>();
+        private List<Term> terms = new ArrayList<>();
+        private final DoubleList grades = new DoubleList();
+        private final IntList units = new IntList(); // tenths of a unit
+        private double totalUnits;
+
+        Transcript(String studentID) {
+            this.studentID = studentID;
+        }
+
+        /**
+         * Add a record with a final grade to its term - O(1)
+         * Subjects still in progress (no final grade) are not part of the transcript.
+         */
+        void addRecord(GradeRecord record, double subjectUnits) {
+            double grade = GradeStatistics.countedGrade(record);
+            if (Double.isNaN(grade) || subjectUnits <= 0) {
+                return;
+            }
+            termsBySemester.computeIfAbsent(record.getSemester(), Term::new).add(record, grade, subjectUnits);
+            grades.add(grade);
+            units.add(GradeStatistics.scaledUnits(subjectUnits));
+            totalUnits += subjectUnits;
+        }
+
+        /**
+         * Order terms chronologically and fill in cumulative GWAs from running sums - O(t log t)
+         */
+        void finish() {
+            terms = new ArrayList<>(termsBySemester.values());
+            terms.sort(Comparator.comparingInt(term -> termSortKey(term.semester)));
+            double runningSum = 0.0;
+            double runningUnits = 0.0;
+            for (Term term : terms) {
+                runningSum += term.weightedSum;
+                runningUnits += term.units;
+                term.cumulativeGWA = GradeStatistics.weightedAverage(runningSum, runningUnits);
+            }
+            terms = Collections.unmodifiableList(terms);
+        }
+
+        public String getStudentID() { return studentID; }
+        public List<Term> getTerms() { return terms; }
+        public double getTotalUnits() { return totalUnits; }
+        public boolean isEmpty() { return terms.isEmpty(); }
+
+        /**
+         * Cumulative GWA over all terms, or NaN without graded units
+         */
+        public double getGWA() {
+            return GradeStatistics.weightedAverage(grades, units);
+        }
+    }
+
+    /**
+     * One semester of the transcript
+     */
+    public static class Term {
+        private final String semester;
+        private final List<Entry> entries = new ArrayList<>();
+        private final DoubleList grades = new DoubleList();
+        private final IntList subjectUnits = new IntList(); // tenths of a unit
+        private double units;
+        private double weightedSum;
+        private double cumulativeGWA = Double.NaN;
+
+        Term(String semester) {
+            this.semester = semester;
+        }
+
+        void add(GradeRecord record, double grade, double credit) {
+            entries.add(new Entry(record.getSubjectCode(), record.getSubjectName(), grade, credit));
+            grades.add(grade);
+            subjectUnits.add(GradeStatistics.scaledUnits(credit));
+            units += credit;
+            weightedSum += grade * credit;
+        }
+
+        public String getSemester() { return semester; }
+        public List<Entry> getEntries() { return Collections.unmodifiableList(entries); }
+        public double getUnits() { return units; }
+
+        /**
+         * Display label such as "FIRST SEMESTER, 2024-2025"
+         */
+        public String getLabel() {
+            return semester.replaceFirst("\\s+(\\d{4}(-\\d{4})?)$", ", $1");
+        }
+
+        public double getGWA() {
+            return GradeStatistics.weightedAverage(grades, subjectUnits);
+        }
+
+        /**
+         * GWA over this and all earlier terms
+         */
+        public double getCumulativeGWA() {
+            return cumulativeGWA;
+        }
+    }
+
+    /**
+     * A completed subject with its final grade and units
+     */
+    public static class Entry {
+        private final String subjectCode;
+        private final String subjectName;
+        private final double grade;
+        private final double units;
+
+        Entry(String subjectCode, String subjectName, double grade, double units) {
+            this.subjectCode = subjectCode;
+            this.subjectName = subjectName;
+            this.grade = grade;
+            this.units = units;
+        }
+
+        public String getSubjectCode() { return subjectCode; }
+        public String getSubjectName() { return subjectName; }
+        public double getGrade() { return grade; }
+        public double getUnits() { return units; }
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transcript of Records table backed by a TranscriptService.Transcript
+ * Features:
+ * - Per term: a header row, one row per completed subject, then a term GWA row
+ * - Rows reference the transcript's Term and Entry objects instead of copied cells
+ */
+public class TranscriptTableModel extends ListTableModel<Object> {
+    private static final String[] COLUMNS = {"Course Number", "Descriptive Title", "Grade", "Units"};
+
+    public TranscriptTableModel(TranscriptService.Transcript transcript) {
+        super(COLUMNS);
+        setTranscript(transcript);
+    }
+
+    public void setTranscript(TranscriptService.Transcript transcript) {
+        List<Object> rows = new ArrayList<>();
+        for (TranscriptService.Term term : transcript.getTerms()) {
+            rows.add(term);
+            rows.addAll(term.getEntries());
+            rows.add(new TermTotal(term));
+        }
+        setItems(rows);
+    }
+
+    @Override
+    protected Object getColumnValue(Object item, int column) {
+        if (item instanceof TranscriptService.Entry) {
+            TranscriptService.Entry entry = (TranscriptService.Entry) item;
+            switch (column) {
+                case 0: return entry.getSubjectCode();
+                case 1: return entry.getSubjectName();
+                case 2: return entry.getGrade();
+                default: return formatUnits(entry.getUnits());
+            }
+        }
+        if (item instanceof TermTotal) {
+            TranscriptService.Term term = ((TermTotal) item).term;
+            switch (column) {
+                case 1: return String.format("TERM GWA (CUMULATIVE %.2f)", term.getCumulativeGWA());
+                case 2: return String.format("%.2f", term.getGWA());
+                case 3: return formatUnits(term.getUnits());
+                default: return "";
+            }
+        }
+        return column == 0 ? ((TranscriptService.Term) item).getLabel() : "";
+    }
+
+    @Override
+    protected boolean isSameItem(Object a, Object b) {
+        if (a instanceof TranscriptService.Entry && b instanceof TranscriptService.Entry) {
+            return ((TranscriptService.Entry) a).getSubjectCode().equals(((TranscriptService.Entry) b).getSubjectCode());
+        }
+        if (a instanceof TermTotal && b instanceof TermTotal) {
+            return ((TermTotal) a).term.getSemester().equals(((TermTotal) b).term.getSemester());
+        }
+        if (a instanceof TranscriptService.Term && b instanceof TranscriptService.Term) {
+            return ((TranscriptService.Term) a).getSemester().equals(((TranscriptService.Term) b).getSemester());
+        }
+        return false;
+    }
+
+    /**
+     * Units as a whole number when possible, e.g. 3 rather than 3.0
+     */
+    public static Number formatUnits(double units) {
+        return units == Math.rint(units) ? (Number) (int) units : (Number) units;
+    }
+
+    /**
+     * Marker row for a term's GWA summary
+     */
+    private static class TermTotal {
+        private final TranscriptService.Term term;
+
+        TermTotal(TranscriptService.Term term) {
+            this.term = term;
+        }
+    }
+}
@@ -1,78 +1,112 @@
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
- * Database for tracking user balances and amount due
- * Format: StudentID,RemainingBalance,AmountDue,LastUpdated
+ * Balance views for each user, derived from the Ledger
+ * Every fee and payment entry updates the student's view as it is posted:
+ * amount charged, amount paid, remaining balance, amount due and per-exam dues.
+ * DueBalance.txt is an export of these views, written only when asked for.
+ * Format: StudentID,AmountDue,RemainingBalance,PaidAmount
  */
 public class UserBalanceDatabase {
     private static final String DATABASE_FILE = "DueBalance.txt";
-    private static Map<String, UserBalance> balances = new HashMap<>();
-    
+    private static final AccountStatement.ExamPeriod[] EXAM_PERIODS = AccountStatement.ExamPeriod.values();
+    private static final Map<String, UserBalance> balances = new ConcurrentHashMap<>();
+
     static {
-        loadBalances();
+        AccountStatementManager.getAllStatements(); // statements post their fees and payments while loading
+        Ledger.subscribe(new Ledger.LedgerListener() {
+            @Override
+            public void posted(Ledger.Entry entry) {
+                apply(entry);
+            }
+
+            @Override
+            public void cleared() {
+                balances.clear();
+            }
+        });
     }
-    
+
     /**
-     * User balance record
+     * User balance record, kept current by ledger postings
      */
     public static class UserBalance {
-        private String studentID;
-        private double remainingBalance;
-        private double amountDue;
-        private LocalDateTime lastUpdated;
-        
-        public UserBalance(String studentID, double remainingBalance, double amountDue) {
+        private final String studentID;
+        private volatile double charged;
+        private volatile double paidAmount;
+        private volatile double remainingBalance;
+        private volatile double amountDue;
+        private final double[] examDues = new double[EXAM_PERIODS.length];
+        private volatile LocalDateTime lastUpdated;
+
+        UserBalance(String studentID) {
             this.studentID = studentID;
-            this.remainingBalance = remainingBalance;
-            this.amountDue = amountDue;
             this.lastUpdated = LocalDateTime.now();
         }
-        
-        // Getters and setters
+
+        // Getters
         public String getStudentID() { return studentID; }
+        public double getTotalCharged() { return charged; }
         public double getRemainingBalance() { return remainingBalance; }
         public double getAmountDue() { return amountDue; }
+        public double getPaidAmount() { return paidAmount; }
         public LocalDateTime getLastUpdated() { return lastUpdated; }
-        
-        public void setRemainingBalance(double balance) { 
-            this.remainingBalance = balance; 
-            this.lastUpdated = LocalDateTime.now();
+
+        /**
+         * Amount still needed before an exam period - O(1)
+         */
+        public synchronized double getExamDue(AccountStatement.ExamPeriod period) {
+            return examDues[period.ordinal()];
         }
-        
-        public void setAmountDue(double amount) { 
-            this.amountDue = amount; 
-            this.lastUpdated = LocalDateTime.now();
+
+        /**
+         * Apply a change in fees charged or payments received - O(1)
+         */
+        synchronized void update(double chargedChange, double paidChange) {
+            charged += chargedChange;
+            paidAmount += paidChange;
+            remainingBalance = Math.max(0, charged - paidAmount);
+
+            // Amount due is what the next exam still needs
+            double due = 0;
+            for (AccountStatement.ExamPeriod period : EXAM_PERIODS) {
+                double examDue = Math.max(0, charged * period.getShare() - paidAmount);
+                examDues[period.ordinal()] = examDue;
+                if (due == 0) {
+                    due = examDue;
+                }
+            }
+            amountDue = due;
+            lastUpdated = LocalDateTime.now();
         }
-        
-        public void deductPayment(double paymentAmount) {
-            // Deduct from both remaining balance and amount due
-            this.remainingBalance = Math.max(0, this.remainingBalance - paymentAmount);
-            this.amountDue = Math.max(0, this.amountDue - paymentAmount);
-            this.lastUpdated = LocalDateTime.now();
+    }
+
+    /**
+     * Ledger listener: fee entries change the amount charged, payment entries the amount paid
+     */
+    private static void apply(Ledger.Entry entry) {
+        double change = entry.getReceivableChange();
+        if (change == 0) {
+            return;
+        }
+        UserBalance balance = balances.computeIfAbsent(entry.getStudentID(), UserBalance::new);
+        if (entry.getKind() == Ledger.Kind.FEE) {
+            balance.update(change, 0);
+        } else {
+            balance.update(0, -change); // payments credit the receivable
         }
     }
-    
+
     /**
-     * Initialize a new user with default values
-     * All accounts start with:
-     * - P 6,830 due amount (prelim payment still needed)
-     * - P 23,813 remaining balance (after P 21,177 enrollment payment)
-     * - P 21,177 already paid (enrollment payment)
+     * Make sure a user has a balance view; users without postings owe nothing
      */
     public static void initializeUser(String studentID) {
-        if (!balances.containsKey(studentID)) {
-            // User has paid P 21,177 (enrollment) and owes P 6,830 (prelim)
-            // Remaining balance after enrollment payment: P 23,813
-            UserBalance balance = new UserBalance(studentID, 23813.0, 6830.0);
-            balances.put(studentID, balance);
-            saveBalances();
-            System.out.println("Initialized account " + studentID + ": P 6,830 due, P 23,813 balance, P 21,177 already paid (enrollment)");
-        }
+        balances.computeIfAbsent(studentID, UserBalance::new);
     }
-    
+
     /**
      * Get user balance record
      */
@@ -80,127 +114,101 @@ public class UserBalanceDatabase {
         initializeUser(studentID); // Ensure user exists
         return balances.get(studentID);
     }
-    
+
     /**
-     * Update user balance after payment
+     * Record a payment through the student's statement, which posts it to the ledger
+     * @deprecated use AccountStatementManager.processPayment with the payment channel
      */
+    @Deprecated
     public static void processPayment(String studentID, double paymentAmount) {
-        UserBalance balance = getUserBalance(studentID);
-        balance.deductPayment(paymentAmount);
-        saveBalances();
+        AccountStatementManager.processPayment(studentID, paymentAmount, "Balance Adjustment", "Direct payment");
     }
-    
+
     /**
      * Get remaining balance for a user
      */
     public static double getRemainingBalance(String studentID) {
         return getUserBalance(studentID).getRemainingBalance();
     }
-    
+
     /**
      * Get amount due for a user
      */
     public static double getAmountDue(String studentID) {
         return getUserBalance(studentID).getAmountDue();
     }
-    
+
+    /**
+     * Get amount due before an exam period for a user
+     */
+    public static double getExamDue(String studentID, AccountStatement.ExamPeriod period) {
+        return getUserBalance(studentID).getExamDue(period);
+    }
+
     /**
      * Check if user has paid (amount due = 0)
      */
     public static boolean isPaid(String studentID) {
         return getAmountDue(studentID) <= 0;
     }
-    
+
     /**
-     * Load balances from file
+     * Write every balance view to DueBalance.txt, ordered by student ID - O(n log n)
      */
-    private static void loadBalances() {
-        try {
-            File file = new File(DATABASE_FILE);
-            if (!file.exists()) {
-                // Create file with header
-                try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-                    writer.println("=== USER BALANCE DATABASE ===");
-                    writer.println("Format: StudentID,RemainingBalance,AmountDue,LastUpdated");
-                    writer.println();
-                }
-                return;
-            }
-            
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty() || 
-                        line.startsWith("===") || 
-                        line.startsWith("Format:") || 
-                        line.startsWith("Description:") ||
-                        line.startsWith("Note:")) {
-                        continue;
-                    }
-                    
-                    String[] parts = line.split(",");
-                    if (parts.length >= 3) {
-                        try {
-                            String studentID = parts[0].trim();
-                            double amountDue = Double.parseDouble(parts[1].trim());        // 2nd element: AmountDue
-                            double remainingBalance = Double.parseDouble(parts[2].trim()); // 3rd element: RemainingBalance
-                            
-                            UserBalance balance = new UserBalance(studentID, remainingBalance, amountDue);
-                            balances.put(studentID, balance);
-                        } catch (NumberFormatException e) {
-                            // Skip lines that can't be parsed as numbers
-                            System.err.println("Skipping invalid line: " + line);
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading user balances: " + e.getMessage());
-        }
+    public static void exportSnapshot() {
+        exportSnapshot(new File(DATABASE_FILE));
     }
-    
-    /**
-     * Save balances to file
-     */
-    private static void saveBalances() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(DATABASE_FILE))) {
-            writer.println("=== USER BALANCE DATABASE ===");
-            writer.println("Format: StudentID,AmountDue,RemainingBalance,PaidAmount");
-            writer.println("Description: Records all user balances and amount due for each account");
-            writer.println();
-            
-            for (UserBalance balance : balances.values()) {
-                // Calculate paid amount: 21177 (enrollment) + any additional payments
-                double paidAmount = 21177.0; // Default enrollment payment
-                if (balance.getAmountDue() < 6830.0) {
-                    paidAmount += (6830.0 - balance.getAmountDue()); // Add any prelim payments
-                }
-                
-                writer.printf("%s,%.0f,%.0f,%.2f%n", 
-                    balance.getStudentID(),
-                    balance.getAmountDue(),
-                    balance.getRemainingBalance(),
-                    paidAmount
-                );
-            }
+
+    public static void exportSnapshot(File file) {
+        List<String> lines = new ArrayList<>();
+        lines.add("=== USER BALANCE DATABASE ===");
+        lines.add("Format: StudentID,AmountDue,RemainingBalance,PaidAmount");
+        lines.add("Description: Records all user balances and amount due for each account");
+        lines.add("");
+
+        for (UserBalance balance : new TreeMap<>(balances).values()) {
+            lines.add(String.format("%s,%.0f,%.0f,%.2f",
+                balance.getStudentID(),
+                balance.getAmountDue(),
+                balance.getRemainingBalance(),
+                balance.getPaidAmount()
+            ));
+        }
+        try {
+            FileIOManager.writeAllLines(file, lines);
         } catch (IOException e) {
             System.err.println("Error saving user balances: " + e.getMessage());
         }
     }
-    
+
     /**
      * Get all user balances (for admin purposes)
      */
     public static Map<String, UserBalance> getAllBalances() {
         return new HashMap<>(balances);
     }
-    
+
+    /**
+     * Rebuild every balance view from the ledger
+     */
+    public static void reload() {
+        synchronized (Ledger.class) {
+            balances.clear();
+            Ledger.replayTo(UserBalanceDatabase::apply);
+        }
+    }
+
     /**
-     * Reset user balance to default values
+     * Rebuild one user's balance view from the ledger
      */
     public static void resetUserBalance(String studentID) {
-        UserBalance balance = new UserBalance(studentID, 23813.0, 6830.0);
-        balances.put(studentID, balance);
-        saveBalances();
+        synchronized (Ledger.class) {
+            balances.put(studentID, new UserBalance(studentID));
+            Ledger.replayTo(entry -> {
+                if (entry.getStudentID().equals(studentID)) {
+                    apply(entry);
+                }
+            });
+        }
     }
 }